@@ -1,8 +1,21 @@
 package com.reliaquest.api.config;
 
+import com.reliaquest.api.jfr.JfrCacheResolver;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeJsonModule;
+import com.reliaquest.api.util.IdempotencyCache;
+import com.reliaquest.api.util.UpstreamMetricsInterceptor;
+import com.reliaquest.api.util.UpstreamRecordingInterceptor;
+import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheResolver;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
@@ -10,7 +23,39 @@ import org.springframework.web.client.RestTemplate;
 public class ApiConfiguration {
 
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(
+            UpstreamMetricsInterceptor upstreamMetricsInterceptor,
+            ObjectProvider<UpstreamRecordingInterceptor> upstreamRecordingInterceptor,
+            ObjectProvider<EmployeeJsonModule> employeeJsonModule) {
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add(upstreamMetricsInterceptor);
+        upstreamRecordingInterceptor.ifAvailable(restTemplate.getInterceptors()::add);
+        employeeJsonModule.ifAvailable(module -> restTemplate.getMessageConverters().stream()
+                .filter(MappingJackson2HttpMessageConverter.class::isInstance)
+                .forEach(converter -> ((MappingJackson2HttpMessageConverter) converter)
+                        .getObjectMapper()
+                        .registerModule(module)));
+        return restTemplate;
     }
-}
\ No newline at end of file
+
+    /**
+     * Registered with both the RestTemplate above and, being a Jackson module bean, Spring Boot's ObjectMapper.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "employee.json.hand-written-codec", havingValue = "true")
+    public EmployeeJsonModule employeeJsonModule() {
+        return new EmployeeJsonModule();
+    }
+
+    @Bean
+    public CacheResolver employeeCacheResolver(CacheManager cacheManager) {
+        return new JfrCacheResolver(cacheManager);
+    }
+
+    @Bean
+    public IdempotencyCache<Employee> idempotentCreates(
+            @Value("${employee.idempotency.max-keys:10000}") int maxKeys,
+            @Value("${employee.idempotency.ttl:24h}") Duration ttl) {
+        return new IdempotencyCache<>(maxKeys, ttl);
+    }
+}
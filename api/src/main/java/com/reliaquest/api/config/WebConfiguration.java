@@ -0,0 +1,35 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.web.RequestSummaryInterceptor;
+import com.reliaquest.api.web.UpstreamAdmissionInterceptor;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfiguration implements WebMvcConfigurer {
+
+    @Value("${employee.admission.max-concurrent:4}")
+    private int maxConcurrentUpstreamRequests;
+
+    @Value("${employee.admission.retry-after:30s}")
+    private Duration retryAfter;
+
+    @Value("${employee.logging.max-request-summaries-per-second:10}")
+    private int maxRequestSummariesPerSecond;
+
+    @Bean
+    public UpstreamAdmissionInterceptor upstreamAdmissionInterceptor() {
+        return new UpstreamAdmissionInterceptor(maxConcurrentUpstreamRequests, retryAfter);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestSummaryInterceptor(maxRequestSummariesPerSecond))
+                .addPathPatterns("/api/v1/employee/**");
+        registry.addInterceptor(upstreamAdmissionInterceptor()).addPathPatterns("/api/v1/employee/**");
+    }
+}
@@ -1,12 +1,22 @@
 package com.reliaquest.api.controller;
 
+import com.reliaquest.api.model.BulkResult;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.QueuedCreate;
 import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.helper.EmployeeCreateQueue;
+import com.reliaquest.api.util.IdempotencyCache;
+import com.reliaquest.api.web.UpstreamDependent;
+import jakarta.validation.Valid;
+import java.io.IOException;
+import java.net.URI;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -16,6 +26,8 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 @RestController
 @RequestMapping("/api/v1/employee")
@@ -24,12 +36,13 @@ import org.springframework.web.bind.annotation.RestController;
 public class EmployeeController implements IEmployeeController<Employee, CreateEmployeeInput> {
 
     private final EmployeeService employeeService;
+    private final ObjectProvider<EmployeeCreateQueue> employeeCreateQueue;
 
     @Override
     public ResponseEntity<List<Employee>> getAllEmployees() {
         try {
             List<Employee> employees = employeeService.getAllEmployees();
-            log.info("Retrieved {} employees successfully", employees.size());
+            log.debug("Retrieved {} employees", employees.size());
             return ResponseEntity.ok(employees);
         } catch (Exception e) {
             log.error("Error getting all employees: {}", e.getMessage());
@@ -51,6 +64,7 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
     }
 
     @Override
+    @UpstreamDependent
     public ResponseEntity<Employee> getEmployeeById(@PathVariable String id) {
         try {
             Optional<Employee> employee = employeeService.getEmployeeById(id);
@@ -63,10 +77,11 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
 
     @Override
     @GetMapping("/highestSalary")
+    @UpstreamDependent
     public ResponseEntity<Integer> getHighestSalaryOfEmployees() {
         try {
             Integer highestSalary = employeeService.getHighestSalaryOfEmployees();
-            log.info("Highest salary calculated: {}", highestSalary);
+            log.debug("Highest salary calculated: {}", highestSalary);
             return ResponseEntity.ok(highestSalary);
         } catch (Exception e) {
             log.error("Error getting highest salary: {}", e.getMessage());
@@ -76,6 +91,7 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
 
     @Override
     @GetMapping("/topTenHighestEarningEmployeeNames")
+    @UpstreamDependent
     public ResponseEntity<List<String>> getTopTenHighestEarningEmployeeNames() {
         try {
             List<String> topTenNames = employeeService.getTopTenHighestEarningEmployeeNames();
@@ -86,13 +102,22 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
         }
     }
 
+    /**
+     * Creates an employee. With an {@value IdempotencyCache#HEADER} header, a resubmission with the same key is
+     * answered with the employee created the first time, and a different input under a used key gets 422.
+     */
     @Override
     @PostMapping
+    @UpstreamDependent
     public ResponseEntity<Employee> createEmployee(@RequestBody CreateEmployeeInput employeeInput) {
         try {
-            Employee createdEmployee = employeeService.createEmployee(employeeInput);
-            log.info("Employee created successfully: {}", createdEmployee.getName());
+            Employee createdEmployee = employeeService.createEmployee(employeeInput, idempotencyKey());
+            log.debug("Employee created: {}", createdEmployee.getName());
             return ResponseEntity.status(HttpStatus.CREATED).body(createdEmployee);
+        } catch (IdempotencyCache.IdempotencyKeyReusedException e) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             log.error("Error creating employee: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -101,10 +126,11 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
 
     @Override
     @DeleteMapping("/{id}")
+    @UpstreamDependent
     public ResponseEntity<String> deleteEmployeeById(@PathVariable String id) {
         try {
             String deletedEmployeeName = employeeService.deleteEmployeeById(id);
-            log.info("Employee : {} deleted successfully from the database", deletedEmployeeName);
+            log.debug("Employee deleted: {}", deletedEmployeeName);
             return ResponseEntity.ok(deletedEmployeeName);
         } catch (RuntimeException e) {
             if (e.getMessage().contains("not found")) {
@@ -118,4 +144,88 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Creates up to {@value com.reliaquest.api.service.impl.EmployeeServiceImpl#MAX_BATCH} employees with one upstream
+     * request; the answer has each input's outcome at its position. With an {@value IdempotencyCache#HEADER} header, a
+     * resubmission with the same key is answered with the first batch's results, and a different batch gets 422.
+     */
+    @PostMapping("/bulk")
+    @UpstreamDependent
+    public ResponseEntity<List<BulkResult<Employee>>> createEmployees(
+            @RequestBody List<CreateEmployeeInput> employeeInputs) {
+        try {
+            List<BulkResult<Employee>> results = employeeService.createEmployees(employeeInputs, idempotencyKey());
+            log.debug("Bulk created {} employees", results.stream().filter(result -> result.error() == null).count());
+            return ResponseEntity.ok(results);
+        } catch (IdempotencyCache.IdempotencyKeyReusedException e) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error bulk creating employees: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Deletes up to {@value com.reliaquest.api.service.impl.EmployeeServiceImpl#MAX_BATCH} employees by ID; the answer
+     * has, at each ID's position, the deleted employee's name or why it was not deleted.
+     */
+    @DeleteMapping("/bulk")
+    @UpstreamDependent
+    public ResponseEntity<List<BulkResult<String>>> deleteEmployeesById(@RequestBody List<String> ids) {
+        try {
+            List<BulkResult<String>> results = employeeService.deleteEmployeesById(ids);
+            log.debug("Bulk deleted {} employees", results.stream().filter(result -> result.error() == null).count());
+            return ResponseEntity.ok(results);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error bulk deleting employees: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Queues a create instead of waiting for the employee server: answers 202 with a tracking ID as soon as the create
+     * is journaled locally, with its status at the {@code Location}. Not found unless
+     * {@code employee.create-queue.enabled} is set.
+     */
+    @PostMapping("/async")
+    public ResponseEntity<QueuedCreate> createEmployeeAsync(@Valid @RequestBody CreateEmployeeInput employeeInput) {
+        EmployeeCreateQueue queue = employeeCreateQueue.getIfAvailable();
+        if (queue == null) {
+            return ResponseEntity.notFound().build();
+        }
+        try {
+            QueuedCreate queued = queue.enqueue(employeeInput);
+            log.debug("Employee create queued: {}", queued.trackingId());
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/v1/employee/async/" + queued.trackingId()))
+                    .body(queued);
+        } catch (IOException e) {
+            log.error("Error queueing employee create: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/async/{trackingId}")
+    public ResponseEntity<QueuedCreate> getQueuedCreate(@PathVariable UUID trackingId) {
+        EmployeeCreateQueue queue = employeeCreateQueue.getIfAvailable();
+        if (queue == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return queue.status(trackingId).map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * The current request's {@value IdempotencyCache#HEADER}; read here because {@link IEmployeeController} fixes the
+     * signature of {@link #createEmployee}.
+     */
+    private static String idempotencyKey() {
+        return RequestContextHolder.currentRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getRequest().getHeader(IdempotencyCache.HEADER)
+                : null;
+    }
+}
@@ -0,0 +1,20 @@
+package com.reliaquest.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(CacheLoadEvent.NAME)
+@Label("Roster Load")
+@Description("Load of the employee roster from the employee server after a cache miss")
+@Category({"Employee API", "Cache"})
+@StackTrace(false)
+public class CacheLoadEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "com.reliaquest.api.CacheLoad";
+
+    @Label("Employees")
+    public int size;
+}
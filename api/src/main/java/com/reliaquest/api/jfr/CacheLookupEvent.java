@@ -0,0 +1,26 @@
+package com.reliaquest.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(CacheLookupEvent.NAME)
+@Label("Cache Lookup")
+@Description("Lookup in an application cache such as the employee roster")
+@Category({"Employee API", "Cache"})
+@StackTrace(false)
+public class CacheLookupEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "com.reliaquest.api.CacheLookup";
+
+    @Label("Cache")
+    public String cacheName;
+
+    @Label("Key")
+    public String key;
+
+    @Label("Hit")
+    public boolean hit;
+}
@@ -0,0 +1,38 @@
+package com.reliaquest.api.jfr;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.CacheOperationInvocationContext;
+import org.springframework.cache.interceptor.SimpleCacheResolver;
+
+/**
+ * Resolves caches from the {@link CacheManager} wrapped in {@link JfrRecordingCache}. Each operation's caches are
+ * resolved and wrapped once, keyed by their names, so a lookup allocates nothing here.
+ */
+public class JfrCacheResolver extends SimpleCacheResolver {
+
+    private final Map<Collection<String>, List<Cache>> resolved = new ConcurrentHashMap<>();
+
+    public JfrCacheResolver(CacheManager cacheManager) {
+        super(cacheManager);
+    }
+
+    @Override
+    public Collection<? extends Cache> resolveCaches(CacheOperationInvocationContext<?> context) {
+        Collection<String> cacheNames = getCacheNames(context);
+        if (cacheNames == null) {
+            return List.of();
+        }
+        List<Cache> caches = resolved.get(cacheNames);
+        if (caches == null) {
+            caches = resolved.computeIfAbsent(cacheNames, names -> super.resolveCaches(context).stream()
+                    .map(cache -> (Cache) new JfrRecordingCache(cache))
+                    .toList());
+        }
+        return caches;
+    }
+}
@@ -0,0 +1,60 @@
+package com.reliaquest.api.jfr;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Summarises the employee API's custom events in a Flight Recorder dump: count and p50/p99/max duration per event
+ * type. Usage: {@code java -cp api.jar com.reliaquest.api.jfr.JfrEventSummary recording.jfr}.
+ */
+public final class JfrEventSummary {
+
+    private static final String EVENT_PREFIX = "com.reliaquest.api.";
+
+    private JfrEventSummary() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: JfrEventSummary <recording.jfr>");
+            System.exit(2);
+        }
+        summarise(Path.of(args[0])).forEach((name, stats) -> System.out.println(name + " " + stats));
+    }
+
+    public static Map<String, Stats> summarise(Path recording) throws IOException {
+        Map<String, List<Duration>> durationsByEvent = new TreeMap<>();
+        for (RecordedEvent event : RecordingFile.readAllEvents(recording)) {
+            String name = event.getEventType().getName();
+            if (name.startsWith(EVENT_PREFIX)) {
+                durationsByEvent.computeIfAbsent(name, ignored -> new ArrayList<>()).add(event.getDuration());
+            }
+        }
+        Map<String, Stats> summary = new TreeMap<>();
+        durationsByEvent.forEach((name, durations) -> summary.put(name, Stats.of(durations)));
+        return summary;
+    }
+
+    public record Stats(int count, Duration p50, Duration p99, Duration max) {
+
+        static Stats of(List<Duration> durations) {
+            List<Duration> sorted = durations.stream().sorted().toList();
+            return new Stats(
+                    sorted.size(),
+                    percentile(sorted, 0.50),
+                    percentile(sorted, 0.99),
+                    sorted.get(sorted.size() - 1));
+        }
+
+        private static Duration percentile(List<Duration> sorted, double percentile) {
+            int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+            return sorted.get(Math.max(index, 0));
+        }
+    }
+}
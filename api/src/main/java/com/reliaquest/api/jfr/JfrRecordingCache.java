@@ -0,0 +1,108 @@
+package com.reliaquest.api.jfr;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+
+/**
+ * Decorates a Spring {@link Cache} so that every lookup emits a {@link CacheLookupEvent}. Hits never reach the cached
+ * method, so this is the only place they can be observed.
+ */
+@RequiredArgsConstructor
+public class JfrRecordingCache implements Cache {
+
+    private final Cache delegate;
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        CacheLookupEvent event = new CacheLookupEvent();
+        event.begin();
+        ValueWrapper value = delegate.get(key);
+        commit(event, key, value != null);
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        CacheLookupEvent event = new CacheLookupEvent();
+        event.begin();
+        T value = delegate.get(key, type);
+        commit(event, key, value != null);
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        CacheLookupEvent event = new CacheLookupEvent();
+        event.begin();
+        boolean[] loaded = new boolean[1];
+        T value = delegate.get(key, () -> {
+            loaded[0] = true;
+            return valueLoader.call();
+        });
+        commit(event, key, !loaded[0]);
+        return value;
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        return delegate.retrieve(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return delegate.retrieve(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+
+    private void commit(CacheLookupEvent event, Object key, boolean hit) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.cacheName = delegate.getName();
+            event.key = String.valueOf(key);
+            event.hit = hit;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.reliaquest.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name(RetryWaitEvent.NAME)
+@Label("Retry Wait")
+@Description("Resilience4j retry scheduled against the employee server")
+@Category({"Employee API", "Upstream"})
+@StackTrace(false)
+public class RetryWaitEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "com.reliaquest.api.RetryWait";
+
+    @Label("Retry")
+    public String retryName;
+
+    @Label("Attempt")
+    public int attempt;
+
+    @Label("Wait")
+    @Timespan(Timespan.MILLISECONDS)
+    public long waitMillis;
+
+    @Label("Reason")
+    public String reason;
+}
@@ -0,0 +1,37 @@
+package com.reliaquest.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(UpstreamCallEvent.NAME)
+@Label("Upstream Call")
+@Description("HTTP call made to the employee server")
+@Category({"Employee API", "Upstream"})
+@StackTrace(false)
+public class UpstreamCallEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "com.reliaquest.api.UpstreamCall";
+
+    @Label("Method")
+    public String method;
+
+    @Label("URI Template")
+    public String uriTemplate;
+
+    @Label("Status")
+    @Description("HTTP status code, or 0 if no response was received")
+    public int status;
+
+    @Label("Request Bytes")
+    @DataAmount
+    public long requestBytes;
+
+    @Label("Response Bytes")
+    @Description("Response Content-Length, or -1 if the server did not send one")
+    @DataAmount
+    public long responseBytes;
+}
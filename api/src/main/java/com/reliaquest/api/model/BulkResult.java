@@ -0,0 +1,18 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * The outcome of one item of a bulk operation, at that item's position in the answer: its result, or why it failed.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkResult<T>(T data, String error) {
+
+    public static <T> BulkResult<T> of(T data) {
+        return new BulkResult<>(data, null);
+    }
+
+    public static <T> BulkResult<T> error(String error) {
+        return new BulkResult<>(null, error);
+    }
+}
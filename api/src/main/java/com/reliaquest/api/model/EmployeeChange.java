@@ -0,0 +1,12 @@
+package com.reliaquest.api.model;
+
+/**
+ * One create or delete on the employee server, as carried by its change feed and event stream.
+ */
+public record EmployeeChange(long version, Type type, Employee employee) {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
@@ -0,0 +1,74 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Reads an {@link Employee} by switching on the property name, avoiding reflective bean binding on the hot path of
+ * every employee server response. Unknown properties are skipped.
+ */
+public class EmployeeJsonDeserializer extends StdDeserializer<Employee> {
+
+    public EmployeeJsonDeserializer() {
+        super(Employee.class);
+    }
+
+    @Override
+    public Employee deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            return (Employee) context.handleUnexpectedToken(Employee.class, parser);
+        }
+
+        Employee employee = new Employee();
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String property = parser.currentName();
+            parser.nextToken();
+            switch (property) {
+                case "id" -> employee.setId(readUuid(parser, context));
+                case "employee_name" -> employee.setName(readString(parser, context));
+                case "employee_salary" -> employee.setSalary(readInteger(parser, context));
+                case "employee_age" -> employee.setAge(readInteger(parser, context));
+                case "employee_title" -> employee.setTitle(readString(parser, context));
+                case "employee_email" -> employee.setEmail(readString(parser, context));
+                default -> parser.skipChildren();
+            }
+        }
+        return employee;
+    }
+
+    private static String readString(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+        return token == JsonToken.VALUE_NULL ? null : context.readValue(parser, String.class);
+    }
+
+    private static Integer readInteger(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getIntValue();
+        }
+        return token == JsonToken.VALUE_NULL ? null : context.readValue(parser, Integer.class);
+    }
+
+    private static UUID readUuid(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            String text = parser.getText();
+            try {
+                return UUID.fromString(text);
+            } catch (IllegalArgumentException e) {
+                throw context.weirdStringException(text, UUID.class, e.getMessage());
+            }
+        }
+        return token == JsonToken.VALUE_NULL ? null : context.readValue(parser, UUID.class);
+    }
+}
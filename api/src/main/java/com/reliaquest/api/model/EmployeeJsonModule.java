@@ -0,0 +1,16 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * Reads and writes {@link Employee} with {@link EmployeeJsonSerializer} and {@link EmployeeJsonDeserializer} instead
+ * of bean binding through {@link Employee.PrefixNamingStrategy}. The JSON is the same either way.
+ */
+public class EmployeeJsonModule extends SimpleModule {
+
+    public EmployeeJsonModule() {
+        super("EmployeeJsonModule");
+        addSerializer(Employee.class, new EmployeeJsonSerializer());
+        addDeserializer(Employee.class, new EmployeeJsonDeserializer());
+    }
+}
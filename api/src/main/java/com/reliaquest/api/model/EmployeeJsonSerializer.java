@@ -0,0 +1,62 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+
+/**
+ * Writes an {@link Employee} with pre-encoded property names instead of going through reflective bean serialization.
+ * Produces exactly what {@link Employee.PrefixNamingStrategy} would, nulls included.
+ */
+public class EmployeeJsonSerializer extends StdSerializer<Employee> {
+
+    static final SerializedString ID = new SerializedString("id");
+    static final SerializedString NAME = new SerializedString("employee_name");
+    static final SerializedString SALARY = new SerializedString("employee_salary");
+    static final SerializedString AGE = new SerializedString("employee_age");
+    static final SerializedString TITLE = new SerializedString("employee_title");
+    static final SerializedString EMAIL = new SerializedString("employee_email");
+
+    public EmployeeJsonSerializer() {
+        super(Employee.class);
+    }
+
+    @Override
+    public void serialize(Employee employee, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        generator.writeStartObject(employee);
+        generator.writeFieldName(ID);
+        if (employee.getId() != null) {
+            generator.writeString(employee.getId().toString());
+        } else {
+            generator.writeNull();
+        }
+        writeString(generator, NAME, employee.getName());
+        writeInteger(generator, SALARY, employee.getSalary());
+        writeInteger(generator, AGE, employee.getAge());
+        writeString(generator, TITLE, employee.getTitle());
+        writeString(generator, EMAIL, employee.getEmail());
+        generator.writeEndObject();
+    }
+
+    private static void writeString(JsonGenerator generator, SerializedString name, String value) throws IOException {
+        generator.writeFieldName(name);
+        if (value != null) {
+            generator.writeString(value);
+        } else {
+            generator.writeNull();
+        }
+    }
+
+    private static void writeInteger(JsonGenerator generator, SerializedString name, Integer value)
+            throws IOException {
+        generator.writeFieldName(name);
+        if (value != null) {
+            generator.writeNumber(value);
+        } else {
+            generator.writeNull();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A create accepted by the write-behind queue, and what became of it: {@code employee} once the server created it,
+ * {@code error} if it refused.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record QueuedCreate(
+        UUID trackingId,
+        Status status,
+        CreateEmployeeInput input,
+        Employee employee,
+        String error,
+        Instant enqueuedAt,
+        Instant updatedAt) {
+
+    public enum Status {
+        QUEUED,
+        CREATED,
+        FAILED
+    }
+
+    public static QueuedCreate queued(UUID trackingId, CreateEmployeeInput input, Instant now) {
+        return new QueuedCreate(trackingId, Status.QUEUED, input, null, null, now, now);
+    }
+
+    public QueuedCreate created(Employee employee, Instant now) {
+        return new QueuedCreate(trackingId, Status.CREATED, input, employee, null, enqueuedAt, now);
+    }
+
+    public QueuedCreate failed(String error, Instant now) {
+        return new QueuedCreate(trackingId, Status.FAILED, input, null, error, enqueuedAt, now);
+    }
+
+    @JsonIgnore
+    public boolean isFinished() {
+        return status != Status.QUEUED;
+    }
+}
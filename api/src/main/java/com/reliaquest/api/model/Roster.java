@@ -0,0 +1,182 @@
+package com.reliaquest.api.model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Spliterator;
+
+/**
+ * The employee server's roster as of a change feed version, kept current by applying creates and deletes to it by ID.
+ * A change costs one update to an index by ID rather than a copy of the roster; the list itself is an immutable view
+ * rebuilt on the first read after a change, so readers never see a roster half way through one.
+ *
+ * <p>The version is read from the server's {@value #VERSION_HEADER} header, written {@code epoch:version}. The roster
+ * holds every change up to it, so {@link #apply} skips those. Without the header the version is unknown and every
+ * change is applied.
+ */
+public class Roster extends AbstractList<Employee> {
+
+    public static final String VERSION_HEADER = "X-Roster-Version";
+
+    private final String epoch;
+    private volatile long version;
+    private volatile boolean stale;
+
+    // The current view; null after a change until the next read rebuilds it from byId.
+    private volatile List<Employee> snapshot;
+
+    // Guarded by this; in roster order, built on the first change. An employee without an ID is keyed by itself.
+    private LinkedHashMap<Object, Employee> byId;
+
+    /**
+     * @param versionToken the {@value #VERSION_HEADER} the roster was served with, or {@code null} if none
+     */
+    public Roster(List<Employee> employees, String versionToken) {
+        Version parsed = Version.parse(versionToken);
+        this.epoch = parsed == null ? null : parsed.epoch();
+        this.version = parsed == null ? -1 : parsed.version();
+        this.snapshot = Collections.unmodifiableList(new ArrayList<>(employees));
+    }
+
+    /**
+     * @return the epoch of {@link #getVersion}, or {@code null} if unknown
+     */
+    public String getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * @return the version of the last change the roster holds, or -1 if unknown
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Applies a create or delete by ID, so applying one the roster already holds is harmless.
+     *
+     * @return whether the change was newer than the roster and has been applied
+     */
+    public synchronized boolean apply(EmployeeChange change) {
+        if (change.version() <= version) {
+            return false;
+        }
+        if (byId == null) {
+            byId = new LinkedHashMap<>();
+            for (Employee employee : snapshot) {
+                byId.putIfAbsent(key(employee), employee);
+            }
+        }
+        Employee changed = change.employee();
+        byId.remove(key(changed));
+        if (change.type() == EmployeeChange.Type.CREATED) {
+            byId.put(key(changed), changed);
+        }
+        version = change.version();
+        snapshot = null;
+        return true;
+    }
+
+    /**
+     * @return whether the roster fell behind the server's changes while it was being loaded, and must not be cached
+     */
+    public boolean isStale() {
+        return stale;
+    }
+
+    public void markStale() {
+        stale = true;
+    }
+
+    @Override
+    public Employee get(int index) {
+        return current().get(index);
+    }
+
+    @Override
+    public int size() {
+        List<Employee> current = snapshot;
+        if (current != null) {
+            return current.size();
+        }
+        synchronized (this) {
+            return snapshot != null ? snapshot.size() : byId.size();
+        }
+    }
+
+    @Override
+    public Iterator<Employee> iterator() {
+        return current().iterator();
+    }
+
+    @Override
+    public ListIterator<Employee> listIterator(int index) {
+        return current().listIterator(index);
+    }
+
+    @Override
+    public Spliterator<Employee> spliterator() {
+        return current().spliterator();
+    }
+
+    @Override
+    public List<Employee> subList(int fromIndex, int toIndex) {
+        return current().subList(fromIndex, toIndex);
+    }
+
+    @Override
+    public Object[] toArray() {
+        return current().toArray();
+    }
+
+    @Override
+    public <T> T[] toArray(T[] array) {
+        return current().toArray(array);
+    }
+
+    private List<Employee> current() {
+        List<Employee> current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = Collections.unmodifiableList(new ArrayList<>(byId.values()));
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static Object key(Employee employee) {
+        return employee.getId() != null ? employee.getId() : employee;
+    }
+
+    /**
+     * A change feed version, written {@code epoch:version}. Versions of different epochs are not comparable.
+     *
+     * @param epoch {@code null} if the version was written without one
+     */
+    public record Version(String epoch, long version) {
+
+        /**
+         * @return the version written in {@code token}, or {@code null} if it is missing or malformed
+         */
+        public static Version parse(String token) {
+            if (token == null) {
+                return null;
+            }
+            int colon = token.lastIndexOf(':');
+            try {
+                long version = Long.parseLong(token.substring(colon + 1).trim());
+                return version < 0 ? null : new Version(colon < 0 ? null : token.substring(0, colon), version);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.model.BulkResult;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.Employee;
 import java.util.List;
@@ -19,5 +20,21 @@ public interface EmployeeService {
 
     Employee createEmployee(CreateEmployeeInput input);
 
+    /**
+     * Creates {@code input} once per {@code idempotencyKey}: a resubmission with the same key is answered with the
+     * employee created the first time.
+     */
+    Employee createEmployee(CreateEmployeeInput input, String idempotencyKey);
+
     String deleteEmployeeById(String id);
+
+    List<BulkResult<Employee>> createEmployees(List<CreateEmployeeInput> inputs);
+
+    /**
+     * Creates {@code inputs} once per {@code idempotencyKey}: a resubmission of the batch with the same key is answered
+     * with the results of the first.
+     */
+    List<BulkResult<Employee>> createEmployees(List<CreateEmployeeInput> inputs, String idempotencyKey);
+
+    List<BulkResult<String>> deleteEmployeesById(List<String> ids);
 }
\ No newline at end of file
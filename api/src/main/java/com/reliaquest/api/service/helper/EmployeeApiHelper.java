@@ -1,8 +1,11 @@
 package com.reliaquest.api.service.helper;
 
 import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.BulkResult;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.Roster;
+import com.reliaquest.api.util.IdempotencyCache;
 import io.github.resilience4j.retry.annotation.Retry;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +30,9 @@ public class EmployeeApiHelper {
     
     private final RestTemplate restTemplate;
 
+    /**
+     * The whole roster, as a {@link Roster} at the {@value Roster#VERSION_HEADER} the server answered with.
+     */
     @Retry(name = "employeeServerRetry")
     public ApiResponse<List<Employee>> getAllEmployeesApiCall() {
         ResponseEntity<ApiResponse<List<Employee>>> response = restTemplate.exchange(
@@ -34,8 +40,13 @@ public class EmployeeApiHelper {
                 HttpMethod.GET,
                 null,
                 new ParameterizedTypeReference<ApiResponse<List<Employee>>>() {});
-        
-        return response.getBody();
+
+        ApiResponse<List<Employee>> body = response.getBody();
+        if (body == null || body.data() == null) {
+            return body;
+        }
+        Roster roster = new Roster(body.data(), response.getHeaders().getFirst(Roster.VERSION_HEADER));
+        return new ApiResponse<>(roster, body.status(), body.error());
     }
 
     @Retry(name = "employeeServerRetry")
@@ -50,9 +61,36 @@ public class EmployeeApiHelper {
     }
 
     @Retry(name = "employeeServerRetry")
-    public ApiResponse<Employee> createEmployeeApiCall(CreateEmployeeInput input) {
+    public ApiResponse<Integer> getHighestSalaryApiCall() {
+        ResponseEntity<ApiResponse<Integer>> response = restTemplate.exchange(
+                baseUrl + "/aggregates/max-salary",
+                HttpMethod.GET,
+                null,
+                new ParameterizedTypeReference<ApiResponse<Integer>>() {});
+
+        return response.getBody();
+    }
+
+    @Retry(name = "employeeServerRetry")
+    public ApiResponse<List<Employee>> getTopEarnersApiCall(int count) {
+        ResponseEntity<ApiResponse<List<Employee>>> response = restTemplate.exchange(
+                baseUrl + "/aggregates/top-earners?n=" + count,
+                HttpMethod.GET,
+                null,
+                new ParameterizedTypeReference<ApiResponse<List<Employee>>>() {});
+
+        return response.getBody();
+    }
+
+    /**
+     * Creates {@code input}, sending {@code idempotencyKey} so that the server answers a retry of a create it already
+     * made with that employee instead of creating a duplicate.
+     */
+    @Retry(name = "employeeServerRetry")
+    public ApiResponse<Employee> createEmployeeApiCall(CreateEmployeeInput input, String idempotencyKey) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set(IdempotencyCache.HEADER, idempotencyKey);
         
         var requestBody = new CreateEmployeeRequest(
                 input.getName(), input.getSalary(), input.getAge(), input.getTitle(), input.getEmail());
@@ -82,6 +120,66 @@ public class EmployeeApiHelper {
         return response.getBody();
     }
 
+    /**
+     * Deletes the employee with {@code id}. The server answers with the deleted employee, or 404 if there is none.
+     */
+    @Retry(name = "employeeServerRetry")
+    public ApiResponse<Employee> deleteEmployeeByIdApiCall(String id) {
+        ResponseEntity<ApiResponse<Employee>> response = restTemplate.exchange(
+                baseUrl + "/" + id,
+                HttpMethod.DELETE,
+                null,
+                new ParameterizedTypeReference<ApiResponse<Employee>>() {});
+
+        return response.getBody();
+    }
+
+    /**
+     * Creates all of {@code inputs} with one request to the server's bulk endpoint, sending {@code idempotencyKey} so
+     * that the server answers a retry of a batch it already created with that batch's results.
+     */
+    @Retry(name = "employeeServerRetry")
+    public ApiResponse<List<BulkResult<Employee>>> createEmployeesApiCall(
+            List<CreateEmployeeInput> inputs, String idempotencyKey) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set(IdempotencyCache.HEADER, idempotencyKey);
+
+        List<CreateEmployeeRequest> requestBody = inputs.stream()
+                .map(input -> new CreateEmployeeRequest(
+                        input.getName(), input.getSalary(), input.getAge(), input.getTitle(), input.getEmail()))
+                .toList();
+
+        HttpEntity<List<CreateEmployeeRequest>> entity = new HttpEntity<>(requestBody, headers);
+
+        ResponseEntity<ApiResponse<List<BulkResult<Employee>>>> response = restTemplate.exchange(
+                baseUrl + "/bulk",
+                HttpMethod.POST,
+                entity,
+                new ParameterizedTypeReference<ApiResponse<List<BulkResult<Employee>>>>() {});
+
+        return response.getBody();
+    }
+
+    /**
+     * Deletes by ID all of {@code ids} with one request to the server's bulk endpoint. The server answers with each
+     * deleted employee, or why none was deleted, at its ID's position.
+     */
+    @Retry(name = "employeeServerRetry")
+    public ApiResponse<List<BulkResult<Employee>>> deleteEmployeesByIdApiCall(List<String> ids) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<List<String>> entity = new HttpEntity<>(ids, headers);
+
+        ResponseEntity<ApiResponse<List<BulkResult<Employee>>>> response = restTemplate.exchange(
+                baseUrl + "/bulk/ids",
+                HttpMethod.DELETE,
+                entity,
+                new ParameterizedTypeReference<ApiResponse<List<BulkResult<Employee>>>>() {});
+
+        return response.getBody();
+    }
+
     private record CreateEmployeeRequest(String name, Integer salary, Integer age, String title, String email) {}
     private record DeleteEmployeeRequest(String name) {}
 }
\ No newline at end of file
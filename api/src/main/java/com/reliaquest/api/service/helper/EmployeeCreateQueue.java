@@ -0,0 +1,318 @@
+package com.reliaquest.api.service.helper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.QueuedCreate;
+import com.reliaquest.api.util.UpstreamQuotaTracker;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * Write-behind employee creation. {@link #enqueue} appends the create to a local journal, fsyncs it and returns a
+ * tracking ID straight away; one background thread then sends queued creates to the employee server in the order they
+ * were accepted, waiting out any upstream backoff that {@link UpstreamQuotaTracker} knows of.
+ *
+ * <p>The journal is JSON Lines, one {@link QueuedCreate} per line, and the last line for a tracking ID is its current
+ * state. On startup it is replayed, so creates still queued when the api stopped are sent after it restarts, and
+ * then rewritten with only the current states; it is rewritten the same way whenever superseded lines outnumber
+ * current ones. The outcomes of the last {@code max-finished} creates are kept for {@link #status}.
+ *
+ * <p>Each create is sent with its tracking ID as {@code Idempotency-Key}, so one sent again after a crash, before its
+ * outcome was journaled, is answered with the employee already created rather than duplicated.
+ *
+ * <p>A create the server rejected (4xx other than 429) fails. Anything else, including 429s that outlast
+ * {@code employeeServerRetry} and unexpected exceptions, leaves it at the head of the queue to be tried again with
+ * exponential backoff.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "employee.create-queue.enabled", havingValue = "true")
+public class EmployeeCreateQueue {
+
+    private static final int COMPACTION_SLACK = 1000;
+
+    private final EmployeeApiHelper employeeApiHelper;
+    private final UpstreamQuotaTracker upstreamQuotaTracker;
+    private final ObjectMapper objectMapper;
+    private final Path journalFile;
+    private final Duration retryDelay;
+    private final Duration maxRetryDelay;
+    private final int maxFinished;
+
+    // Guarded by this. Creates in the order they were accepted, so pending ones are sent in that order.
+    private final Map<UUID, QueuedCreate> creates = new LinkedHashMap<>();
+    private final Deque<UUID> pending = new ArrayDeque<>();
+    private final Deque<UUID> finished = new ArrayDeque<>();
+    private FileChannel journal;
+    private int journalLines;
+
+    private volatile boolean running;
+    private volatile Thread sender;
+
+    public EmployeeCreateQueue(
+            EmployeeApiHelper employeeApiHelper,
+            UpstreamQuotaTracker upstreamQuotaTracker,
+            ObjectMapper objectMapper,
+            @Value("${employee.create-queue.journal:create-queue.jsonl}") Path journalFile,
+            @Value("${employee.create-queue.retry-delay:5s}") Duration retryDelay,
+            @Value("${employee.create-queue.max-retry-delay:5m}") Duration maxRetryDelay,
+            @Value("${employee.create-queue.max-finished:10000}") int maxFinished)
+            throws IOException {
+        this.employeeApiHelper = employeeApiHelper;
+        this.upstreamQuotaTracker = upstreamQuotaTracker;
+        this.objectMapper = objectMapper;
+        this.journalFile = journalFile.toAbsolutePath();
+        this.retryDelay = retryDelay;
+        this.maxRetryDelay = maxRetryDelay;
+        this.maxFinished = maxFinished;
+        Files.createDirectories(this.journalFile.getParent());
+        synchronized (this) {
+            replay();
+            compact();
+        }
+        log.info("Create queue journal {}: {} creates still queued", this.journalFile, pending.size());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        Thread thread = new Thread(this::run, "employee-create-queue");
+        thread.setDaemon(true);
+        sender = thread;
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        Thread thread = sender;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        synchronized (this) {
+            try {
+                journal.close();
+            } catch (IOException e) {
+                log.warn("Failed to close the create queue journal", e);
+            }
+        }
+    }
+
+    /**
+     * Durably queues {@code input} for creation.
+     *
+     * @return the queued create, whose tracking ID answers {@link #status}
+     */
+    public synchronized QueuedCreate enqueue(CreateEmployeeInput input) throws IOException {
+        QueuedCreate queued = QueuedCreate.queued(UUID.randomUUID(), input, Instant.now());
+        append(queued);
+        creates.put(queued.trackingId(), queued);
+        pending.addLast(queued.trackingId());
+        notifyAll();
+        return queued;
+    }
+
+    /**
+     * @return the create's current state, or empty if the ID is unknown or its outcome has been forgotten
+     */
+    public synchronized Optional<QueuedCreate> status(UUID trackingId) {
+        return Optional.ofNullable(creates.get(trackingId));
+    }
+
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    private void run() {
+        Duration delay = retryDelay;
+        while (running) {
+            try {
+                synchronized (this) {
+                    while (pending.isEmpty()) {
+                        wait();
+                    }
+                }
+                awaitUpstreamBudget();
+                if (sendNext()) {
+                    delay = retryDelay;
+                    continue;
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                // The create stays at the head of the journaled queue; the thread must outlive whatever went wrong.
+                log.error("Unexpected failure sending queued creates; retrying in {}", delay, e);
+            }
+            try {
+                Thread.sleep(delay.toMillis());
+            } catch (InterruptedException e) {
+                return;
+            }
+            Duration doubled = delay.multipliedBy(2);
+            delay = doubled.compareTo(maxRetryDelay) > 0 ? maxRetryDelay : doubled;
+        }
+    }
+
+    /**
+     * Sends the oldest queued create to the employee server and records the outcome.
+     *
+     * @return whether the create is finished, or else must be tried again later
+     */
+    boolean sendNext() {
+        QueuedCreate next;
+        synchronized (this) {
+            next = creates.get(pending.peekFirst());
+        }
+        QueuedCreate outcome;
+        try {
+            // The tracking ID as idempotency key makes resending a create that reached the server harmless.
+            ApiResponse<Employee> response =
+                    employeeApiHelper.createEmployeeApiCall(next.input(), next.trackingId().toString());
+            outcome = response != null && response.data() != null
+                    ? next.created(response.data(), Instant.now())
+                    : next.failed("Employee creation failed", Instant.now());
+        } catch (HttpClientErrorException.TooManyRequests e) {
+            log.info("Employee server still throttling; create {} stays queued", next.trackingId());
+            return false;
+        } catch (HttpClientErrorException e) {
+            outcome = next.failed("Employee server rejected the create: " + e.getStatusCode(), Instant.now());
+        } catch (RestClientException e) {
+            log.warn("Create {} failed and stays queued: {}", next.trackingId(), e.getMessage());
+            return false;
+        } catch (RuntimeException e) {
+            log.error("Create {} failed unexpectedly and stays queued", next.trackingId(), e);
+            return false;
+        }
+        finish(outcome);
+        return true;
+    }
+
+    private synchronized void finish(QueuedCreate outcome) {
+        try {
+            append(outcome);
+        } catch (IOException e) {
+            // The create happened; if the api restarts before a later write succeeds it will be sent again.
+            log.error("Failed to journal the outcome of create {}", outcome.trackingId(), e);
+        }
+        creates.put(outcome.trackingId(), outcome);
+        pending.remove(outcome.trackingId());
+        finished.addLast(outcome.trackingId());
+        forgetOldFinished();
+        if (journalLines > 2 * creates.size() + COMPACTION_SLACK) {
+            try {
+                compact();
+            } catch (IOException e) {
+                log.warn("Failed to compact the create queue journal", e);
+            }
+        }
+    }
+
+    private void awaitUpstreamBudget() throws InterruptedException {
+        UpstreamQuotaTracker.Snapshot quota = upstreamQuotaTracker.snapshot();
+        if (quota.throttled() && quota.estimatedBackoffEnd() != null) {
+            long waitMillis = Duration.between(Instant.now(), quota.estimatedBackoffEnd()).toMillis();
+            if (waitMillis > 0) {
+                log.debug("Holding queued creates for {}ms until the upstream backoff ends", waitMillis);
+                Thread.sleep(waitMillis);
+            }
+        }
+    }
+
+    private void append(QueuedCreate create) throws IOException {
+        ByteBuffer line = ByteBuffer.wrap(line(create));
+        while (line.hasRemaining()) {
+            journal.write(line);
+        }
+        journal.force(false);
+        journalLines++;
+    }
+
+    private byte[] line(QueuedCreate create) throws JsonProcessingException {
+        byte[] json = objectMapper.writeValueAsBytes(create);
+        byte[] line = new byte[json.length + 1];
+        System.arraycopy(json, 0, line, 0, json.length);
+        line[json.length] = '\n';
+        return line;
+    }
+
+    private void replay() throws IOException {
+        if (!Files.exists(journalFile)) {
+            return;
+        }
+        List<String> lines = Files.readAllLines(journalFile, StandardCharsets.UTF_8);
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).isBlank()) {
+                continue;
+            }
+            try {
+                QueuedCreate create = objectMapper.readValue(lines.get(i), QueuedCreate.class);
+                creates.put(create.trackingId(), create);
+            } catch (JsonProcessingException e) {
+                // Only the last line can be torn by a crash, and its create was never acknowledged.
+                log.warn("Skipping unreadable line {} of {}: {}", i + 1, journalFile, e.getOriginalMessage());
+            }
+        }
+        creates.values()
+                .forEach(create -> (create.isFinished() ? finished : pending).addLast(create.trackingId()));
+        forgetOldFinished();
+    }
+
+    private void forgetOldFinished() {
+        while (finished.size() > maxFinished) {
+            creates.remove(finished.removeFirst());
+        }
+    }
+
+    /**
+     * Rewrites the journal with one line per known create, atomically.
+     */
+    private void compact() throws IOException {
+        Path temporary = journalFile.resolveSibling(journalFile.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(
+                temporary,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (QueuedCreate create : creates.values()) {
+                ByteBuffer line = ByteBuffer.wrap(line(create));
+                while (line.hasRemaining()) {
+                    channel.write(line);
+                }
+            }
+            channel.force(true);
+        }
+        if (journal != null) {
+            journal.close();
+        }
+        Files.move(temporary, journalFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        journal = FileChannel.open(journalFile, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        journalLines = creates.size();
+    }
+}
@@ -0,0 +1,392 @@
+package com.reliaquest.api.service.helper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.EmployeeChange;
+import com.reliaquest.api.model.Roster;
+import com.reliaquest.api.util.EmployeeCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Follows the employee server's {@code /events} Server-Sent Events stream and applies each create and delete to the
+ * {@link Roster} in the {@code employees} cache, so the cached copy stays current without fetching the roster again.
+ * Each change updates the roster in place by ID. A {@code resync} event, sent on the first connection and whenever the
+ * server can no longer replay what we missed, evicts the cached roster so that the next read reloads it, unless the
+ * roster is already at the version resynced to.
+ *
+ * <p>Every roster load is handed to {@link #attach}. Changes that arrive while there is no roster, as during a load,
+ * are kept (up to {@value #MAX_PENDING_CHANGES}) and applied to the next roster by its {@code X-Roster-Version}, so a
+ * load racing with a change neither loses it nor needs another load.
+ *
+ * <p>The stream is read on one daemon thread started once the application is ready. After a disconnect it reconnects
+ * with exponential backoff, sending the last event ID as {@code Last-Event-ID} so the server replays the missed
+ * changes. The server sends a heartbeat comment on an idle stream, so a watchdog closes a connection that has sent
+ * nothing for {@code employee.events.idle-timeout}; otherwise a half-open connection would leave the cached roster
+ * silently falling behind.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "employee.events.enabled", havingValue = "true")
+public class EmployeeEventSubscriber {
+
+    static final String EMPLOYEES_CACHE = "employees";
+    static final String RESYNC_EVENT = "resync";
+    static final int MAX_PENDING_CHANGES = 10_000;
+
+    private final CacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+    private final EmployeeCacheMetrics employeeCacheMetrics;
+    private final URI eventsUri;
+    private final Duration reconnectDelay;
+    private final Duration maxReconnectDelay;
+    private final Duration idleTimeout;
+    private final HttpClient httpClient;
+
+    private volatile boolean running;
+    private volatile Thread reader;
+    private volatile ScheduledExecutorService watchdog;
+    private volatile InputStream stream;
+    private volatile long lastReceivedNanos;
+    private volatile String lastEventId;
+
+    // Guarded by this: the roster kept current, the changes seen while there is none, and the stream's last version.
+    private Roster tracked;
+    private final ArrayDeque<EmployeeChange> pending = new ArrayDeque<>();
+    private Roster.Version streamPosition;
+
+    // The event being read; only touched by the reader thread.
+    private String eventId;
+    private String eventName;
+    private final StringBuilder eventData = new StringBuilder();
+    private boolean hasData;
+
+    public EmployeeEventSubscriber(
+            CacheManager cacheManager,
+            ObjectMapper objectMapper,
+            EmployeeCacheMetrics employeeCacheMetrics,
+            @Value("${employee.server.url}") String baseUrl,
+            @Value("${employee.events.reconnect-delay:1s}") Duration reconnectDelay,
+            @Value("${employee.events.max-reconnect-delay:30s}") Duration maxReconnectDelay,
+            @Value("${employee.events.idle-timeout:45s}") Duration idleTimeout) {
+        this.cacheManager = cacheManager;
+        this.objectMapper = objectMapper;
+        this.employeeCacheMetrics = employeeCacheMetrics;
+        this.eventsUri = URI.create(baseUrl + "/events");
+        this.reconnectDelay = reconnectDelay;
+        this.maxReconnectDelay = maxReconnectDelay;
+        this.idleTimeout = idleTimeout;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        Thread thread = new Thread(this::run, "employee-events");
+        thread.setDaemon(true);
+        reader = thread;
+        thread.start();
+        ScheduledExecutorService idleCheck = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread checker = new Thread(runnable, "employee-events-watchdog");
+            checker.setDaemon(true);
+            return checker;
+        });
+        long period = Math.max(1, idleTimeout.toMillis() / 3);
+        idleCheck.scheduleWithFixedDelay(this::closeIfIdle, period, period, TimeUnit.MILLISECONDS);
+        watchdog = idleCheck;
+        log.info("Following employee events at {}", eventsUri);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        ScheduledExecutorService idleCheck = watchdog;
+        if (idleCheck != null) {
+            idleCheck.shutdownNow();
+        }
+        Thread thread = reader;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        close(stream);
+    }
+
+    /**
+     * Closes the stream if nothing, not even a heartbeat, has arrived for the idle timeout, so the reader fails and
+     * reconnects.
+     */
+    void closeIfIdle() {
+        InputStream current = stream;
+        long idleNanos = System.nanoTime() - lastReceivedNanos;
+        if (current != null && idleNanos > idleTimeout.toNanos()) {
+            log.warn("Nothing from the employee event stream for {}ms, reconnecting", idleNanos / 1_000_000);
+            close(current);
+        }
+    }
+
+    private static void close(InputStream current) {
+        if (current != null) {
+            try {
+                current.close();
+            } catch (IOException e) {
+                log.debug("Failed to close employee event stream", e);
+            }
+        }
+    }
+
+    /**
+     * @return the ID of the last event applied, or {@code null} before the first
+     */
+    public String getLastEventId() {
+        return lastEventId;
+    }
+
+    private void run() {
+        Duration delay = reconnectDelay;
+        int failures = 0;
+        while (running) {
+            try {
+                if (follow()) {
+                    delay = reconnectDelay;
+                    failures = 0;
+                }
+            } catch (IOException e) {
+                if (running && failures++ == 0) {
+                    log.warn("Employee event stream failed: {}", e.toString());
+                }
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (!running) {
+                return;
+            }
+            log.debug("Reconnecting to employee events in {}ms", delay.toMillis());
+            try {
+                Thread.sleep(delay.toMillis());
+            } catch (InterruptedException e) {
+                return;
+            }
+            Duration doubled = delay.multipliedBy(2);
+            delay = doubled.compareTo(maxReconnectDelay) > 0 ? maxReconnectDelay : doubled;
+        }
+    }
+
+    /**
+     * Reads one connection until it ends.
+     *
+     * @return whether any event arrived, in which case the connection was healthy and backoff starts over
+     */
+    private boolean follow() throws IOException, InterruptedException {
+        // The timeout covers waiting for the response headers; the watchdog covers the stream after them.
+        HttpRequest.Builder request = HttpRequest.newBuilder(eventsUri)
+                .header("Accept", "text/event-stream")
+                .timeout(idleTimeout)
+                .GET();
+        String lastId = lastEventId;
+        if (lastId != null) {
+            request.header("Last-Event-ID", lastId);
+        }
+        HttpResponse<InputStream> response =
+                httpClient.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+        if (response.statusCode() != 200) {
+            response.body().close();
+            throw new IOException("Employee event stream answered " + response.statusCode());
+        }
+        boolean received = false;
+        lastReceivedNanos = System.nanoTime();
+        stream = response.body();
+        try (BufferedReader lines =
+                new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+            String line;
+            while (running && (line = lines.readLine()) != null) {
+                lastReceivedNanos = System.nanoTime();
+                received |= onLine(line);
+            }
+        } finally {
+            stream = null;
+            clearEvent();
+        }
+        return received;
+    }
+
+    /**
+     * Feeds one line of the stream to the event parser.
+     *
+     * @return whether the line completed an event, which has been applied
+     */
+    boolean onLine(String line) {
+        if (line.isEmpty()) {
+            return dispatch();
+        }
+        if (line.startsWith(":")) {
+            return false;
+        }
+        int colon = line.indexOf(':');
+        String field = colon < 0 ? line : line.substring(0, colon);
+        String value = colon < 0 ? "" : line.substring(line.startsWith(" ", colon + 1) ? colon + 2 : colon + 1);
+        switch (field) {
+            case "id" -> eventId = value;
+            case "event" -> eventName = value;
+            case "data" -> {
+                if (hasData) {
+                    eventData.append('\n');
+                }
+                eventData.append(value);
+                hasData = true;
+            }
+            default -> {
+                // retry and unknown fields are ignored
+            }
+        }
+        return false;
+    }
+
+    private boolean dispatch() {
+        if (!hasData) {
+            clearEvent();
+            return false;
+        }
+        apply(eventName == null ? "message" : eventName, eventId, eventData.toString());
+        if (eventId != null) {
+            lastEventId = eventId;
+        }
+        clearEvent();
+        return true;
+    }
+
+    private void clearEvent() {
+        eventId = null;
+        eventName = null;
+        eventData.setLength(0);
+        hasData = false;
+    }
+
+    private synchronized void apply(String name, String id, String data) {
+        switch (name) {
+            case RESYNC_EVENT -> {
+                Roster.Version at = Roster.Version.parse(data);
+                pending.clear();
+                streamPosition = at;
+                if (tracked != null && at != null && holds(tracked, at)) {
+                    log.debug("Cached roster is already at resync version {}", data);
+                } else {
+                    log.info("Employee server asked for a resync at version {}", data);
+                    dropRoster();
+                }
+            }
+            case "created", "deleted" -> {
+                Roster.Version at = Roster.Version.parse(id);
+                if (at != null) {
+                    streamPosition = at;
+                }
+                try {
+                    applyChange(objectMapper.readValue(data, EmployeeChange.class), at);
+                } catch (JsonProcessingException e) {
+                    log.warn("Unreadable employee event, dropping the cached roster: {}", e.getOriginalMessage());
+                    pending.clear();
+                    dropRoster();
+                }
+            }
+            default -> log.debug("Ignoring employee event '{}'", name);
+        }
+    }
+
+    /**
+     * Applies the change to the tracked roster in place. A change that skips past the roster's version means one was
+     * missed, so the roster is dropped. Without a roster, for instance while one is being loaded, the change is kept
+     * for {@link #attach} to apply.
+     */
+    private void applyChange(EmployeeChange change, Roster.Version at) {
+        if (tracked != null) {
+            String epoch = at == null ? null : at.epoch();
+            if (epoch != null && tracked.getEpoch() != null && !epoch.equals(tracked.getEpoch())) {
+                log.info(
+                        "Employee change of epoch {} does not apply to the cached roster of epoch {}",
+                        epoch,
+                        tracked.getEpoch());
+                dropRoster();
+            } else if (tracked.getVersion() >= 0 && change.version() > tracked.getVersion() + 1) {
+                log.info(
+                        "Employee change {} skips past cached roster version {}, dropping it",
+                        change.version(),
+                        tracked.getVersion());
+                dropRoster();
+            } else {
+                if (tracked.apply(change)) {
+                    employeeCacheMetrics.recordUpdate(tracked.size());
+                }
+                return;
+            }
+        }
+        if (pending.size() == MAX_PENDING_CHANGES) {
+            pending.removeFirst();
+        }
+        pending.addLast(change);
+    }
+
+    /**
+     * Keeps {@code roster}, freshly loaded, current from now on. The changes seen since the server read it are applied
+     * first. If they no longer reach back that far, or it is of another epoch than the stream, it is marked stale so
+     * it is not cached and the next read loads it again.
+     */
+    public synchronized void attach(Roster roster) {
+        if (streamPosition != null && roster.getVersion() >= 0) {
+            long coveredFrom = pending.isEmpty() ? streamPosition.version() : pending.getFirst().version() - 1;
+            boolean otherEpoch = streamPosition.epoch() != null
+                    && roster.getEpoch() != null
+                    && !streamPosition.epoch().equals(roster.getEpoch());
+            if (otherEpoch || roster.getVersion() < coveredFrom) {
+                log.debug(
+                        "Loaded roster at {}:{} is behind the employee events", roster.getEpoch(), roster.getVersion());
+                roster.markStale();
+                return;
+            }
+        }
+        for (EmployeeChange change : pending) {
+            roster.apply(change);
+        }
+        pending.clear();
+        tracked = roster;
+    }
+
+    private static boolean holds(Roster roster, Roster.Version version) {
+        return Objects.equals(roster.getEpoch(), version.epoch()) && roster.getVersion() >= version.version();
+    }
+
+    /**
+     * Stops keeping the tracked roster current and evicts the cached one, so the next read loads it again.
+     */
+    private void dropRoster() {
+        if (tracked != null) {
+            tracked.markStale();
+            tracked = null;
+        }
+        Cache cache = cacheManager.getCache(EMPLOYEES_CACHE);
+        if (cache != null) {
+            cache.evict(SimpleKey.EMPTY);
+        }
+    }
+}
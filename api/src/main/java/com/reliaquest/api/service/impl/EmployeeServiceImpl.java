@@ -1,31 +1,69 @@
 package com.reliaquest.api.service.impl;
 
+import com.reliaquest.api.jfr.CacheLoadEvent;
 import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.BulkResult;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.Roster;
 import com.reliaquest.api.service.EmployeeService;
 import com.reliaquest.api.service.helper.EmployeeApiHelper;
+import com.reliaquest.api.service.helper.EmployeeEventSubscriber;
+import com.reliaquest.api.util.EmployeeCacheMetrics;
+import com.reliaquest.api.util.IdempotencyCache;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EmployeeServiceImpl implements EmployeeService {
 
+    private static final int TOP_EARNERS = 10;
+    private static final String EMPLOYEES_CACHE = "employees";
+
+    /**
+     * The most items in one bulk operation, as accepted by the employee server.
+     */
+    public static final int MAX_BATCH = 1000;
+
     private final EmployeeApiHelper employeeApiHelper;
+    private final EmployeeCacheMetrics employeeCacheMetrics;
+    private final IdempotencyCache<Employee> idempotentCreates;
+    private final CacheManager cacheManager;
+    private final ObjectProvider<EmployeeEventSubscriber> employeeEventSubscriber;
 
+    /**
+     * Loads the roster and hands it to the {@link EmployeeEventSubscriber}, if any, to keep current. A roster that the
+     * subscriber cannot bring up to date is marked stale and not cached.
+     */
     @Override
-    @Cacheable("employees")
-    public List<Employee> getAllEmployees() {
+    @Cacheable(cacheNames = EMPLOYEES_CACHE, cacheResolver = "employeeCacheResolver", unless = "#result.stale")
+    public Roster getAllEmployees() {
         log.info("Fetching employees from API (cache miss)");
+        CacheLoadEvent loadEvent = new CacheLoadEvent();
+        loadEvent.begin();
+        long startNanos = System.nanoTime();
         ApiResponse<List<Employee>> response = employeeApiHelper.getAllEmployeesApiCall();
-        return response != null && response.data() != null ? response.data() : List.of();
+        List<Employee> employees = response != null && response.data() != null ? response.data() : List.of();
+        Roster roster = employees instanceof Roster loaded ? loaded : new Roster(employees, null);
+        employeeEventSubscriber.ifAvailable(subscriber -> subscriber.attach(roster));
+        employeeCacheMetrics.recordLoad(roster.size(), Duration.ofNanos(System.nanoTime() - startNanos));
+        loadEvent.size = roster.size();
+        loadEvent.commit();
+        return roster;
     }
 
     @Override
@@ -60,31 +98,119 @@ public class EmployeeServiceImpl implements EmployeeService {
         return Optional.ofNullable(response != null ? response.data() : null);
     }
 
+    /**
+     * Answers from the cached roster, which the {@link EmployeeEventSubscriber} keeps current, without an upstream
+     * call. Only when the cache is cold does it ask the server for its highest salary, falling back to loading the
+     * roster when the answer carries no data. If the server does not serve the aggregate (404) or is still throttling
+     * after retries (429), a roster cached meanwhile is used.
+     */
     @Override
     public Integer getHighestSalaryOfEmployees() {
-        List<Employee> employees = getAllEmployees();
-        return employees.stream()
-                .filter(employee -> employee.getSalary() != null)
-                .map(Employee::getSalary)
-                .max(Integer::compareTo)
-                .orElse(0);
+        Optional<List<Employee>> cached = cachedRoster();
+        if (cached.isPresent()) {
+            return highestSalary(cached.get());
+        }
+        ApiResponse<Integer> response;
+        try {
+            response = employeeApiHelper.getHighestSalaryApiCall();
+        } catch (HttpClientErrorException.NotFound | HttpClientErrorException.TooManyRequests e) {
+            return highestSalary(cachedRoster().orElseThrow(() -> e));
+        }
+        if (response != null && response.data() != null) {
+            return response.data();
+        }
+        return highestSalary(roster());
     }
 
+    /**
+     * The top {@value #TOP_EARNERS} earners from the cached roster, or on a cold cache from the server's aggregate,
+     * with the same fallbacks as {@link #getHighestSalaryOfEmployees}.
+     */
     @Override
     public List<String> getTopTenHighestEarningEmployeeNames() {
-        List<Employee> employees = getAllEmployees();
+        List<Employee> employees = cachedRoster().orElse(null);
+        if (employees != null) {
+            return topEarnerNames(employees);
+        }
+        try {
+            ApiResponse<List<Employee>> response = employeeApiHelper.getTopEarnersApiCall(TOP_EARNERS);
+            employees = response != null && response.data() != null ? response.data() : roster();
+        } catch (HttpClientErrorException.NotFound | HttpClientErrorException.TooManyRequests e) {
+            employees = cachedRoster().orElseThrow(() -> e);
+        }
+        return topEarnerNames(employees);
+    }
+
+    private static List<String> topEarnerNames(List<Employee> employees) {
         return employees.stream()
                 .filter(employee -> employee.getSalary() != null && employee.getName() != null)
                 .sorted((e1, e2) -> e2.getSalary().compareTo(e1.getSalary()))
-                .limit(10)
+                .limit(TOP_EARNERS)
                 .map(Employee::getName)
                 .toList();
     }
 
+    private static Integer highestSalary(List<Employee> employees) {
+        return employees.stream()
+                .filter(employee -> employee.getSalary() != null)
+                .map(Employee::getSalary)
+                .max(Integer::compareTo)
+                .orElse(0);
+    }
+
+    /**
+     * The roster through the {@value #EMPLOYEES_CACHE} cache, loading it on a miss. A call to
+     * {@link #getAllEmployees} from inside this class would skip the cache proxy and always go upstream. Like the
+     * proxy, it does not cache a stale roster.
+     */
+    private List<Employee> roster() {
+        Optional<List<Employee>> cached = cachedRoster();
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        Roster loaded = getAllEmployees();
+        Cache cache = cacheManager.getCache(EMPLOYEES_CACHE);
+        if (cache != null && !loaded.isStale()) {
+            cache.put(SimpleKey.EMPTY, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * @return the roster in the {@value #EMPLOYEES_CACHE} cache, without loading it if it is not there
+     */
+    @SuppressWarnings("unchecked")
+    private Optional<List<Employee>> cachedRoster() {
+        Cache cache = cacheManager.getCache(EMPLOYEES_CACHE);
+        Cache.ValueWrapper cached = cache == null ? null : cache.get(SimpleKey.EMPTY);
+        return cached != null && cached.get() instanceof List<?> roster
+                ? Optional.of((List<Employee>) roster)
+                : Optional.empty();
+    }
+
     @Override
     public Employee createEmployee(CreateEmployeeInput input) {
-        ApiResponse<Employee> response = employeeApiHelper.createEmployeeApiCall(input);
-        
+        // A fresh key still lets the server recognise our own retries of this create.
+        return sendCreate(input, UUID.randomUUID().toString());
+    }
+
+    @Override
+    public Employee createEmployee(CreateEmployeeInput input, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return createEmployee(input);
+        }
+        return idempotentCreates.execute(idempotencyKey, input, () -> sendCreate(input, idempotencyKey));
+    }
+
+    private Employee sendCreate(CreateEmployeeInput input, String idempotencyKey) {
+        ApiResponse<Employee> response;
+        try {
+            response = employeeApiHelper.createEmployeeApiCall(input, idempotencyKey);
+        } catch (HttpClientErrorException.UnprocessableEntity e) {
+            // The server holds the key for a different create, such as one still running here when this one started.
+            throw new IdempotencyCache.IdempotencyKeyReusedException(idempotencyKey);
+        }
+
         if (response != null && response.data() != null) {
             return response.data();
         } else {
@@ -92,20 +218,90 @@ public class EmployeeServiceImpl implements EmployeeService {
         }
     }
 
+    /**
+     * Deletes by ID with a single upstream request, which answers with the deleted employee's name, so there is no read
+     * first and no chance of deleting a different employee with the same name.
+     */
     @Override
     public String deleteEmployeeById(String id) {
-        Optional<Employee> employee = getEmployeeById(id);
-        if (employee.isEmpty()) {
+        // Validate UUID format
+        try {
+            UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
             throw new RuntimeException("Employee not found");
         }
 
-        String employeeName = employee.get().getName();
-        ApiResponse<Boolean> response = employeeApiHelper.deleteEmployeeApiCall(employeeName);
-        
-        if (response != null && Boolean.TRUE.equals(response.data())) {
-            return employeeName;
+        ApiResponse<Employee> response;
+        try {
+            response = employeeApiHelper.deleteEmployeeByIdApiCall(id);
+        } catch (HttpClientErrorException.NotFound e) {
+            throw new RuntimeException("Employee not found");
+        }
+
+        if (response != null && response.data() != null) {
+            return response.data().getName();
         } else {
-            throw new RuntimeException("Failed to delete employee: " + employeeName);
+            throw new RuntimeException("Failed to delete employee: " + id);
+        }
+    }
+
+    /**
+     * Creates every input with a single upstream request. The server validates each input on its own.
+     *
+     * @return for each input, in order, the created employee or why it was not created
+     */
+    @Override
+    public List<BulkResult<Employee>> createEmployees(List<CreateEmployeeInput> inputs) {
+        return createEmployees(inputs, null);
+    }
+
+    /**
+     * Sends {@code idempotencyKey} on to the server, which remembers bulk creates by key, or a fresh key without one so
+     * the server still recognises our own retries of the batch.
+     */
+    @Override
+    public List<BulkResult<Employee>> createEmployees(List<CreateEmployeeInput> inputs, String idempotencyKey) {
+        checkBatchSize(inputs);
+        String key = idempotencyKey != null ? idempotencyKey : UUID.randomUUID().toString();
+        IdempotencyCache.checkKey(key);
+        ApiResponse<List<BulkResult<Employee>>> response;
+        try {
+            response = employeeApiHelper.createEmployeesApiCall(inputs, key);
+        } catch (HttpClientErrorException.UnprocessableEntity e) {
+            throw new IdempotencyCache.IdempotencyKeyReusedException(key);
+        }
+        if (response == null || response.data() == null || response.data().size() != inputs.size()) {
+            throw new RuntimeException("Bulk employee creation failed");
+        }
+        return response.data();
+    }
+
+    /**
+     * Deletes by ID with a single upstream request, which answers with each deleted employee, so there is no read of
+     * the roster first.
+     *
+     * @return for each ID, in order, the deleted employee's name or why it was not deleted
+     */
+    @Override
+    public List<BulkResult<String>> deleteEmployeesById(List<String> ids) {
+        checkBatchSize(ids);
+        ApiResponse<List<BulkResult<Employee>>> response = employeeApiHelper.deleteEmployeesByIdApiCall(ids);
+        if (response == null || response.data() == null || response.data().size() != ids.size()) {
+            throw new RuntimeException("Bulk employee deletion failed");
+        }
+        List<BulkResult<String>> results = new ArrayList<>(ids.size());
+        for (BulkResult<Employee> deleted : response.data()) {
+            results.add(
+                    deleted.data() != null
+                            ? BulkResult.of(deleted.data().getName())
+                            : BulkResult.error(deleted.error() != null ? deleted.error() : "Employee not found"));
+        }
+        return results;
+    }
+
+    private static void checkBatchSize(List<?> items) {
+        if (items == null || items.isEmpty() || items.size() > MAX_BATCH) {
+            throw new IllegalArgumentException("A batch must have between 1 and " + MAX_BATCH + " items");
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,62 @@
+package com.reliaquest.api.util;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tracks the employee roster held in the {@code employees} cache: how long each load from the employee server took,
+ * how many employees it returned and how old the cached copy is. Hit and miss counts come from the cache itself.
+ */
+@Component
+public class EmployeeCacheMetrics {
+
+    private final Timer loadTimer;
+    private final AtomicInteger snapshotSize = new AtomicInteger();
+    private final AtomicLong snapshotLoadedAtMillis = new AtomicLong();
+
+    public EmployeeCacheMetrics(MeterRegistry meterRegistry) {
+        this.loadTimer = Timer.builder("employee.cache.load")
+                .description("Time taken to load the employee roster from the employee server")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("employee.snapshot.size", snapshotSize, AtomicInteger::get)
+                .description("Employees in the most recently loaded roster")
+                .register(meterRegistry);
+        Gauge.builder("employee.snapshot.age", this, metrics -> metrics.getSnapshotAge().toMillis() / 1000.0)
+                .description("Seconds since the roster was last loaded or updated from the employee server")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public void recordLoad(int size, Duration loadTime) {
+        loadTimer.record(loadTime.toNanos(), TimeUnit.NANOSECONDS);
+        snapshotSize.set(size);
+        snapshotLoadedAtMillis.set(System.currentTimeMillis());
+    }
+
+    /**
+     * A change applied to the cached roster from the employee server's event stream leaves it as current as a reload.
+     */
+    public void recordUpdate(int size) {
+        snapshotSize.set(size);
+        snapshotLoadedAtMillis.set(System.currentTimeMillis());
+    }
+
+    public int getSnapshotSize() {
+        return snapshotSize.get();
+    }
+
+    /**
+     * @return age of the cached roster, or {@link Duration#ZERO} if none has been loaded yet
+     */
+    public Duration getSnapshotAge() {
+        long loadedAt = snapshotLoadedAtMillis.get();
+        return loadedAt == 0 ? Duration.ZERO : Duration.ofMillis(System.currentTimeMillis() - loadedAt);
+    }
+}
@@ -0,0 +1,102 @@
+package com.reliaquest.api.util;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Employees created under an {@code Idempotency-Key}, so a client resubmitting a create is answered from here instead
+ * of spending upstream quota on a duplicate. Only successful results are kept.
+ *
+ * <p>Unlike the server's table, this one does not hold back a request whose key is still being written: the key is
+ * forwarded upstream, so overlapping requests with one key all reach the server, which creates once and answers them
+ * all with that employee. Keys expire {@code ttl} after their result was kept, and at most {@code maxKeys} are kept;
+ * past that the oldest is dropped.
+ */
+public class IdempotencyCache<T> {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    public static final int MAX_KEY_LENGTH = 255;
+
+    private final int maxKeys;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+
+    // Guarded by this; in the order results were kept, which is also the order they expire in.
+    private final LinkedHashMap<String, Entry<T>> entries = new LinkedHashMap<>();
+
+    public IdempotencyCache(int maxKeys, Duration ttl) {
+        this(maxKeys, ttl, System::nanoTime);
+    }
+
+    IdempotencyCache(int maxKeys, Duration ttl, LongSupplier nanoClock) {
+        if (maxKeys < 1) {
+            throw new IllegalArgumentException("maxKeys must be positive");
+        }
+        this.maxKeys = maxKeys;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Runs {@code write} unless a result for {@code key} is kept, and otherwise answers with that result.
+     *
+     * @param request what the write was asked to do; a key may only be reused for an equal request
+     * @throws IllegalArgumentException if {@code key} is blank or longer than {@value #MAX_KEY_LENGTH} characters
+     * @throws IdempotencyKeyReusedException if {@code key} was first used for a different request
+     */
+    public T execute(String key, Object request, Supplier<T> write) {
+        checkKey(key);
+        synchronized (this) {
+            expire(nanoClock.getAsLong());
+            Entry<T> kept = entries.get(key);
+            if (kept != null) {
+                if (!kept.request.equals(request)) {
+                    throw new IdempotencyKeyReusedException(key);
+                }
+                return kept.result;
+            }
+        }
+        T result = write.get();
+        synchronized (this) {
+            // An overlapping request may have kept the same employee first; the earlier entry expires first.
+            if (entries.putIfAbsent(key, new Entry<>(request, nanoClock.getAsLong(), result)) == null
+                    && entries.size() > maxKeys) {
+                entries.remove(entries.keySet().iterator().next());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code key} is blank or longer than {@value #MAX_KEY_LENGTH} characters
+     */
+    public static void checkKey(String key) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(
+                    HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters and not blank");
+        }
+    }
+
+    private void expire(long now) {
+        Iterator<Entry<T>> oldest = entries.values().iterator();
+        while (oldest.hasNext() && now - oldest.next().keptNanos >= ttlNanos) {
+            oldest.remove();
+        }
+    }
+
+    private record Entry<T>(Object request, long keptNanos, T result) {}
+
+    /**
+     * An {@code Idempotency-Key} sent again with a different request than it was first used for.
+     */
+    public static class IdempotencyKeyReusedException extends IllegalStateException {
+
+        public IdempotencyKeyReusedException(String key) {
+            super(HEADER + " " + key + " was already used for a different request");
+        }
+    }
+}
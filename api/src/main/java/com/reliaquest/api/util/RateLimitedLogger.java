@@ -0,0 +1,61 @@
+package com.reliaquest.api.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+
+/**
+ * Lets through at most {@code permitsPerInterval} lines per interval and counts the rest, so that a log statement
+ * on a request hot path cannot dominate request latency under load. The number of suppressed lines is reported once
+ * per interval. Accounting is approximate at interval boundaries, which is fine for logging.
+ */
+public class RateLimitedLogger {
+
+    private final Logger delegate;
+    private final int permitsPerInterval;
+    private final long intervalNanos;
+    private final AtomicLong intervalStartNanos;
+    private final AtomicInteger used = new AtomicInteger();
+    private final LongAdder suppressed = new LongAdder();
+
+    public RateLimitedLogger(Logger delegate, int permitsPerInterval, Duration interval) {
+        this.delegate = delegate;
+        this.permitsPerInterval = permitsPerInterval;
+        this.intervalNanos = interval.toNanos();
+        this.intervalStartNanos = new AtomicLong(System.nanoTime());
+    }
+
+    public void info(String format, Object... arguments) {
+        if (delegate.isInfoEnabled() && tryAcquire()) {
+            delegate.info(format, arguments);
+        }
+    }
+
+    public void warn(String format, Object... arguments) {
+        if (delegate.isWarnEnabled() && tryAcquire()) {
+            delegate.warn(format, arguments);
+        }
+    }
+
+    boolean tryAcquire() {
+        long now = System.nanoTime();
+        long intervalStart = intervalStartNanos.get();
+        if (now - intervalStart >= intervalNanos && intervalStartNanos.compareAndSet(intervalStart, now)) {
+            used.set(0);
+            long suppressedLines = suppressed.sumThenReset();
+            if (suppressedLines > 0) {
+                delegate.info(
+                        "Suppressed {} log lines in the last {}ms",
+                        suppressedLines,
+                        Duration.ofNanos(now - intervalStart).toMillis());
+            }
+        }
+        if (used.incrementAndGet() <= permitsPerInterval) {
+            return true;
+        }
+        suppressed.increment();
+        return false;
+    }
+}
@@ -0,0 +1,21 @@
+package com.reliaquest.api.util;
+
+import java.util.Map;
+
+/**
+ * One employee server exchange as written by {@link UpstreamRecordingInterceptor}, one JSON object per line. The
+ * loadtest module's replay server reads recordings with its own copy of this record; keep the two in step.
+ *
+ * @param offsetMillis when the request was sent, relative to the start of the recording
+ * @param durationMillis time until the response was received
+ * @param headers response headers worth replaying ({@code Content-Type}, {@code Retry-After})
+ */
+public record RecordedExchange(
+        long offsetMillis,
+        String method,
+        String path,
+        String requestBody,
+        int status,
+        long durationMillis,
+        Map<String, String> headers,
+        String responseBody) {}
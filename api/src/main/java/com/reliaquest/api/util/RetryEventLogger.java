@@ -1,10 +1,16 @@
 package com.reliaquest.api.util;
 
+import com.reliaquest.api.jfr.RetryWaitEvent;
+import com.reliaquest.api.web.UpstreamAdmissionInterceptor;
 import io.github.resilience4j.retry.event.RetryOnRetryEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 
 @Component
 @Slf4j
@@ -12,6 +18,8 @@ import org.springframework.stereotype.Component;
 public class RetryEventLogger {
 
     private final io.github.resilience4j.retry.RetryRegistry retryRegistry;
+    private final UpstreamAdmissionInterceptor upstreamAdmissionInterceptor;
+    private final MeterRegistry meterRegistry;
 
     @PostConstruct
     public void setupRetryEventLogging() {
@@ -33,5 +41,28 @@ public class RetryEventLogger {
                 event.getWaitInterval().getSeconds(),
                 event.getLastThrowable() != null ? 
                     event.getLastThrowable().getMessage() : "Unknown error");
+        Counter.builder("employee.upstream.retry.attempts")
+                .description("Retry attempts made against the employee server")
+                .tag("name", event.getName())
+                .register(meterRegistry)
+                .increment();
+        Timer.builder("employee.upstream.retry.wait")
+                .description("Time spent waiting between retry attempts")
+                .tag("name", event.getName())
+                .register(meterRegistry)
+                .record(event.getWaitInterval());
+        RetryWaitEvent retryWaitEvent = new RetryWaitEvent();
+        if (retryWaitEvent.shouldCommit()) {
+            retryWaitEvent.retryName = event.getName();
+            retryWaitEvent.attempt = event.getNumberOfRetryAttempts();
+            retryWaitEvent.waitMillis = event.getWaitInterval().toMillis();
+            retryWaitEvent.reason = event.getLastThrowable() != null
+                    ? event.getLastThrowable().getClass().getSimpleName()
+                    : null;
+            retryWaitEvent.commit();
+        }
+        if (event.getLastThrowable() instanceof HttpClientErrorException.TooManyRequests) {
+            upstreamAdmissionInterceptor.recordUpstreamBackoff(event.getWaitInterval());
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,83 @@
+package com.reliaquest.api.util;
+
+import com.reliaquest.api.jfr.UpstreamCallEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.net.URI;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every call made to the employee server, tagged by HTTP method, URI template and status
+ * ({@code 200}, {@code 404}, {@code 429}, ..., {@code 5xx} or {@code IO_ERROR}), and feeds each response status to
+ * {@link UpstreamQuotaTracker}. Each call is also emitted as an {@link UpstreamCallEvent} for Flight Recorder.
+ */
+@Component
+@RequiredArgsConstructor
+public class UpstreamMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    static final String UPSTREAM_REQUESTS = "employee.upstream.requests";
+
+    private final MeterRegistry meterRegistry;
+    private final UpstreamQuotaTracker upstreamQuotaTracker;
+
+    @Value("${employee.server.url}")
+    private String baseUrl;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        UpstreamCallEvent event = new UpstreamCallEvent();
+        event.begin();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String uriTemplate = uriTemplate(request.getURI());
+        String status = "IO_ERROR";
+        int statusCode = 0;
+        long responseBytes = -1;
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            statusCode = response.getStatusCode().value();
+            responseBytes = response.getHeaders().getContentLength();
+            upstreamQuotaTracker.recordResponse(statusCode);
+            status = statusTag(statusCode);
+            return response;
+        } finally {
+            sample.stop(Timer.builder(UPSTREAM_REQUESTS)
+                    .description("Calls made to the employee server")
+                    .tag("method", request.getMethod().name())
+                    .tag("uri", uriTemplate)
+                    .tag("status", status)
+                    .register(meterRegistry));
+            event.end();
+            if (event.shouldCommit()) {
+                event.method = request.getMethod().name();
+                event.uriTemplate = uriTemplate;
+                event.status = statusCode;
+                event.requestBytes = body.length;
+                event.responseBytes = responseBytes;
+                event.commit();
+            }
+        }
+    }
+
+    String uriTemplate(URI uri) {
+        String basePath = URI.create(baseUrl).getPath();
+        if (uri.getPath().equals(basePath)
+                || uri.getPath().equals(basePath + "/bulk")
+                || uri.getPath().equals(basePath + "/bulk/ids")
+                || uri.getPath().startsWith(basePath + "/aggregates/")) {
+            return uri.getPath();
+        }
+        return basePath + "/{id}";
+    }
+
+    static String statusTag(int statusCode) {
+        return statusCode >= 500 ? "5xx" : String.valueOf(statusCode);
+    }
+}
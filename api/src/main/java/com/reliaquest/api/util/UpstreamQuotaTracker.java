@@ -0,0 +1,72 @@
+package com.reliaquest.api.util;
+
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * Estimates the employee server's request budget from the responses we actually receive. The server admits a fixed
+ * number of requests and then answers 429 until a backoff period has passed, so the number of calls that succeeded
+ * before the first 429 is our best estimate of the limit, and the length of the last 429 streak of the backoff.
+ */
+@Component
+public class UpstreamQuotaTracker {
+
+    private int callsInWindow;
+    private Instant windowStartedAt;
+    private int estimatedLimit;
+    private boolean throttled;
+    private Instant throttledSince;
+    private Duration lastObservedBackoff;
+    private long throttledResponses;
+
+    public synchronized void recordResponse(int statusCode) {
+        Instant now = Instant.now();
+        if (statusCode == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            throttledResponses++;
+            if (!throttled) {
+                throttled = true;
+                throttledSince = now;
+                estimatedLimit = Math.max(estimatedLimit, callsInWindow);
+            }
+            return;
+        }
+        if (throttled) {
+            throttled = false;
+            lastObservedBackoff = Duration.between(throttledSince, now);
+            callsInWindow = 0;
+            windowStartedAt = null;
+        }
+        if (windowStartedAt == null) {
+            windowStartedAt = now;
+        }
+        callsInWindow++;
+    }
+
+    public synchronized Snapshot snapshot() {
+        Instant estimatedBackoffEnd =
+                throttled && lastObservedBackoff != null ? throttledSince.plus(lastObservedBackoff) : null;
+        return new Snapshot(
+                callsInWindow,
+                windowStartedAt,
+                estimatedLimit > 0 ? estimatedLimit : null,
+                throttled,
+                throttledSince,
+                estimatedBackoffEnd,
+                throttledResponses);
+    }
+
+    /**
+     * @param estimatedLimit {@code null} until the server has throttled us at least once
+     * @param estimatedBackoffEnd {@code null} unless a full backoff has been observed before
+     */
+    public record Snapshot(
+            int callsInWindow,
+            Instant windowStartedAt,
+            Integer estimatedLimit,
+            boolean throttled,
+            Instant throttledSince,
+            Instant estimatedBackoffEnd,
+            long throttledResponses) {}
+}
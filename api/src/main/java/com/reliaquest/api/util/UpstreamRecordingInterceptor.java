@@ -0,0 +1,128 @@
+package com.reliaquest.api.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * Record mode: appends every employee server exchange, 429s included, to {@code employee.server.record-file} as JSON
+ * Lines, with its timing. The loadtest module's replay server serves such a file back so that performance runs see
+ * the same upstream behaviour every time.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty("employee.server.record-file")
+public class UpstreamRecordingInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final List<String> RECORDED_HEADERS = List.of(HttpHeaders.CONTENT_TYPE, HttpHeaders.RETRY_AFTER);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final long startNanos = System.nanoTime();
+    private final Writer writer;
+
+    public UpstreamRecordingInterceptor(@Value("${employee.server.record-file}") Path recordFile) throws IOException {
+        if (recordFile.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(recordFile.toAbsolutePath().getParent());
+        }
+        this.writer = Files.newBufferedWriter(
+                recordFile,
+                StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+        log.info("Recording employee server exchanges to {}", recordFile.toAbsolutePath());
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        long sentNanos = System.nanoTime();
+        ClientHttpResponse response = execution.execute(request, body);
+        byte[] responseBody;
+        try (InputStream responseStream = response.getBody()) {
+            responseBody = responseStream.readAllBytes();
+        }
+        long receivedNanos = System.nanoTime();
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        RECORDED_HEADERS.forEach(name -> {
+            String value = response.getHeaders().getFirst(name);
+            if (value != null) {
+                headers.put(name, value);
+            }
+        });
+        write(new RecordedExchange(
+                TimeUnit.NANOSECONDS.toMillis(sentNanos - startNanos),
+                request.getMethod().name(),
+                request.getURI().getRawPath(),
+                body.length > 0 ? new String(body, StandardCharsets.UTF_8) : null,
+                response.getStatusCode().value(),
+                TimeUnit.NANOSECONDS.toMillis(receivedNanos - sentNanos),
+                headers,
+                new String(responseBody, StandardCharsets.UTF_8)));
+        return new BufferedResponse(response, responseBody);
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+
+    private synchronized void write(RecordedExchange exchange) throws IOException {
+        writer.write(objectMapper.writeValueAsString(exchange));
+        writer.write('\n');
+        writer.flush();
+    }
+
+    /**
+     * The response with its body already read, so that it can be both recorded and handed on to the converters.
+     */
+    private record BufferedResponse(ClientHttpResponse delegate, byte[] body) implements ClientHttpResponse {
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.reliaquest.api.util;
+
+import com.reliaquest.api.web.UpstreamAdmissionInterceptor;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code /actuator/upstream}: live view of our standing with the employee server, built from the counters kept in the
+ * HTTP client path and the admission interceptor.
+ */
+@Component
+@Endpoint(id = "upstream")
+@RequiredArgsConstructor
+public class UpstreamStatusEndpoint {
+
+    private final UpstreamQuotaTracker upstreamQuotaTracker;
+    private final UpstreamAdmissionInterceptor upstreamAdmissionInterceptor;
+    private final EmployeeCacheMetrics employeeCacheMetrics;
+
+    @ReadOperation
+    public UpstreamStatus upstreamStatus() {
+        UpstreamQuotaTracker.Snapshot quota = upstreamQuotaTracker.snapshot();
+        Instant retryBackoffUntil = upstreamAdmissionInterceptor.getBackoffUntil();
+        Instant backoffEnd = quota.estimatedBackoffEnd();
+        if (retryBackoffUntil.isAfter(Instant.now())
+                && (backoffEnd == null || retryBackoffUntil.isAfter(backoffEnd))) {
+            backoffEnd = retryBackoffUntil;
+        }
+        return new UpstreamStatus(
+                quota.callsInWindow(),
+                quota.windowStartedAt(),
+                quota.estimatedLimit(),
+                quota.throttled(),
+                quota.throttledSince(),
+                quota.throttled() ? backoffEnd : null,
+                quota.throttledResponses(),
+                upstreamAdmissionInterceptor.getInFlight(),
+                upstreamAdmissionInterceptor.getMaxConcurrent(),
+                employeeCacheMetrics.getSnapshotSize(),
+                employeeCacheMetrics.getSnapshotAge().toSeconds());
+    }
+
+    public record UpstreamStatus(
+            int callsInCurrentWindow,
+            Instant windowStartedAt,
+            Integer estimatedLimit,
+            boolean inBackoff,
+            Instant backoffStartedAt,
+            Instant estimatedBackoffEnd,
+            long throttledResponses,
+            int upstreamRequestsInFlight,
+            int maxConcurrentUpstreamRequests,
+            int snapshotSize,
+            long snapshotAgeSeconds) {}
+}
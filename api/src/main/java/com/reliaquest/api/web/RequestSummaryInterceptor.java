@@ -0,0 +1,49 @@
+package com.reliaquest.api.web;
+
+import com.reliaquest.api.util.RateLimitedLogger;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Writes a single summary line per request (method, route, status, latency) instead of one or more lines from each
+ * controller method. Successful requests are rate limited; unexpected failures are always logged.
+ */
+@Slf4j
+public class RequestSummaryInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = RequestSummaryInterceptor.class.getName() + ".START";
+
+    private final RateLimitedLogger summaryLog;
+
+    public RequestSummaryInterceptor(int maxSummariesPerSecond) {
+        this.summaryLog = new RateLimitedLogger(log, maxSummariesPerSecond, Duration.ofSeconds(1));
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(START_ATTRIBUTE) instanceof Long startNanos)) {
+            return;
+        }
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
+        Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String path = route != null ? route.toString() : request.getRequestURI();
+        int status = response.getStatus();
+        if (ex != null || (status >= 500 && status != HttpStatus.SERVICE_UNAVAILABLE.value())) {
+            log.warn("{} {} -> {} in {}ms", request.getMethod(), path, status, elapsedMillis);
+        } else {
+            summaryLog.info("{} {} -> {} in {}ms", request.getMethod(), path, status, elapsedMillis);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.reliaquest.api.web;
+
+import com.reliaquest.api.util.RateLimitedLogger;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Bounds the number of in-flight requests that need the employee server. Excess requests are shed immediately
+ * with 503 and a {@code Retry-After} hint instead of parking a servlet thread behind upstream retries.
+ */
+@Slf4j
+public class UpstreamAdmissionInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = UpstreamAdmissionInterceptor.class.getName() + ".PERMIT";
+
+    private final int maxConcurrent;
+    private final Duration defaultRetryAfter;
+    private final Semaphore permits;
+    private final AtomicReference<Instant> backoffUntil = new AtomicReference<>(Instant.EPOCH);
+    private final RateLimitedLogger shedLog = new RateLimitedLogger(log, 1, Duration.ofSeconds(1));
+
+    public UpstreamAdmissionInterceptor(int maxConcurrent, Duration defaultRetryAfter) {
+        this.maxConcurrent = maxConcurrent;
+        this.defaultRetryAfter = defaultRetryAfter;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)
+                || !handlerMethod.hasMethodAnnotation(UpstreamDependent.class)) {
+            return true;
+        }
+        if (permits.tryAcquire()) {
+            request.setAttribute(PERMIT_ATTRIBUTE, Boolean.TRUE);
+            return true;
+        }
+
+        long retryAfterSeconds = retryAfter().toSeconds();
+        shedLog.warn(
+                "Shedding {} {}: {} upstream requests already in flight, retry after {}s",
+                request.getMethod(),
+                request.getRequestURI(),
+                maxConcurrent,
+                retryAfterSeconds);
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        return false;
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            permits.release();
+        }
+    }
+
+    /**
+     * Records that the employee server has started throttling us for the given duration, so that shed requests
+     * are told to come back once the backoff is over rather than after the default interval.
+     */
+    public void recordUpstreamBackoff(Duration backoff) {
+        Instant until = Instant.now().plus(backoff);
+        backoffUntil.accumulateAndGet(until, (current, candidate) -> candidate.isAfter(current) ? candidate : current);
+    }
+
+    public int getInFlight() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public Instant getBackoffUntil() {
+        return backoffUntil.get();
+    }
+
+    Duration retryAfter() {
+        Duration remainingBackoff = Duration.between(Instant.now(), backoffUntil.get());
+        if (remainingBackoff.isNegative() || remainingBackoff.isZero()) {
+            return defaultRetryAfter;
+        }
+        // Round up so clients never come back before the backoff has elapsed.
+        return Duration.ofSeconds(remainingBackoff.toSeconds() + 1);
+    }
+}
@@ -0,0 +1,15 @@
+package com.reliaquest.api.web;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a controller method that needs the employee server to answer, at least when the cache is cold, so it is
+ * subject to {@link UpstreamAdmissionInterceptor} admission control. Endpoints always served from the cache must not
+ * carry it.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface UpstreamDependent {}
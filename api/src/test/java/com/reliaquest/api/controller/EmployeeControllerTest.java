@@ -6,9 +6,14 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.BulkResult;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.QueuedCreate;
 import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.helper.EmployeeCreateQueue;
+import com.reliaquest.api.util.IdempotencyCache;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -30,6 +35,9 @@ class EmployeeControllerTest {
     @MockBean
     private EmployeeService employeeService;
 
+    @MockBean
+    private EmployeeCreateQueue employeeCreateQueue;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -175,7 +183,7 @@ class EmployeeControllerTest {
                 .email("z@company.com")
                 .build();
 
-        when(employeeService.createEmployee(any(CreateEmployeeInput.class))).thenReturn(createdEmployee);
+        when(employeeService.createEmployee(any(CreateEmployeeInput.class), isNull())).thenReturn(createdEmployee);
 
         // When & Then
         mockMvc.perform(post("/api/v1/employee")
@@ -195,7 +203,7 @@ class EmployeeControllerTest {
         input.setAge(25);
         input.setTitle("Developer");
 
-        when(employeeService.createEmployee(any(CreateEmployeeInput.class)))
+        when(employeeService.createEmployee(any(CreateEmployeeInput.class), isNull()))
                 .thenThrow(new RuntimeException("Creation failed"));
 
         // When & Then
@@ -205,6 +213,29 @@ class EmployeeControllerTest {
                 .andExpect(status().isInternalServerError());
     }
 
+    @Test
+    void createEmployee_PassesIdempotencyKey() throws Exception {
+        // Given
+        CreateEmployeeInput input = new CreateEmployeeInput();
+        input.setName("Employee Z");
+        when(employeeService.createEmployee(any(CreateEmployeeInput.class), eq("key-1"))).thenReturn(testEmployee1);
+        when(employeeService.createEmployee(any(CreateEmployeeInput.class), eq("key-2")))
+                .thenThrow(new IdempotencyCache.IdempotencyKeyReusedException("key-2"));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/employee")
+                .header("Idempotency-Key", "key-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(input)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.employee_name").value("Employee X"));
+        mockMvc.perform(post("/api/v1/employee")
+                .header("Idempotency-Key", "key-2")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(input)))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
     @Test
     void deleteEmployeeById_Success() throws Exception {
         // Given
@@ -229,4 +260,107 @@ class EmployeeControllerTest {
                 .andExpect(status().isNotFound());
     }
 
-}
\ No newline at end of file
+    @Test
+    void createEmployees_Success() throws Exception {
+        // Given
+        CreateEmployeeInput input = new CreateEmployeeInput();
+        input.setName("Employee Z");
+        input.setSalary(80000);
+        input.setAge(25);
+        input.setTitle("Developer");
+
+        when(employeeService.createEmployees(anyList(), isNull()))
+                .thenReturn(List.of(BulkResult.of(testEmployee1), BulkResult.error("age: must not be null")));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/employee/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(input, new CreateEmployeeInput()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].data.employee_name").value("Employee X"))
+                .andExpect(jsonPath("$[1].error").value("age: must not be null"));
+    }
+
+    @Test
+    void createEmployees_PassesIdempotencyKey() throws Exception {
+        // Given
+        when(employeeService.createEmployees(anyList(), eq("batch-1")))
+                .thenReturn(List.of(BulkResult.of(testEmployee1)));
+        when(employeeService.createEmployees(anyList(), eq("batch-2")))
+                .thenThrow(new IdempotencyCache.IdempotencyKeyReusedException("batch-2"));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/employee/bulk")
+                .header("Idempotency-Key", "batch-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(new CreateEmployeeInput()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].data.employee_name").value("Employee X"));
+        mockMvc.perform(post("/api/v1/employee/bulk")
+                .header("Idempotency-Key", "batch-2")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(new CreateEmployeeInput()))))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    void deleteEmployeesById_TooLargeBatch() throws Exception {
+        // Given
+        when(employeeService.deleteEmployeesById(anyList())).thenThrow(new IllegalArgumentException("Too many"));
+
+        // When & Then
+        mockMvc.perform(delete("/api/v1/employee/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(testEmployee1.getId().toString()))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void deleteEmployeesById_Success() throws Exception {
+        // Given
+        String employeeId = testEmployee1.getId().toString();
+        when(employeeService.deleteEmployeesById(List.of(employeeId, "nope")))
+                .thenReturn(List.of(BulkResult.of("Employee X"), BulkResult.error("Invalid employee ID")));
+
+        // When & Then
+        mockMvc.perform(delete("/api/v1/employee/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(employeeId, "nope"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].data").value("Employee X"))
+                .andExpect(jsonPath("$[1].error").value("Invalid employee ID"));
+    }
+
+    @Test
+    void createEmployeeAsync_Accepted() throws Exception {
+        // Given
+        CreateEmployeeInput input = new CreateEmployeeInput();
+        input.setName("Employee Z");
+        input.setSalary(80000);
+        input.setAge(25);
+        input.setTitle("Developer");
+        input.setEmail("z@company.com");
+        QueuedCreate queued = QueuedCreate.queued(UUID.randomUUID(), input, Instant.now());
+        when(employeeCreateQueue.enqueue(any(CreateEmployeeInput.class))).thenReturn(queued);
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/employee/async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(input)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/v1/employee/async/" + queued.trackingId()))
+                .andExpect(jsonPath("$.trackingId").value(queued.trackingId().toString()))
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+    }
+
+    @Test
+    void getQueuedCreate_NotFound() throws Exception {
+        // Given
+        UUID trackingId = UUID.randomUUID();
+        when(employeeCreateQueue.status(trackingId)).thenReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee/async/" + trackingId)).andExpect(status().isNotFound());
+    }
+}
@@ -157,7 +157,7 @@ class EmployeeIntegrationTest {
                 .email("z@company.com")
                 .build();
 
-        when(employeeApiHelper.createEmployeeApiCall(any(CreateEmployeeInput.class)))
+        when(employeeApiHelper.createEmployeeApiCall(any(CreateEmployeeInput.class), anyString()))
             .thenReturn(ApiResponse.handledWith(createdEmployee));
 
         // When & Then
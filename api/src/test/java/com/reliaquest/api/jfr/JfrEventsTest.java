@@ -0,0 +1,164 @@
+package com.reliaquest.api.jfr;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.helper.EmployeeApiHelper;
+import com.reliaquest.api.service.helper.EmployeeEventSubscriber;
+import com.reliaquest.api.service.impl.EmployeeServiceImpl;
+import com.reliaquest.api.util.EmployeeCacheMetrics;
+import com.reliaquest.api.util.IdempotencyCache;
+import com.reliaquest.api.util.RetryEventLogger;
+import com.reliaquest.api.util.UpstreamMetricsInterceptor;
+import com.reliaquest.api.util.UpstreamQuotaTracker;
+import com.reliaquest.api.web.UpstreamAdmissionInterceptor;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.interceptor.CacheOperationInvocationContext;
+import org.springframework.cache.interceptor.CacheableOperation;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+
+class JfrEventsTest {
+
+    private final String baseUrl = "http://localhost:8112/api/v1/employee";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void customEvents_AreEmittedFromHotPaths() throws Exception {
+        Path dump = tempDir.resolve("employee-api.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(UpstreamCallEvent.NAME);
+            recording.enable(CacheLookupEvent.NAME);
+            recording.enable(CacheLoadEvent.NAME);
+            recording.enable(RetryWaitEvent.NAME);
+            recording.start();
+
+            // Upstream call
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            UpstreamMetricsInterceptor interceptor =
+                    new UpstreamMetricsInterceptor(meterRegistry, new UpstreamQuotaTracker());
+            ReflectionTestUtils.setField(interceptor, "baseUrl", baseUrl);
+            ClientHttpRequestExecution execution = mock(ClientHttpRequestExecution.class);
+            when(execution.execute(any(), any()))
+                    .thenReturn(new MockClientHttpResponse("{}".getBytes(), HttpStatus.OK));
+            interceptor.intercept(
+                    new MockClientHttpRequest(HttpMethod.GET, URI.create(baseUrl)), new byte[0], execution);
+
+            // Cache miss, roster load, cache hit
+            JfrRecordingCache cache = new JfrRecordingCache(new ConcurrentMapCache("employees"));
+            EmployeeApiHelper employeeApiHelper = mock(EmployeeApiHelper.class);
+            when(employeeApiHelper.getAllEmployeesApiCall())
+                    .thenReturn(ApiResponse.handledWith(List.of(Employee.builder().name("Employee X").build())));
+            EmployeeServiceImpl employeeService = new EmployeeServiceImpl(
+                    employeeApiHelper,
+                    new EmployeeCacheMetrics(meterRegistry),
+                    new IdempotencyCache<>(100, Duration.ofMinutes(1)),
+                    new ConcurrentMapCacheManager(),
+                    new StaticListableBeanFactory().getBeanProvider(EmployeeEventSubscriber.class));
+            assertNull(cache.get("key"));
+            cache.put("key", employeeService.getAllEmployees());
+            assertNotNull(cache.get("key"));
+
+            // Retry wait
+            RetryRegistry retryRegistry = RetryRegistry.of(RetryConfig.custom()
+                    .maxAttempts(2)
+                    .waitDuration(Duration.ofMillis(1))
+                    .build());
+            Retry retry = retryRegistry.retry("employeeServerRetry");
+            new RetryEventLogger(
+                            retryRegistry,
+                            new UpstreamAdmissionInterceptor(1, Duration.ofSeconds(30)),
+                            meterRegistry)
+                    .setupRetryEventLogging();
+            AtomicInteger attempts = new AtomicInteger();
+            retry.executeSupplier(() -> {
+                if (attempts.getAndIncrement() == 0) {
+                    throw new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS);
+                }
+                return "ok";
+            });
+
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        RecordedEvent upstreamCall = single(events, UpstreamCallEvent.NAME);
+        assertEquals("GET", upstreamCall.getString("method"));
+        assertEquals("/api/v1/employee", upstreamCall.getString("uriTemplate"));
+        assertEquals(200, upstreamCall.getInt("status"));
+
+        List<Boolean> lookups = events.stream()
+                .filter(event -> event.getEventType().getName().equals(CacheLookupEvent.NAME))
+                .map(event -> event.getBoolean("hit"))
+                .toList();
+        assertEquals(List.of(false, true), lookups);
+
+        assertEquals(1, single(events, CacheLoadEvent.NAME).getInt("size"));
+
+        RecordedEvent retryWait = single(events, RetryWaitEvent.NAME);
+        assertEquals("employeeServerRetry", retryWait.getString("retryName"));
+        assertEquals(1, retryWait.getInt("attempt"));
+
+        Map<String, JfrEventSummary.Stats> summary = JfrEventSummary.summarise(dump);
+        assertEquals(2, summary.get(CacheLookupEvent.NAME).count());
+        assertEquals(4, summary.size());
+    }
+
+    @Test
+    void cacheResolver_WrapsEachCacheOnce() {
+        // Given
+        JfrCacheResolver resolver = new JfrCacheResolver(new ConcurrentMapCacheManager("employees"));
+        CacheableOperation.Builder operation = new CacheableOperation.Builder();
+        operation.setName("getAllEmployees");
+        operation.setCacheName("employees");
+        CacheOperationInvocationContext<?> context = mock(CacheOperationInvocationContext.class);
+        doReturn(operation.build()).when(context).getOperation();
+
+        // When
+        Collection<? extends Cache> first = resolver.resolveCaches(context);
+        Collection<? extends Cache> second = resolver.resolveCaches(context);
+
+        // Then
+        assertSame(first, second);
+        assertInstanceOf(JfrRecordingCache.class, first.iterator().next());
+        assertEquals("employees", first.iterator().next().getName());
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .toList();
+        assertEquals(1, matching.size(), name);
+        return matching.get(0);
+    }
+}
@@ -0,0 +1,71 @@
+package com.reliaquest.api.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class EmployeeJsonTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .registerModule(new EmployeeJsonModule());
+    private final ObjectMapper reflectiveObjectMapper =
+            new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    @Test
+    void serialize_MatchesReflectiveBinding() throws Exception {
+        // Given
+        Employee employee = Employee.builder()
+                .id(UUID.randomUUID())
+                .name("Employee X")
+                .salary(75000)
+                .age(30)
+                .title("Developer")
+                .build();
+
+        // When
+        String json = objectMapper.writeValueAsString(employee);
+
+        // Then
+        assertEquals(
+                reflectiveObjectMapper.readTree(reflectiveObjectMapper.writeValueAsString(employee)),
+                objectMapper.readTree(json));
+    }
+
+    @Test
+    void deserialize_ReadsServerResponse() throws Exception {
+        // Given
+        UUID id = UUID.randomUUID();
+        String json = """
+                {"data":[{"id":"%s","employee_name":"Employee X","employee_salary":75000,"employee_age":null,
+                "employee_title":"Developer","employee_email":"x@company.com","employee_extra":{"nested":[1,2]}}],
+                "status":"Successfully processed request."}
+                """.formatted(id);
+
+        // When
+        ApiResponse<List<Employee>> response = objectMapper.readValue(json, new TypeReference<>() {});
+
+        // Then
+        assertEquals(ApiResponse.Status.HANDLED, response.status());
+        assertEquals(
+                Employee.builder()
+                        .id(id)
+                        .name("Employee X")
+                        .salary(75000)
+                        .title("Developer")
+                        .email("x@company.com")
+                        .build(),
+                response.data().get(0));
+    }
+
+    @Test
+    void deserialize_RejectsMalformedId() {
+        assertThrows(
+                Exception.class, () -> objectMapper.readValue("{\"id\":\"not-a-uuid\"}", Employee.class));
+    }
+}
@@ -5,20 +5,34 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.BulkResult;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.Roster;
 import com.reliaquest.api.service.helper.EmployeeApiHelper;
+import com.reliaquest.api.service.helper.EmployeeEventSubscriber;
 import com.reliaquest.api.service.impl.EmployeeServiceImpl;
+import com.reliaquest.api.util.EmployeeCacheMetrics;
+import com.reliaquest.api.util.IdempotencyCache;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
 
 @ExtendWith(MockitoExtension.class)
 class EmployeeServiceTest {
@@ -26,6 +40,18 @@ class EmployeeServiceTest {
     @Mock
     private EmployeeApiHelper employeeApiHelper;
 
+    @Mock
+    private EmployeeCacheMetrics employeeCacheMetrics;
+
+    @Spy
+    private IdempotencyCache<Employee> idempotentCreates = new IdempotencyCache<>(100, Duration.ofMinutes(1));
+
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager("employees");
+
+    @Mock
+    private ObjectProvider<EmployeeEventSubscriber> employeeEventSubscriber;
+
     @InjectMocks
     private EmployeeServiceImpl employeeService;
 
@@ -80,6 +106,7 @@ class EmployeeServiceTest {
         assertEquals("Employee X", result.get(0).getName());
         assertEquals("Employee Y", result.get(1).getName());
         assertEquals("Employee Z", result.get(2).getName());
+        verify(employeeCacheMetrics).recordLoad(eq(3), any());
     }
 
     @Test
@@ -95,6 +122,56 @@ class EmployeeServiceTest {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    void getAllEmployees_HandsRosterToEventSubscriber() {
+        // Given
+        EmployeeEventSubscriber subscriber = mock(EmployeeEventSubscriber.class);
+        doAnswer(invocation -> {
+                    invocation.<Consumer<EmployeeEventSubscriber>>getArgument(0).accept(subscriber);
+                    return null;
+                })
+                .when(employeeEventSubscriber)
+                .ifAvailable(any());
+        when(employeeApiHelper.getAllEmployeesApiCall())
+                .thenReturn(ApiResponse.handledWith(new Roster(testEmployees, "e1:7")));
+
+        // When
+        Roster result = employeeService.getAllEmployees();
+
+        // Then
+        assertEquals(testEmployees, result);
+        assertEquals(7, result.getVersion());
+        verify(subscriber).attach(result);
+    }
+
+    @Test
+    void getHighestSalaryOfEmployees_DoesNotCacheStaleRoster() {
+        // Given
+        EmployeeEventSubscriber subscriber = mock(EmployeeEventSubscriber.class);
+        doAnswer(invocation -> {
+                    invocation.<Consumer<EmployeeEventSubscriber>>getArgument(0).accept(subscriber);
+                    return null;
+                })
+                .when(employeeEventSubscriber)
+                .ifAvailable(any());
+        doAnswer(invocation -> {
+                    invocation.<Roster>getArgument(0).markStale();
+                    return null;
+                })
+                .when(subscriber)
+                .attach(any());
+        when(employeeApiHelper.getAllEmployeesApiCall()).thenReturn(ApiResponse.handledWith(testEmployees));
+
+        // When
+        employeeService.getHighestSalaryOfEmployees();
+        Integer result = employeeService.getHighestSalaryOfEmployees();
+
+        // Then
+        assertEquals(95000, result);
+        assertNull(cacheManager.getCache("employees").get(SimpleKey.EMPTY));
+        verify(employeeApiHelper, times(2)).getAllEmployeesApiCall();
+    }
+
     @Test
     void getEmployeesByNameSearch_Success() {
         // Given
@@ -174,6 +251,91 @@ class EmployeeServiceTest {
         assertEquals("Employee X", result.get(2));
     }
 
+    @Test
+    void getHighestSalaryOfEmployees_UsesServerAggregate() {
+        // Given
+        when(employeeApiHelper.getHighestSalaryApiCall()).thenReturn(ApiResponse.handledWith(95000));
+
+        // When
+        Integer result = employeeService.getHighestSalaryOfEmployees();
+
+        // Then
+        assertEquals(95000, result);
+        verify(employeeApiHelper, never()).getAllEmployeesApiCall();
+    }
+
+    @Test
+    void getTopTenHighestEarningEmployeeNames_UsesServerAggregate() {
+        // Given
+        when(employeeApiHelper.getTopEarnersApiCall(10))
+                .thenReturn(ApiResponse.handledWith(List.of(testEmployeeZ, testEmployeeY)));
+
+        // When
+        List<String> result = employeeService.getTopTenHighestEarningEmployeeNames();
+
+        // Then
+        assertEquals(List.of("Employee Z", "Employee Y"), result);
+        verify(employeeApiHelper, never()).getAllEmployeesApiCall();
+    }
+
+    @Test
+    void getHighestSalaryOfEmployees_AnswersWarmCacheWithoutUpstreamCall() {
+        // Given
+        cacheManager.getCache("employees").put(SimpleKey.EMPTY, testEmployees);
+
+        // When
+        Integer highestSalary = employeeService.getHighestSalaryOfEmployees();
+        List<String> topEarners = employeeService.getTopTenHighestEarningEmployeeNames();
+
+        // Then
+        assertEquals(95000, highestSalary);
+        assertEquals(List.of("Employee Z", "Employee Y", "Employee X"), topEarners);
+        verifyNoInteractions(employeeApiHelper);
+    }
+
+    @Test
+    void getHighestSalaryOfEmployees_ThrottledColdCacheFails() {
+        // Given
+        when(employeeApiHelper.getHighestSalaryApiCall())
+                .thenThrow(HttpClientErrorException.create(
+                        HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null));
+
+        // When & Then
+        assertThrows(
+                HttpClientErrorException.TooManyRequests.class, () -> employeeService.getHighestSalaryOfEmployees());
+        verify(employeeApiHelper, never()).getAllEmployeesApiCall();
+    }
+
+    @Test
+    void getTopTenHighestEarningEmployeeNames_NotServedUntilCacheIsWarm() {
+        // Given
+        when(employeeApiHelper.getTopEarnersApiCall(10))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+
+        // When & Then
+        assertThrows(
+                HttpClientErrorException.NotFound.class, () -> employeeService.getTopTenHighestEarningEmployeeNames());
+        cacheManager.getCache("employees").put(SimpleKey.EMPTY, testEmployees);
+        assertEquals(
+                List.of("Employee Z", "Employee Y", "Employee X"),
+                employeeService.getTopTenHighestEarningEmployeeNames());
+        verify(employeeApiHelper, never()).getAllEmployeesApiCall();
+    }
+
+    @Test
+    void getHighestSalaryOfEmployees_LoadsRosterThroughCache() {
+        // Given
+        when(employeeApiHelper.getAllEmployeesApiCall()).thenReturn(ApiResponse.handledWith(testEmployees));
+
+        // When
+        employeeService.getHighestSalaryOfEmployees();
+        Integer result = employeeService.getHighestSalaryOfEmployees();
+
+        // Then
+        assertEquals(95000, result);
+        verify(employeeApiHelper, times(1)).getAllEmployeesApiCall();
+    }
+
     @Test
     void createEmployee_Success() {
         // Given
@@ -194,7 +356,7 @@ class EmployeeServiceTest {
                 .build();
 
         ApiResponse<Employee> apiResponse = ApiResponse.handledWith(createdEmployee);
-        when(employeeApiHelper.createEmployeeApiCall(input)).thenReturn(apiResponse);
+        when(employeeApiHelper.createEmployeeApiCall(eq(input), anyString())).thenReturn(apiResponse);
 
         // When
         Employee result = employeeService.createEmployee(input);
@@ -206,29 +368,68 @@ class EmployeeServiceTest {
         assertEquals("Developer", result.getTitle());
     }
 
+    @Test
+    void createEmployee_SameIdempotencyKeyCreatesOnce() {
+        // Given
+        CreateEmployeeInput input = new CreateEmployeeInput();
+        input.setName("Employee W");
+        input.setSalary(80000);
+        input.setAge(25);
+        input.setTitle("Developer");
+        input.setEmail("w@company.com");
+        when(employeeApiHelper.createEmployeeApiCall(input, "key-1"))
+                .thenReturn(ApiResponse.handledWith(testEmployeeX));
+
+        // When
+        Employee first = employeeService.createEmployee(input, "key-1");
+        Employee resubmitted = employeeService.createEmployee(input, "key-1");
+
+        // Then
+        assertEquals(testEmployeeX, first);
+        assertEquals(testEmployeeX, resubmitted);
+        verify(employeeApiHelper, times(1)).createEmployeeApiCall(input, "key-1");
+    }
+
+    @Test
+    void createEmployee_RejectsIdempotencyKeyReusedForOtherInput() {
+        // Given
+        CreateEmployeeInput input = new CreateEmployeeInput();
+        input.setName("Employee W");
+        CreateEmployeeInput other = new CreateEmployeeInput();
+        other.setName("Employee V");
+        when(employeeApiHelper.createEmployeeApiCall(input, "key-1"))
+                .thenReturn(ApiResponse.handledWith(testEmployeeX));
+        employeeService.createEmployee(input, "key-1");
+
+        // When & Then
+        assertThrows(
+                IdempotencyCache.IdempotencyKeyReusedException.class,
+                () -> employeeService.createEmployee(other, "key-1"));
+        verify(employeeApiHelper, never()).createEmployeeApiCall(eq(other), any());
+    }
+
     @Test
     void deleteEmployeeById_Success() {
         // Given
         String employeeId = testEmployeeX.getId().toString();
-        ApiResponse<Employee> getApiResponse = ApiResponse.handledWith(testEmployeeX);
-        ApiResponse<Boolean> deleteApiResponse = ApiResponse.handledWith(true);
-        
-        when(employeeApiHelper.getEmployeeByIdApiCall(employeeId)).thenReturn(getApiResponse);
-        when(employeeApiHelper.deleteEmployeeApiCall("Employee X")).thenReturn(deleteApiResponse);
+        when(employeeApiHelper.deleteEmployeeByIdApiCall(employeeId))
+                .thenReturn(ApiResponse.handledWith(testEmployeeX));
 
         // When
         String result = employeeService.deleteEmployeeById(employeeId);
 
         // Then
         assertEquals("Employee X", result);
+        verify(employeeApiHelper, never()).getEmployeeByIdApiCall(anyString());
+        verify(employeeApiHelper, never()).deleteEmployeeApiCall(anyString());
     }
 
     @Test
     void deleteEmployeeById_EmployeeNotFound() {
         // Given
         String employeeId = UUID.randomUUID().toString();
-        ApiResponse<Employee> apiResponse = ApiResponse.handledWith(null);
-        when(employeeApiHelper.getEmployeeByIdApiCall(employeeId)).thenReturn(apiResponse);
+        when(employeeApiHelper.deleteEmployeeByIdApiCall(employeeId))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
 
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, 
@@ -236,4 +437,88 @@ class EmployeeServiceTest {
         
         assertEquals("Employee not found", exception.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    void deleteEmployeeById_InvalidIdMakesNoUpstreamCall() {
+        // When & Then
+        RuntimeException exception =
+                assertThrows(RuntimeException.class, () -> employeeService.deleteEmployeeById("not-a-uuid"));
+
+        assertEquals("Employee not found", exception.getMessage());
+        verifyNoInteractions(employeeApiHelper);
+    }
+
+    @Test
+    void createEmployees_SendsOneUpstreamRequest() {
+        // Given
+        CreateEmployeeInput input = new CreateEmployeeInput();
+        input.setName("Employee W");
+        input.setSalary(80000);
+        input.setAge(25);
+        input.setTitle("Developer");
+        input.setEmail("w@company.com");
+        List<CreateEmployeeInput> inputs = List.of(input, new CreateEmployeeInput());
+
+        List<BulkResult<Employee>> results =
+                List.of(BulkResult.of(testEmployeeX), BulkResult.error("name: must not be blank"));
+        when(employeeApiHelper.createEmployeesApiCall(eq(inputs), anyString()))
+                .thenReturn(ApiResponse.handledWith(results));
+
+        // When
+        List<BulkResult<Employee>> result = employeeService.createEmployees(inputs);
+
+        // Then
+        assertEquals(results, result);
+        verify(employeeApiHelper, never()).createEmployeeApiCall(any(), any());
+    }
+
+    @Test
+    void createEmployees_ForwardsIdempotencyKey() {
+        // Given
+        List<CreateEmployeeInput> inputs = List.of(new CreateEmployeeInput());
+        List<BulkResult<Employee>> results = List.of(BulkResult.of(testEmployeeX));
+        when(employeeApiHelper.createEmployeesApiCall(inputs, "batch-1")).thenReturn(ApiResponse.handledWith(results));
+        when(employeeApiHelper.createEmployeesApiCall(inputs, "batch-2"))
+                .thenThrow(HttpClientErrorException.create(
+                        HttpStatus.UNPROCESSABLE_ENTITY, "Unprocessable Entity", null, null, null));
+
+        // When & Then
+        assertEquals(results, employeeService.createEmployees(inputs, "batch-1"));
+        assertThrows(
+                IdempotencyCache.IdempotencyKeyReusedException.class,
+                () -> employeeService.createEmployees(inputs, "batch-2"));
+        assertThrows(IllegalArgumentException.class, () -> employeeService.createEmployees(inputs, " "));
+        verify(employeeApiHelper, times(2)).createEmployeesApiCall(eq(inputs), anyString());
+    }
+
+    @Test
+    void createEmployees_RejectsEmptyBatch() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> employeeService.createEmployees(List.of()));
+        verifyNoInteractions(employeeApiHelper);
+    }
+
+    @Test
+    void deleteEmployeesById_SendsOneUpstreamRequest() {
+        // Given
+        List<String> ids = List.of(testEmployeeX.getId().toString(), "not-a-uuid", testEmployeeX.getId().toString());
+        when(employeeApiHelper.deleteEmployeesByIdApiCall(ids))
+                .thenReturn(ApiResponse.handledWith(List.of(
+                        BulkResult.of(testEmployeeX),
+                        BulkResult.error("id: must be a UUID"),
+                        BulkResult.error("id: not found"))));
+
+        // When
+        List<BulkResult<String>> result = employeeService.deleteEmployeesById(ids);
+
+        // Then
+        assertEquals(
+                List.of(
+                        BulkResult.of("Employee X"),
+                        BulkResult.error("id: must be a UUID"),
+                        BulkResult.error("id: not found")),
+                result);
+        verify(employeeApiHelper, never()).getAllEmployeesApiCall();
+        verify(employeeApiHelper, never()).deleteEmployeeApiCall(anyString());
+    }
+}
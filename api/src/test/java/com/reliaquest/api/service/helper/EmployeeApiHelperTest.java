@@ -5,8 +5,10 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.BulkResult;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.Roster;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
@@ -18,6 +20,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -89,6 +92,28 @@ class EmployeeApiHelperTest {
         assertEquals("Employee Y", result.data().get(1).getName());
     }
 
+    @Test
+    void getAllEmployeesApiCall_ReadsRosterVersion() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(Roster.VERSION_HEADER, "e1:42");
+        ResponseEntity<ApiResponse<List<Employee>>> responseEntity =
+                new ResponseEntity<>(ApiResponse.handledWith(testEmployees), headers, HttpStatus.OK);
+
+        when(restTemplate.exchange(
+                        eq(baseUrl), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                .thenReturn(responseEntity);
+
+        // When
+        ApiResponse<List<Employee>> result = employeeApiHelper.getAllEmployeesApiCall();
+
+        // Then
+        Roster roster = assertInstanceOf(Roster.class, result.data());
+        assertEquals(testEmployees, roster);
+        assertEquals("e1", roster.getEpoch());
+        assertEquals(42, roster.getVersion());
+    }
+
     @Test
     void getAllEmployeesApiCall_TooManyRequests() {
         // Given
@@ -144,6 +169,50 @@ class EmployeeApiHelperTest {
             () -> employeeApiHelper.getEmployeeByIdApiCall(employeeId));
     }
 
+    @Test
+    void getHighestSalaryApiCall_Success() {
+        // Given
+        ResponseEntity<ApiResponse<Integer>> responseEntity =
+            new ResponseEntity<>(ApiResponse.handledWith(85000), HttpStatus.OK);
+
+        when(restTemplate.exchange(
+                eq(baseUrl + "/aggregates/max-salary"),
+                eq(HttpMethod.GET),
+                isNull(),
+                any(ParameterizedTypeReference.class)))
+                .thenReturn(responseEntity);
+
+        // When
+        ApiResponse<Integer> result = employeeApiHelper.getHighestSalaryApiCall();
+
+        // Then
+        assertNotNull(result);
+        assertEquals(85000, result.data());
+    }
+
+    @Test
+    void getTopEarnersApiCall_Success() {
+        // Given
+        ApiResponse<List<Employee>> apiResponse = ApiResponse.handledWith(List.of(testEmployeeY, testEmployeeX));
+        ResponseEntity<ApiResponse<List<Employee>>> responseEntity =
+            new ResponseEntity<>(apiResponse, HttpStatus.OK);
+
+        when(restTemplate.exchange(
+                eq(baseUrl + "/aggregates/top-earners?n=10"),
+                eq(HttpMethod.GET),
+                isNull(),
+                any(ParameterizedTypeReference.class)))
+                .thenReturn(responseEntity);
+
+        // When
+        ApiResponse<List<Employee>> result = employeeApiHelper.getTopEarnersApiCall(10);
+
+        // Then
+        assertNotNull(result);
+        assertEquals(2, result.data().size());
+        assertEquals("Employee Y", result.data().get(0).getName());
+    }
+
     @Test
     void createEmployeeApiCall_Success() {
         // Given
@@ -175,13 +244,18 @@ class EmployeeApiHelperTest {
                 .thenReturn(responseEntity);
 
         // When
-        ApiResponse<Employee> result = employeeApiHelper.createEmployeeApiCall(input);
+        ApiResponse<Employee> result = employeeApiHelper.createEmployeeApiCall(input, "key-1");
 
         // Then
         assertNotNull(result);
         assertEquals("Employee Z", result.data().getName());
         assertEquals(90000, result.data().getSalary());
         assertEquals("z@company.com", result.data().getEmail());
+        verify(restTemplate).exchange(
+                eq(baseUrl),
+                eq(HttpMethod.POST),
+                argThat((HttpEntity<?> entity) -> "key-1".equals(entity.getHeaders().getFirst("Idempotency-Key"))),
+                any(ParameterizedTypeReference.class));
     }
 
     @Test
@@ -203,7 +277,28 @@ class EmployeeApiHelperTest {
 
         // When & Then
         assertThrows(HttpClientErrorException.class, 
-            () -> employeeApiHelper.createEmployeeApiCall(input));
+            () -> employeeApiHelper.createEmployeeApiCall(input, "key-1"));
+    }
+
+    @Test
+    void deleteEmployeeByIdApiCall_DeletesById() {
+        // Given
+        String employeeId = testEmployeeX.getId().toString();
+        ResponseEntity<ApiResponse<Employee>> responseEntity =
+                new ResponseEntity<>(ApiResponse.handledWith(testEmployeeX), HttpStatus.OK);
+
+        when(restTemplate.exchange(
+                eq(baseUrl + "/" + employeeId),
+                eq(HttpMethod.DELETE),
+                isNull(),
+                any(ParameterizedTypeReference.class)))
+                .thenReturn(responseEntity);
+
+        // When
+        ApiResponse<Employee> result = employeeApiHelper.deleteEmployeeByIdApiCall(employeeId);
+
+        // Then
+        assertEquals("Employee X", result.data().getName());
     }
 
     @Test
@@ -267,4 +362,67 @@ class EmployeeApiHelperTest {
         assertNotNull(result);
         assertFalse(result.data());
     }
-}
\ No newline at end of file
+
+    @Test
+    void createEmployeesApiCall_PostsOneBulkRequest() {
+        // Given
+        CreateEmployeeInput input = new CreateEmployeeInput();
+        input.setName("Employee X");
+        input.setSalary(75000);
+        input.setAge(30);
+        input.setTitle("Developer");
+        input.setEmail("x@company.com");
+
+        ApiResponse<List<BulkResult<Employee>>> apiResponse = ApiResponse.handledWith(
+                List.of(BulkResult.of(testEmployeeX), BulkResult.error("age: must not be null")));
+        ResponseEntity<ApiResponse<List<BulkResult<Employee>>>> responseEntity =
+                new ResponseEntity<>(apiResponse, HttpStatus.OK);
+
+        when(restTemplate.exchange(
+                        eq(baseUrl + "/bulk"),
+                        eq(HttpMethod.POST),
+                        any(HttpEntity.class),
+                        any(ParameterizedTypeReference.class)))
+                .thenReturn(responseEntity);
+
+        // When
+        ApiResponse<List<BulkResult<Employee>>> result =
+                employeeApiHelper.createEmployeesApiCall(List.of(input, new CreateEmployeeInput()), "batch-1");
+
+        // Then
+        assertEquals(2, result.data().size());
+        assertEquals("Employee X", result.data().get(0).data().getName());
+        assertEquals("age: must not be null", result.data().get(1).error());
+        verify(restTemplate, times(1))
+                .exchange(
+                        anyString(),
+                        any(HttpMethod.class),
+                        argThat((HttpEntity<?> entity) ->
+                                "batch-1".equals(entity.getHeaders().getFirst("Idempotency-Key"))),
+                        any(ParameterizedTypeReference.class));
+    }
+
+    @Test
+    void deleteEmployeesByIdApiCall_SendsOneBulkRequest() {
+        // Given
+        String id = testEmployeeX.getId().toString();
+        ApiResponse<List<BulkResult<Employee>>> apiResponse =
+                ApiResponse.handledWith(List.of(BulkResult.of(testEmployeeX), BulkResult.error("id: not found")));
+        ResponseEntity<ApiResponse<List<BulkResult<Employee>>>> responseEntity =
+                new ResponseEntity<>(apiResponse, HttpStatus.OK);
+
+        when(restTemplate.exchange(
+                        eq(baseUrl + "/bulk/ids"),
+                        eq(HttpMethod.DELETE),
+                        argThat((HttpEntity<?> entity) -> List.of(id, id).equals(entity.getBody())),
+                        any(ParameterizedTypeReference.class)))
+                .thenReturn(responseEntity);
+
+        // When
+        ApiResponse<List<BulkResult<Employee>>> result = employeeApiHelper.deleteEmployeesByIdApiCall(List.of(id, id));
+
+        // Then
+        assertEquals("Employee X", result.data().get(0).data().getName());
+        assertEquals("id: not found", result.data().get(1).error());
+    }
+}
@@ -0,0 +1,167 @@
+package com.reliaquest.api.service.helper;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.QueuedCreate;
+import com.reliaquest.api.util.UpstreamQuotaTracker;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeCreateQueueTest {
+
+    @Mock
+    private EmployeeApiHelper employeeApiHelper;
+
+    @TempDir
+    private Path directory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private CreateEmployeeInput input;
+    private Employee created;
+
+    @BeforeEach
+    void setUp() {
+        input = new CreateEmployeeInput();
+        input.setName("Employee Z");
+        input.setSalary(80000);
+        input.setAge(25);
+        input.setTitle("Developer");
+        input.setEmail("z@company.com");
+
+        created = Employee.builder()
+                .id(UUID.randomUUID())
+                .name("Employee Z")
+                .salary(80000)
+                .age(25)
+                .title("Developer")
+                .email("z@company.com")
+                .build();
+    }
+
+    @Test
+    void enqueue_SurvivesRestart() throws Exception {
+        // Given
+        EmployeeCreateQueue queue = newQueue();
+        QueuedCreate queued = queue.enqueue(input);
+        queue.stop();
+
+        // When
+        EmployeeCreateQueue restarted = newQueue();
+
+        // Then
+        assertEquals(1, restarted.getPendingCount());
+        QueuedCreate replayed = restarted.status(queued.trackingId()).orElseThrow();
+        assertEquals(QueuedCreate.Status.QUEUED, replayed.status());
+        assertEquals(input, replayed.input());
+        restarted.stop();
+    }
+
+    @Test
+    void sendNext_RecordsCreatedEmployee() throws Exception {
+        // Given
+        when(employeeApiHelper.createEmployeeApiCall(eq(input), anyString()))
+                .thenReturn(ApiResponse.handledWith(created));
+        EmployeeCreateQueue queue = newQueue();
+        QueuedCreate queued = queue.enqueue(input);
+
+        // When
+        boolean finished = queue.sendNext();
+        queue.stop();
+        EmployeeCreateQueue restarted = newQueue();
+
+        // Then
+        assertTrue(finished);
+        QueuedCreate outcome = restarted.status(queued.trackingId()).orElseThrow();
+        assertEquals(QueuedCreate.Status.CREATED, outcome.status());
+        assertEquals(created, outcome.employee());
+        assertEquals(0, restarted.getPendingCount());
+        verify(employeeApiHelper).createEmployeeApiCall(input, queued.trackingId().toString());
+        restarted.stop();
+    }
+
+    @Test
+    void sendNext_FailsRejectedCreate() throws Exception {
+        // Given
+        when(employeeApiHelper.createEmployeeApiCall(eq(input), anyString()))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", null, null, null));
+        EmployeeCreateQueue queue = newQueue();
+        QueuedCreate queued = queue.enqueue(input);
+
+        // When
+        boolean finished = queue.sendNext();
+
+        // Then
+        assertTrue(finished);
+        QueuedCreate outcome = queue.status(queued.trackingId()).orElseThrow();
+        assertEquals(QueuedCreate.Status.FAILED, outcome.status());
+        assertTrue(outcome.error().contains("400"));
+        assertEquals(0, queue.getPendingCount());
+        queue.stop();
+    }
+
+    @Test
+    void sendNext_KeepsThrottledCreateQueued() throws Exception {
+        // Given
+        when(employeeApiHelper.createEmployeeApiCall(eq(input), anyString()))
+                .thenThrow(HttpClientErrorException.create(
+                        HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null));
+        EmployeeCreateQueue queue = newQueue();
+        QueuedCreate queued = queue.enqueue(input);
+
+        // When
+        boolean finished = queue.sendNext();
+
+        // Then
+        assertFalse(finished);
+        assertEquals(QueuedCreate.Status.QUEUED, queue.status(queued.trackingId()).orElseThrow().status());
+        assertEquals(1, queue.getPendingCount());
+        queue.stop();
+    }
+
+    @Test
+    void sendNext_KeepsCreateQueuedOnUnexpectedError() throws Exception {
+        // Given
+        when(employeeApiHelper.createEmployeeApiCall(eq(input), anyString()))
+                .thenThrow(new IllegalStateException("No instances available"));
+        EmployeeCreateQueue queue = newQueue();
+        QueuedCreate queued = queue.enqueue(input);
+
+        // When
+        boolean finished = queue.sendNext();
+        queue.stop();
+        EmployeeCreateQueue restarted = newQueue();
+
+        // Then
+        assertFalse(finished);
+        assertEquals(QueuedCreate.Status.QUEUED, restarted.status(queued.trackingId()).orElseThrow().status());
+        assertEquals(1, restarted.getPendingCount());
+        restarted.stop();
+    }
+
+    private EmployeeCreateQueue newQueue() throws IOException {
+        return new EmployeeCreateQueue(
+                employeeApiHelper,
+                new UpstreamQuotaTracker(),
+                objectMapper,
+                directory.resolve("create-queue.jsonl"),
+                Duration.ofSeconds(5),
+                Duration.ofMinutes(5),
+                100);
+    }
+}
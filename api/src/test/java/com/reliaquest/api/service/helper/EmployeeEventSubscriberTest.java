@@ -0,0 +1,266 @@
+package com.reliaquest.api.service.helper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.Roster;
+import com.reliaquest.api.util.EmployeeCacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.sun.net.httpserver.HttpServer;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+
+class EmployeeEventSubscriberTest {
+
+    private Cache cache;
+    private EmployeeCacheMetrics employeeCacheMetrics;
+    private EmployeeEventSubscriber subscriber;
+
+    private Employee testEmployeeX;
+    private Employee testEmployeeY;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(EmployeeEventSubscriber.EMPLOYEES_CACHE);
+        cache = cacheManager.getCache(EmployeeEventSubscriber.EMPLOYEES_CACHE);
+        employeeCacheMetrics = new EmployeeCacheMetrics(new SimpleMeterRegistry());
+        subscriber = new EmployeeEventSubscriber(
+                cacheManager,
+                new ObjectMapper(),
+                employeeCacheMetrics,
+                "http://localhost:8112/api/v1/employee",
+                Duration.ofSeconds(1),
+                Duration.ofSeconds(30),
+                Duration.ofSeconds(45));
+
+        testEmployeeX = Employee.builder()
+                .id(UUID.randomUUID())
+                .name("Employee X")
+                .salary(75000)
+                .age(30)
+                .title("Developer")
+                .email("x@company.com")
+                .build();
+
+        testEmployeeY = Employee.builder()
+                .id(UUID.randomUUID())
+                .name("Employee Y")
+                .salary(85000)
+                .age(28)
+                .title("Senior Developer")
+                .email("y@company.com")
+                .build();
+    }
+
+    @Test
+    void onLine_AppliesCreatedAndDeletedToCachedRoster() {
+        // Given
+        Roster roster = load(List.of(testEmployeeX), "e1:4");
+
+        // When
+        feed("id:e1:5", "event:created", "data:" + change(5, "CREATED", testEmployeeY), "");
+        feed(":heartbeat", "");
+        feed("id:e1:6", "event:deleted", "data:" + change(6, "DELETED", testEmployeeX), "");
+
+        // Then
+        assertSame(roster, cache.get(SimpleKey.EMPTY).get());
+        assertEquals(List.of(testEmployeeY), roster);
+        assertEquals(6, roster.getVersion());
+        assertEquals("e1:6", subscriber.getLastEventId());
+        assertEquals(1, employeeCacheMetrics.getSnapshotSize());
+    }
+
+    @Test
+    void onLine_ReplayedCreateDoesNotDuplicate() {
+        // Given
+        load(List.of(testEmployeeX, testEmployeeY), "e1:6");
+
+        // When
+        feed("id: e1:7", "event: created", "data: " + change(7, "CREATED", testEmployeeX), "");
+
+        // Then
+        assertEquals(List.of(testEmployeeY, testEmployeeX), cache.get(SimpleKey.EMPTY).get());
+        assertEquals("e1:7", subscriber.getLastEventId());
+    }
+
+    @Test
+    void onLine_ResyncEvictsCachedRoster() {
+        // Given
+        Roster roster = load(List.of(testEmployeeX), "e1:4");
+
+        // When
+        boolean dispatched = feed("id:e1:12", "event:resync", "data:e1:12", "");
+
+        // Then
+        assertTrue(dispatched);
+        assertNull(cache.get(SimpleKey.EMPTY));
+        assertTrue(roster.isStale());
+        assertEquals("e1:12", subscriber.getLastEventId());
+    }
+
+    @Test
+    void onLine_ResyncToRosterVersionKeepsCachedRoster() {
+        // Given
+        Roster roster = load(List.of(testEmployeeX), "e1:12");
+
+        // When
+        feed("id:e1:12", "event:resync", "data:e1:12", "");
+        feed("id:e1:13", "event:created", "data:" + change(13, "CREATED", testEmployeeY), "");
+
+        // Then
+        assertSame(roster, cache.get(SimpleKey.EMPTY).get());
+        assertEquals(List.of(testEmployeeX, testEmployeeY), roster);
+    }
+
+    @Test
+    void attach_AppliesChangesThatArrivedDuringLoad() {
+        // Given
+        feed("id:e1:3", "event:resync", "data:e1:3", "");
+
+        // When
+        boolean dispatched = feed("id:e1:5", "event:created", "data:" + change(5, "CREATED", testEmployeeY), "");
+        Roster behind = new Roster(List.of(testEmployeeX), "e1:4");
+        subscriber.attach(behind);
+        feed("id:e1:6", "event:deleted", "data:" + change(6, "DELETED", testEmployeeX), "");
+
+        // Then
+        assertTrue(dispatched);
+        assertFalse(behind.isStale());
+        assertEquals(List.of(testEmployeeY), behind);
+        assertEquals(6, behind.getVersion());
+    }
+
+    @Test
+    void attach_MarksRosterBehindTheStreamStale() {
+        // Given
+        feed("id:e1:9", "event:resync", "data:e1:9", "");
+
+        // When
+        Roster behind = new Roster(List.of(testEmployeeX), "e1:8");
+        subscriber.attach(behind);
+        Roster otherEpoch = new Roster(List.of(testEmployeeX), "e2:9");
+        subscriber.attach(otherEpoch);
+        Roster current = new Roster(List.of(testEmployeeX), "e1:9");
+        subscriber.attach(current);
+
+        // Then
+        assertTrue(behind.isStale());
+        assertTrue(otherEpoch.isStale());
+        assertFalse(current.isStale());
+    }
+
+    @Test
+    void onLine_MissedChangeDropsCachedRoster() {
+        // Given
+        Roster roster = load(List.of(testEmployeeX), "e1:4");
+
+        // When
+        feed("id:e1:6", "event:created", "data:" + change(6, "CREATED", testEmployeeY), "");
+        Roster reloaded = new Roster(List.of(testEmployeeX), "e1:5");
+        subscriber.attach(reloaded);
+
+        // Then
+        assertNull(cache.get(SimpleKey.EMPTY));
+        assertTrue(roster.isStale());
+        assertEquals(List.of(testEmployeeX), roster);
+        assertFalse(reloaded.isStale());
+        assertEquals(List.of(testEmployeeX, testEmployeeY), reloaded);
+    }
+
+    @Test
+    void onLine_UnreadableChangeEvictsCachedRoster() {
+        // Given
+        load(List.of(testEmployeeX), "e1:3");
+
+        // When
+        feed("id:e1:4", "event:created", "data:{not json", "");
+
+        // Then
+        assertNull(cache.get(SimpleKey.EMPTY));
+    }
+
+    @Test
+    void start_ReconnectsWhenStreamGoesSilent() throws Exception {
+        // Given
+        BlockingQueue<String> connections = new LinkedBlockingQueue<>();
+        CountDownLatch done = new CountDownLatch(1);
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/api/v1/employee/events", exchange -> {
+            String lastEventId = exchange.getRequestHeaders().getFirst("Last-Event-ID");
+            connections.add(lastEventId == null ? "none" : lastEventId);
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            OutputStream body = exchange.getResponseBody();
+            body.write(("id:e1:5\nevent:created\ndata:" + change(5, "CREATED", testEmployeeY) + "\n\n:heartbeat\n\n")
+                    .getBytes(StandardCharsets.UTF_8));
+            body.flush();
+            // Then stop sending, without closing the connection, as a dropped connection would.
+            try {
+                done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.close();
+        });
+        server.start();
+        EmployeeEventSubscriber following = new EmployeeEventSubscriber(
+                new ConcurrentMapCacheManager(EmployeeEventSubscriber.EMPLOYEES_CACHE),
+                new ObjectMapper(),
+                employeeCacheMetrics,
+                "http://localhost:" + server.getAddress().getPort() + "/api/v1/employee",
+                Duration.ofMillis(10),
+                Duration.ofMillis(10),
+                Duration.ofMillis(300));
+
+        try {
+            // When
+            following.start();
+
+            // Then
+            assertEquals("none", connections.poll(5, TimeUnit.SECONDS));
+            assertEquals("e1:5", connections.poll(5, TimeUnit.SECONDS));
+        } finally {
+            following.stop();
+            done.countDown();
+            server.stop(0);
+        }
+    }
+
+    private Roster load(List<Employee> employees, String version) {
+        Roster roster = new Roster(employees, version);
+        subscriber.attach(roster);
+        cache.put(SimpleKey.EMPTY, roster);
+        return roster;
+    }
+
+    private boolean feed(String... lines) {
+        boolean dispatched = false;
+        for (String line : lines) {
+            dispatched |= subscriber.onLine(line);
+        }
+        return dispatched;
+    }
+
+    private static String change(long version, String type, Employee employee) {
+        return "{\"version\":" + version + ",\"type\":\"" + type + "\",\"employee\":{\"id\":\"" + employee.getId()
+                + "\",\"employee_name\":\"" + employee.getName() + "\",\"employee_salary\":" + employee.getSalary()
+                + ",\"employee_age\":" + employee.getAge() + ",\"employee_title\":\"" + employee.getTitle()
+                + "\",\"employee_email\":\"" + employee.getEmail() + "\"}}";
+    }
+}
@@ -0,0 +1,90 @@
+package com.reliaquest.api.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class IdempotencyCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger creates = new AtomicInteger();
+
+    @Test
+    void execute_AnswersKeptKeyWithoutWriting() {
+        // Given
+        IdempotencyCache<Integer> cache = new IdempotencyCache<>(10, Duration.ofMinutes(1), now::get);
+
+        // When
+        int first = cache.execute("key-1", "Employee X", creates::incrementAndGet);
+        int resubmitted = cache.execute("key-1", "Employee X", creates::incrementAndGet);
+        int otherKey = cache.execute("key-2", "Employee X", creates::incrementAndGet);
+
+        // Then
+        assertEquals(1, first);
+        assertEquals(1, resubmitted);
+        assertEquals(2, otherKey);
+        assertEquals(2, creates.get());
+    }
+
+    @Test
+    void execute_RejectsReusedAndMalformedKeys() {
+        // Given
+        IdempotencyCache<Integer> cache = new IdempotencyCache<>(10, Duration.ofMinutes(1), now::get);
+        cache.execute("key-1", "Employee X", creates::incrementAndGet);
+
+        // When & Then
+        assertThrows(
+                IdempotencyCache.IdempotencyKeyReusedException.class,
+                () -> cache.execute("key-1", "Employee Y", creates::incrementAndGet));
+        assertThrows(IllegalArgumentException.class, () -> cache.execute("", "Employee X", creates::incrementAndGet));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> cache.execute("k".repeat(256), "Employee X", creates::incrementAndGet));
+        assertEquals(1, creates.get());
+    }
+
+    @Test
+    void execute_KeepsOnlySuccessesWithinLimits() {
+        // Given
+        IdempotencyCache<Integer> cache = new IdempotencyCache<>(2, Duration.ofMinutes(1), now::get);
+
+        // When
+        assertThrows(IllegalStateException.class, () -> cache.execute("key-1", "Employee X", () -> {
+            throw new IllegalStateException("upstream down");
+        }));
+        int afterFailure = cache.execute("key-1", "Employee X", creates::incrementAndGet);
+        cache.execute("key-2", "Employee X", creates::incrementAndGet);
+        cache.execute("key-3", "Employee X", creates::incrementAndGet);
+        int afterEviction = cache.execute("key-1", "Employee X", creates::incrementAndGet);
+        now.addAndGet(Duration.ofMinutes(1).toNanos());
+        int afterExpiry = cache.execute("key-3", "Employee X", creates::incrementAndGet);
+
+        // Then
+        assertEquals(1, afterFailure);
+        assertEquals(4, afterEviction);
+        assertEquals(5, afterExpiry);
+    }
+
+    @Test
+    void execute_OverlappingRequestsKeepFirstToFinish() {
+        // Given
+        IdempotencyCache<Integer> cache = new IdempotencyCache<>(10, Duration.ofMinutes(1), now::get);
+        AtomicInteger overlapping = new AtomicInteger();
+
+        // When
+        int first = cache.execute("key-1", "Employee X", () -> {
+            // A resubmission arriving before the first create has finished is sent upstream too.
+            overlapping.set(cache.execute("key-1", "Employee X", () -> 7));
+            return creates.incrementAndGet();
+        });
+        int resubmitted = cache.execute("key-1", "Employee X", creates::incrementAndGet);
+
+        // Then
+        assertEquals(7, overlapping.get());
+        assertEquals(1, first);
+        assertEquals(7, resubmitted);
+    }
+}
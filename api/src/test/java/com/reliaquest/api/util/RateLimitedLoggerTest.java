@@ -0,0 +1,46 @@
+package com.reliaquest.api.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+
+class RateLimitedLoggerTest {
+
+    @Test
+    void info_LogsUpToPermitsPerInterval() {
+        // Given
+        Logger delegate = mock(Logger.class);
+        when(delegate.isInfoEnabled()).thenReturn(true);
+        RateLimitedLogger rateLimitedLogger = new RateLimitedLogger(delegate, 2, Duration.ofHours(1));
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            rateLimitedLogger.info("GET {} -> {}", "/api/v1/employee", 200);
+        }
+
+        // Then
+        verify(delegate, times(2)).info(eq("GET {} -> {}"), any(Object[].class));
+    }
+
+    @Test
+    void tryAcquire_ReportsSuppressedLinesInNextInterval() throws InterruptedException {
+        // Given
+        Logger delegate = mock(Logger.class);
+        RateLimitedLogger rateLimitedLogger = new RateLimitedLogger(delegate, 1, Duration.ofMillis(10));
+        assertTrue(rateLimitedLogger.tryAcquire());
+        assertFalse(rateLimitedLogger.tryAcquire());
+        assertFalse(rateLimitedLogger.tryAcquire());
+
+        // When
+        Thread.sleep(20);
+        boolean acquired = rateLimitedLogger.tryAcquire();
+
+        // Then
+        assertTrue(acquired);
+        verify(delegate).info(eq("Suppressed {} log lines in the last {}ms"), eq(2L), anyLong());
+    }
+}
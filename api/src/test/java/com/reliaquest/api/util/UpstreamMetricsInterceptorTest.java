@@ -0,0 +1,94 @@
+package com.reliaquest.api.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.URI;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class UpstreamMetricsInterceptorTest {
+
+    private final String baseUrl = "http://localhost:8112/api/v1/employee";
+
+    private SimpleMeterRegistry meterRegistry;
+    private UpstreamMetricsInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new UpstreamMetricsInterceptor(meterRegistry, new UpstreamQuotaTracker());
+        ReflectionTestUtils.setField(interceptor, "baseUrl", baseUrl);
+    }
+
+    @Test
+    void intercept_TagsByMethodUriTemplateAndStatus() throws IOException {
+        // Given
+        MockClientHttpRequest request =
+                new MockClientHttpRequest(HttpMethod.GET, URI.create(baseUrl + "/" + UUID.randomUUID()));
+        ClientHttpRequestExecution execution = mock(ClientHttpRequestExecution.class);
+        when(execution.execute(any(), any()))
+                .thenReturn(new MockClientHttpResponse(new byte[0], HttpStatus.TOO_MANY_REQUESTS));
+
+        // When
+        interceptor.intercept(request, new byte[0], execution);
+
+        // Then
+        assertEquals(
+                1,
+                meterRegistry
+                        .get(UpstreamMetricsInterceptor.UPSTREAM_REQUESTS)
+                        .tag("method", "GET")
+                        .tag("uri", "/api/v1/employee/{id}")
+                        .tag("status", "429")
+                        .timer()
+                        .count());
+    }
+
+    @Test
+    void intercept_RecordsIoErrors() throws IOException {
+        // Given
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.POST, URI.create(baseUrl));
+        ClientHttpRequestExecution execution = mock(ClientHttpRequestExecution.class);
+        when(execution.execute(any(), any())).thenThrow(new IOException("Connection refused"));
+
+        // When & Then
+        assertThrows(IOException.class, () -> interceptor.intercept(request, new byte[0], execution));
+        assertEquals(
+                1,
+                meterRegistry
+                        .get(UpstreamMetricsInterceptor.UPSTREAM_REQUESTS)
+                        .tag("uri", "/api/v1/employee")
+                        .tag("status", "IO_ERROR")
+                        .timer()
+                        .count());
+    }
+
+    @Test
+    void uriTemplate_KeepsAggregatePaths() {
+        assertEquals("/api/v1/employee", interceptor.uriTemplate(URI.create(baseUrl)));
+        assertEquals("/api/v1/employee/{id}", interceptor.uriTemplate(URI.create(baseUrl + "/" + UUID.randomUUID())));
+        assertEquals(
+                "/api/v1/employee/aggregates/top-earners",
+                interceptor.uriTemplate(URI.create(baseUrl + "/aggregates/top-earners?n=10")));
+        assertEquals("/api/v1/employee/bulk", interceptor.uriTemplate(URI.create(baseUrl + "/bulk")));
+        assertEquals("/api/v1/employee/bulk/ids", interceptor.uriTemplate(URI.create(baseUrl + "/bulk/ids")));
+    }
+
+    @Test
+    void statusTag_GroupsServerErrors() {
+        assertEquals("200", UpstreamMetricsInterceptor.statusTag(200));
+        assertEquals("404", UpstreamMetricsInterceptor.statusTag(404));
+        assertEquals("5xx", UpstreamMetricsInterceptor.statusTag(503));
+    }
+}
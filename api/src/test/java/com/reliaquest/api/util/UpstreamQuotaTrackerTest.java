@@ -0,0 +1,68 @@
+package com.reliaquest.api.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class UpstreamQuotaTrackerTest {
+
+    private UpstreamQuotaTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new UpstreamQuotaTracker();
+    }
+
+    @Test
+    void snapshot_CountsCallsInCurrentWindow() {
+        // Given
+        tracker.recordResponse(200);
+        tracker.recordResponse(404);
+
+        // When
+        UpstreamQuotaTracker.Snapshot snapshot = tracker.snapshot();
+
+        // Then
+        assertEquals(2, snapshot.callsInWindow());
+        assertNotNull(snapshot.windowStartedAt());
+        assertNull(snapshot.estimatedLimit());
+        assertFalse(snapshot.throttled());
+    }
+
+    @Test
+    void snapshot_EstimatesLimitFromFirstThrottle() {
+        // Given
+        tracker.recordResponse(200);
+        tracker.recordResponse(200);
+        tracker.recordResponse(200);
+        tracker.recordResponse(429);
+        tracker.recordResponse(429);
+
+        // When
+        UpstreamQuotaTracker.Snapshot snapshot = tracker.snapshot();
+
+        // Then
+        assertTrue(snapshot.throttled());
+        assertEquals(3, snapshot.estimatedLimit());
+        assertEquals(2, snapshot.throttledResponses());
+        assertNull(snapshot.estimatedBackoffEnd());
+    }
+
+    @Test
+    void snapshot_StartsNewWindowAfterBackoff() {
+        // Given
+        tracker.recordResponse(200);
+        tracker.recordResponse(429);
+        tracker.recordResponse(200);
+        tracker.recordResponse(429);
+
+        // When
+        UpstreamQuotaTracker.Snapshot snapshot = tracker.snapshot();
+
+        // Then
+        assertTrue(snapshot.throttled());
+        assertEquals(1, snapshot.callsInWindow());
+        assertNotNull(snapshot.estimatedBackoffEnd());
+    }
+}
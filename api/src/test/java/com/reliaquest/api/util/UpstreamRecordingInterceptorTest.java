@@ -0,0 +1,58 @@
+package com.reliaquest.api.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+class UpstreamRecordingInterceptorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void intercept_RecordsExchangeAndPassesBodyThrough() throws Exception {
+        // Given
+        Path recordFile = tempDir.resolve("upstream.jsonl");
+        UpstreamRecordingInterceptor interceptor = new UpstreamRecordingInterceptor(recordFile);
+        MockClientHttpResponse throttled = new MockClientHttpResponse(
+                "{\"status\":\"Failed\"}".getBytes(StandardCharsets.UTF_8), HttpStatus.TOO_MANY_REQUESTS);
+        throttled.getHeaders().add(HttpHeaders.RETRY_AFTER, "30");
+        ClientHttpRequestExecution execution = mock(ClientHttpRequestExecution.class);
+        when(execution.execute(any(), any())).thenReturn(throttled);
+        MockClientHttpRequest request =
+                new MockClientHttpRequest(HttpMethod.GET, URI.create("http://localhost:8112/api/v1/employee"));
+
+        // When
+        ClientHttpResponse response = interceptor.intercept(request, new byte[0], execution);
+        interceptor.close();
+
+        // Then
+        assertEquals(
+                "{\"status\":\"Failed\"}", new String(response.getBody().readAllBytes(), StandardCharsets.UTF_8));
+        List<String> lines = Files.readAllLines(recordFile);
+        assertEquals(1, lines.size());
+        RecordedExchange recorded = new ObjectMapper().readValue(lines.get(0), RecordedExchange.class);
+        assertEquals("GET", recorded.method());
+        assertEquals("/api/v1/employee", recorded.path());
+        assertEquals(429, recorded.status());
+        assertEquals("30", recorded.headers().get(HttpHeaders.RETRY_AFTER));
+        assertEquals("{\"status\":\"Failed\"}", recorded.responseBody());
+        assertNull(recorded.requestBody());
+    }
+}
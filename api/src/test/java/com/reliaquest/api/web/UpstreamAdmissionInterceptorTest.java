@@ -0,0 +1,112 @@
+package com.reliaquest.api.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.controller.EmployeeController;
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.helper.EmployeeCreateQueue;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+@ExtendWith(MockitoExtension.class)
+class UpstreamAdmissionInterceptorTest {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @Mock
+    private ObjectProvider<EmployeeCreateQueue> employeeCreateQueue;
+
+    private UpstreamAdmissionInterceptor interceptor;
+    private HandlerMethod upstreamHandler;
+    private HandlerMethod cachedHandler;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        interceptor = new UpstreamAdmissionInterceptor(1, Duration.ofSeconds(30));
+        EmployeeController controller = new EmployeeController(employeeService, employeeCreateQueue);
+        upstreamHandler =
+                new HandlerMethod(controller, EmployeeController.class.getMethod("getEmployeeById", String.class));
+        cachedHandler = new HandlerMethod(controller, EmployeeController.class.getMethod("getAllEmployees"));
+    }
+
+    @Test
+    void preHandle_AdmitsUpToLimit() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        boolean admitted = interceptor.preHandle(request, response, upstreamHandler);
+
+        // Then
+        assertTrue(admitted);
+        assertEquals(1, interceptor.getInFlight());
+    }
+
+    @Test
+    void preHandle_ShedsExcessWithRetryAfter() {
+        // Given
+        interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), upstreamHandler);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        boolean admitted = interceptor.preHandle(new MockHttpServletRequest(), response, upstreamHandler);
+
+        // Then
+        assertFalse(admitted);
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), response.getStatus());
+        assertEquals("30", response.getHeader(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void preHandle_CachedEndpointsStayAvailable() {
+        // Given
+        interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), upstreamHandler);
+
+        // When
+        boolean admitted =
+                interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), cachedHandler);
+
+        // Then
+        assertTrue(admitted);
+        assertEquals(1, interceptor.getInFlight());
+    }
+
+    @Test
+    void afterCompletion_ReleasesPermit() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, upstreamHandler);
+
+        // When
+        interceptor.afterCompletion(request, response, upstreamHandler, null);
+
+        // Then
+        assertEquals(0, interceptor.getInFlight());
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), upstreamHandler));
+    }
+
+    @Test
+    void retryAfter_UsesKnownUpstreamBackoff() {
+        // Given
+        interceptor.recordUpstreamBackoff(Duration.ofSeconds(90));
+
+        // When
+        Duration retryAfter = interceptor.retryAfter();
+
+        // Then
+        assertTrue(retryAfter.toSeconds() > 30 && retryAfter.toSeconds() <= 91);
+    }
+}
@@ -0,0 +1,96 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.config.EmployeeJournal;
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Durable write throughput of {@link EmployeeJournal} at different group-commit sizes, with {@code writers} writers
+ * that each append one create and wait until it has been fsynced before appending the next, as
+ * {@code MockEmployeeService} does. One benchmark thread keeps the writers' appends in flight: each operation waits for
+ * the oldest and appends again in its place. There are at least as many writers as the largest group, so every group
+ * size can fill; with benchmark threads instead, a group could never hold more records than there are threads. With
+ * one record per fsync throughput is bounded by the disk's sync latency; larger groups let the waiting writers share a
+ * sync. Run on the disk the server would journal to, since sync latency varies by orders of magnitude between devices.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeJournalBenchmark {
+
+    @Param({"1", "8", "64", "512"})
+    public int groupCommit;
+
+    @Param({"512"})
+    public int writers;
+
+    @Param({"true"})
+    public boolean fsync;
+
+    private final MockEmployee employee = MockEmployee.builder()
+            .id(UUID.randomUUID())
+            .name("Employee X")
+            .salary(75000)
+            .age(30)
+            .title("Developer")
+            .email("x@company.com")
+            .build();
+    private Path directory;
+    private EmployeeJournal journal;
+    private long version;
+    private CompletableFuture<?>[] inFlight;
+    private int oldest;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory(Path.of(System.getProperty("java.io.tmpdir")), "employee-journal");
+        journal = EmployeeJournal.open(directory, groupCommit, 1_000_000, fsync);
+        journal.writeSnapshot(0, List.of());
+        inFlight = new CompletableFuture<?>[writers];
+        Arrays.fill(inFlight, CompletableFuture.completedFuture(null));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        CompletableFuture.allOf(inFlight).join();
+        journal.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public void appendCreate() {
+        inFlight[oldest].join();
+        inFlight[oldest] = journal.append(new EmployeeChange(++version, EmployeeChange.Type.CREATED, employee));
+        oldest = (oldest + 1) % writers;
+    }
+}
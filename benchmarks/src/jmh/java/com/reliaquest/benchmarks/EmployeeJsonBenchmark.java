@@ -0,0 +1,75 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeJsonModule;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serialization and deserialization of an employee server response, {@code ApiResponse<List<Employee>>}.
+ * {@code REFLECTIVE} is Jackson's bean binding through {@code PrefixNamingStrategy}, which the api uses by default;
+ * {@code HAND_WRITTEN} registers {@link EmployeeJsonModule}, which the api uses with
+ * {@code employee.json.hand-written-codec}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class EmployeeJsonBenchmark {
+
+    private static final TypeReference<ApiResponse<List<Employee>>> RESPONSE_TYPE = new TypeReference<>() {};
+
+    public enum Codec {
+        REFLECTIVE,
+        HAND_WRITTEN
+    }
+
+    @Param({"10", "1000", "100000"})
+    public int rosterSize;
+
+    @Param({"REFLECTIVE", "HAND_WRITTEN"})
+    public Codec codec;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<List<Employee>> response;
+    private byte[] json;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        objectMapper = new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        if (codec == Codec.HAND_WRITTEN) {
+            objectMapper.registerModule(new EmployeeJsonModule());
+        }
+        response = ApiResponse.handledWith(SyntheticRoster.generate(rosterSize, 42L));
+        json = objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public ApiResponse<List<Employee>> deserialize() throws IOException {
+        return objectMapper.readValue(json, RESPONSE_TYPE);
+    }
+}
@@ -0,0 +1,74 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.helper.EmployeeEventSubscriber;
+import com.reliaquest.api.service.impl.EmployeeServiceImpl;
+import com.reliaquest.api.util.EmployeeCacheMetrics;
+import com.reliaquest.api.util.IdempotencyCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+/**
+ * The in-memory query paths of {@link EmployeeServiceImpl} over synthetic rosters, with the employee server replaced
+ * by {@link StubEmployeeApiHelper}. Run with the gc profiler (enabled by default in {@code build.gradle}) to see
+ * allocation per operation alongside throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class EmployeeQueryBenchmark {
+
+    @Param({"50", "1000", "100000", "1000000"})
+    public int rosterSize;
+
+    // "son" matches about a quarter of the SyntheticRoster names (Anderson, Johnson, Nelson, ...); "xyz" matches none.
+    @Param({"son", "xyz"})
+    public String searchString;
+
+    private EmployeeServiceImpl employeeService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Employee> roster = SyntheticRoster.generate(rosterSize, 42L);
+        employeeService = new EmployeeServiceImpl(
+                new StubEmployeeApiHelper(roster),
+                new EmployeeCacheMetrics(new SimpleMeterRegistry()),
+                new IdempotencyCache<>(1, Duration.ofMinutes(1)),
+                new ConcurrentMapCacheManager(),
+                new StaticListableBeanFactory().getBeanProvider(EmployeeEventSubscriber.class));
+    }
+
+    @Benchmark
+    public List<Employee> getEmployeesByNameSearch() {
+        return employeeService.getEmployeesByNameSearch(searchString);
+    }
+
+    @Benchmark
+    public Integer getHighestSalaryOfEmployees() {
+        return employeeService.getHighestSalaryOfEmployees();
+    }
+
+    @Benchmark
+    public List<String> getTopTenHighestEarningEmployeeNames() {
+        return employeeService.getTopTenHighestEarningEmployeeNames();
+    }
+}
@@ -0,0 +1,50 @@
+package com.reliaquest.benchmarks;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * The employee server's request limiter as it was before the compare-and-set rewrite and pluggable policies, kept as the baseline for
+ * {@link RequestLimitBenchmark}: an {@link AtomicReference} to an immutable record, with the limit check and the update
+ * done as separate steps and a new record and {@link Instant} allocated per admitted request.
+ */
+class LegacyRequestLimitInterceptor implements HandlerInterceptor {
+
+    private final int requestLimitCount;
+    private final Duration requestBackoffDuration;
+    private final AtomicReference<RequestLimit> requestLimit = new AtomicReference<>(RequestLimit.init());
+
+    LegacyRequestLimitInterceptor(int requestLimitCount, Duration requestBackoffDuration) {
+        this.requestLimitCount = requestLimitCount;
+        this.requestBackoffDuration = requestBackoffDuration;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (requestLimit.get().count() >= requestLimitCount) {
+            if (Instant.now().minus(requestBackoffDuration).isBefore(requestLimit.get().lastRequested())) {
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                return false;
+            }
+            if (Instant.now().minus(requestBackoffDuration).isAfter(requestLimit.get().lastRequested())) {
+                requestLimit.set(RequestLimit.init());
+            }
+        } else {
+            requestLimit.getAndUpdate(
+                    currentRequestLimit -> new RequestLimit(currentRequestLimit.count() + 1, Instant.now()));
+        }
+
+        return true;
+    }
+
+    private record RequestLimit(int count, Instant lastRequested) {
+        static RequestLimit init() {
+            return new RequestLimit(0, Instant.now());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.web.RateLimitInterceptor;
+import com.reliaquest.server.web.RateLimitPolicy;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * The employee server's global rate limiters under contention, with every available core calling {@code preHandle} on
+ * one shared {@link RateLimitInterceptor}. Compares each {@link RateLimitPolicy} against the original fixed window,
+ * {@link LegacyRequestLimitInterceptor}, in two regimes:
+ *
+ * <ul>
+ *   <li>{@code THROTTLED} - the limit is used up and the window never ends, so every call is a rejection
+ *   <li>{@code ADMITTING} - a large limit and no window, so nearly every call admits and updates the shared state
+ * </ul>
+ *
+ * Override the thread count with {@code -PjmhThreads} or JMH's {@code -t} to see how each scales.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(Threads.MAX)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestLimitBenchmark {
+
+    public enum Scenario {
+        THROTTLED(5, Duration.ofDays(1)),
+        ADMITTING(65_535, Duration.ZERO);
+
+        final int limit;
+        final Duration backoff;
+
+        Scenario(int limit, Duration backoff) {
+            this.limit = limit;
+            this.backoff = backoff;
+        }
+    }
+
+    @Param({"THROTTLED", "ADMITTING"})
+    public Scenario scenario;
+
+    private HandlerInterceptor fixedWindow;
+    private HandlerInterceptor tokenBucket;
+    private HandlerInterceptor slidingWindow;
+    private HandlerInterceptor legacy;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        fixedWindow = interceptor(RateLimitPolicy.FIXED_WINDOW);
+        tokenBucket = interceptor(RateLimitPolicy.TOKEN_BUCKET);
+        slidingWindow = interceptor(RateLimitPolicy.SLIDING_WINDOW);
+        legacy = new LegacyRequestLimitInterceptor(scenario.limit, scenario.backoff);
+    }
+
+    private RateLimitInterceptor interceptor(RateLimitPolicy policy) {
+        return RateLimitInterceptor.global(policy, policy.newLimiter(scenario.limit, scenario.backoff));
+    }
+
+    @State(Scope.Thread)
+    public static class Exchange {
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public boolean fixedWindow(Exchange exchange) throws Exception {
+        return fixedWindow.preHandle(exchange.request, exchange.response, null);
+    }
+
+    @Benchmark
+    public boolean tokenBucket(Exchange exchange) throws Exception {
+        return tokenBucket.preHandle(exchange.request, exchange.response, null);
+    }
+
+    @Benchmark
+    public boolean slidingWindowLog(Exchange exchange) throws Exception {
+        return slidingWindow.preHandle(exchange.request, exchange.response, null);
+    }
+
+    @Benchmark
+    public boolean legacyAtomicReference(Exchange exchange) throws Exception {
+        return legacy.preHandle(exchange.request, exchange.response, null);
+    }
+}
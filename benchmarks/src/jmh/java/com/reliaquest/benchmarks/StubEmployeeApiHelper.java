@@ -0,0 +1,37 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.Roster;
+import com.reliaquest.api.service.helper.EmployeeApiHelper;
+import java.util.List;
+
+/**
+ * Serves a fixed roster without any HTTP, so benchmarks measure only the service's query logic. The roster is served
+ * as a {@link Roster}, as the real helper does. The server-side aggregates answer without data, which sends the service
+ * down its in-memory roster path.
+ */
+class StubEmployeeApiHelper extends EmployeeApiHelper {
+
+    private final ApiResponse<List<Employee>> response;
+
+    StubEmployeeApiHelper(List<Employee> roster) {
+        super(null);
+        this.response = ApiResponse.handledWith(new Roster(roster, null));
+    }
+
+    @Override
+    public ApiResponse<List<Employee>> getAllEmployeesApiCall() {
+        return response;
+    }
+
+    @Override
+    public ApiResponse<Integer> getHighestSalaryApiCall() {
+        return ApiResponse.handled();
+    }
+
+    @Override
+    public ApiResponse<List<Employee>> getTopEarnersApiCall(int count) {
+        return ApiResponse.handled();
+    }
+}
@@ -0,0 +1,43 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Deterministic synthetic employees for benchmarks. The same size and seed always yield the same roster.
+ */
+final class SyntheticRoster {
+
+    private static final String[] FIRST_NAMES = {
+        "Alice", "Bob", "Carol", "David", "Erin", "Frank", "Grace", "Heidi", "Ivan", "Judy", "Mallory", "Niaj", "Olivia",
+        "Peggy", "Rupert", "Sybil", "Trent", "Victor", "Walter", "Yvonne"
+    };
+    private static final String[] LAST_NAMES = {
+        "Anderson", "Brown", "Clark", "Davis", "Evans", "Garcia", "Harris", "Johnson", "King", "Lewis", "Martin",
+        "Nelson", "Owens", "Parker", "Robinson", "Smith", "Thompson", "Walker", "Young", "Zimmerman"
+    };
+    private static final String[] TITLES = {"Engineer", "Manager", "Analyst", "Designer", "Director", "Consultant"};
+
+    private SyntheticRoster() {}
+
+    static List<Employee> generate(int size, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            employees.add(Employee.builder()
+                    .id(new UUID(random.nextLong(), random.nextLong()))
+                    .name(name)
+                    .salary(random.nextInt(30_000, 500_000))
+                    .age(random.nextInt(16, 70))
+                    .title(TITLES[random.nextInt(TITLES.length)])
+                    .email("employee" + i + "@company.com")
+                    .build());
+        }
+        return employees;
+    }
+}
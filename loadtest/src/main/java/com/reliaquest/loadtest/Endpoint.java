@@ -0,0 +1,71 @@
+package com.reliaquest.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The seven {@code IEmployeeController} endpoints as the load generator exercises them. Each name doubles as its key
+ * in the {@code --mix} option.
+ */
+enum Endpoint {
+    GET_ALL("getAll"),
+    SEARCH("search"),
+    GET_BY_ID("getById"),
+    HIGHEST_SALARY("highestSalary"),
+    TOP_TEN("topTen"),
+    CREATE("create"),
+    DELETE("delete");
+
+    private static final String[] SEARCH_FRAGMENTS = {"an", "son", "er", "li", "ma"};
+    private static final String CREATE_BODY_TEMPLATE =
+            """
+            {"name":"Load Test %d","salary":%d,"age":%d,"title":"Load Tester","email":"load%d@company.com"}""";
+
+    private final String key;
+
+    Endpoint(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    static Endpoint fromKey(String key) {
+        for (Endpoint endpoint : values()) {
+            if (endpoint.key.equalsIgnoreCase(key)) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("Unknown endpoint '%s'".formatted(key));
+    }
+
+    HttpRequest request(String baseUrl, TargetIds ids, Duration timeout) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        HttpRequest.Builder builder = switch (this) {
+            case GET_ALL -> HttpRequest.newBuilder(URI.create(baseUrl)).GET();
+            case SEARCH -> HttpRequest.newBuilder(URI.create(
+                            baseUrl + "/search/" + SEARCH_FRAGMENTS[random.nextInt(SEARCH_FRAGMENTS.length)]))
+                    .GET();
+            case GET_BY_ID -> HttpRequest.newBuilder(URI.create(baseUrl + "/" + ids.existingId()))
+                    .GET();
+            case HIGHEST_SALARY -> HttpRequest.newBuilder(URI.create(baseUrl + "/highestSalary"))
+                    .GET();
+            case TOP_TEN -> HttpRequest.newBuilder(URI.create(baseUrl + "/topTenHighestEarningEmployeeNames"))
+                    .GET();
+            case CREATE -> {
+                int n = random.nextInt(1_000_000);
+                String body =
+                        CREATE_BODY_TEMPLATE.formatted(n, random.nextInt(30_000, 500_000), random.nextInt(18, 70), n);
+                yield HttpRequest.newBuilder(URI.create(baseUrl))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body));
+            }
+            case DELETE -> HttpRequest.newBuilder(URI.create(baseUrl + "/" + ids.deletableId()))
+                    .DELETE();
+        };
+        return builder.timeout(timeout).build();
+    }
+}
@@ -0,0 +1,75 @@
+package com.reliaquest.loadtest;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latencies and outcomes for one endpoint. {@code responseTime} is measured from when the request was scheduled to
+ * be sent, so time spent waiting for a free worker counts (corrected for coordinated omission); {@code serviceTime}
+ * is measured from when it was actually sent.
+ */
+class EndpointStats {
+
+    static final String IO_ERROR = "IO_ERROR";
+
+    /** A create answered 201 whose body did not hold the new employee's ID. */
+    static final String UNREADABLE_BODY = "UNREADABLE_BODY";
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final Histogram responseTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Histogram serviceTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Map<String, LongAdder> statusCounts = new ConcurrentHashMap<>();
+
+    void record(String status, long responseTimeNanos, long serviceTimeNanos) {
+        statusCounts.computeIfAbsent(status, ignored -> new LongAdder()).increment();
+        responseTime.recordValue(clampedMicros(responseTimeNanos));
+        serviceTime.recordValue(clampedMicros(serviceTimeNanos));
+    }
+
+    LoadTestReport.EndpointResult result() {
+        Map<String, Long> counts = new TreeMap<>();
+        statusCounts.forEach((status, count) -> counts.put(status, count.sum()));
+        long requests = counts.values().stream().mapToLong(Long::longValue).sum();
+        long errors = counts.entrySet().stream()
+                .filter(entry -> isError(entry.getKey()))
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+        long shed = counts.getOrDefault("503", 0L);
+        return new LoadTestReport.EndpointResult(
+                requests,
+                counts,
+                errors,
+                requests == 0 ? 0 : (double) errors / requests,
+                shed,
+                LoadTestReport.Latency.of(responseTime),
+                LoadTestReport.Latency.of(serviceTime));
+    }
+
+    Histogram responseTime() {
+        return responseTime;
+    }
+
+    Histogram serviceTime() {
+        return serviceTime;
+    }
+
+    /**
+     * Server errors other than deliberate shedding (503), requests that got no response at all, and creates whose
+     * response could not be read.
+     */
+    static boolean isError(String status) {
+        return IO_ERROR.equals(status)
+                || UNREADABLE_BODY.equals(status)
+                || (status.startsWith("5") && !"503".equals(status));
+    }
+
+    private static long clampedMicros(long nanos) {
+        return Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(nanos), 1), HIGHEST_TRACKABLE_MICROS);
+    }
+}
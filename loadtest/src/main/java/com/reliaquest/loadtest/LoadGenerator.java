@@ -0,0 +1,151 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Open-loop load: request {@code i} is due at {@code start + i / rate} regardless of how long earlier requests took,
+ * and its response time is measured from that due time. When the api stalls and every worker is blocked, the
+ * requests that should have been sent in the meantime are charged for the wait instead of silently going missing.
+ */
+@Slf4j
+class LoadGenerator {
+
+    private final HttpClient httpClient;
+    private final String apiUrl;
+    private final TargetIds targetIds;
+    private final LoadTestOptions options;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Endpoint[] endpoints;
+    private final int[] cumulativeWeights;
+    private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+    private final EndpointStats total = new EndpointStats();
+
+    LoadGenerator(HttpClient httpClient, String apiUrl, TargetIds targetIds, LoadTestOptions options) {
+        this.httpClient = httpClient;
+        this.apiUrl = apiUrl;
+        this.targetIds = targetIds;
+        this.options = options;
+        List<Endpoint> weighted = new ArrayList<>();
+        List<Integer> cumulative = new ArrayList<>();
+        int sum = 0;
+        for (Map.Entry<Endpoint, Integer> entry : options.mix().entrySet()) {
+            if (entry.getValue() > 0) {
+                sum += entry.getValue();
+                weighted.add(entry.getKey());
+                cumulative.add(sum);
+            }
+        }
+        this.endpoints = weighted.toArray(Endpoint[]::new);
+        this.cumulativeWeights = cumulative.stream().mapToInt(Integer::intValue).toArray();
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new EndpointStats());
+        }
+    }
+
+    void run() throws InterruptedException {
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / options.rate());
+        long startNanos = System.nanoTime();
+        long endNanos = startNanos + options.duration().toNanos();
+        AtomicLong sequence = new AtomicLong();
+
+        ExecutorService workers = Executors.newFixedThreadPool(options.threads());
+        for (int i = 0; i < options.threads(); i++) {
+            workers.submit(() -> {
+                while (!Thread.currentThread().isInterrupted()) {
+                    long dueNanos = startNanos + sequence.getAndIncrement() * intervalNanos;
+                    if (dueNanos >= endNanos) {
+                        return;
+                    }
+                    waitUntil(dueNanos);
+                    send(pick(), dueNanos);
+                }
+            });
+        }
+        workers.shutdown();
+        long graceNanos = options.requestTimeout().toNanos() + TimeUnit.SECONDS.toNanos(10);
+        if (!workers.awaitTermination(options.duration().toNanos() + graceNanos, TimeUnit.NANOSECONDS)) {
+            log.warn("Workers still busy after the run; abandoning outstanding requests");
+            workers.shutdownNow();
+        }
+    }
+
+    Map<Endpoint, EndpointStats> stats() {
+        return stats;
+    }
+
+    EndpointStats total() {
+        return total;
+    }
+
+    private void send(Endpoint endpoint, long dueNanos) {
+        long sentNanos = System.nanoTime();
+        String status;
+        try {
+            HttpResponse<String> response = httpClient.send(
+                    endpoint.request(apiUrl, targetIds, options.requestTimeout()),
+                    HttpResponse.BodyHandlers.ofString());
+            status = String.valueOf(response.statusCode());
+            if (endpoint == Endpoint.CREATE && response.statusCode() == 201 && !recordCreated(response.body())) {
+                status = EndpointStats.UNREADABLE_BODY;
+            }
+        } catch (IOException e) {
+            status = EndpointStats.IO_ERROR;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        long doneNanos = System.nanoTime();
+        stats.get(endpoint).record(status, doneNanos - dueNanos, doneNanos - sentNanos);
+        total.record(status, doneNanos - dueNanos, doneNanos - sentNanos);
+    }
+
+    /**
+     * @return whether the body of a 201 from create held the new employee's ID
+     */
+    private boolean recordCreated(String body) {
+        JsonNode id;
+        try {
+            id = objectMapper.readTree(body).path("id");
+        } catch (JsonProcessingException e) {
+            return false;
+        }
+        if (!id.isTextual()) {
+            return false;
+        }
+        targetIds.created(id.asText());
+        return true;
+    }
+
+    private Endpoint pick() {
+        int ticket = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (ticket < cumulativeWeights[i]) {
+                return endpoints[i];
+            }
+        }
+        return endpoints[endpoints.length - 1];
+    }
+
+    private static void waitUntil(long dueNanos) {
+        long remaining;
+        while ((remaining = dueNanos - System.nanoTime()) > 0 && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.reliaquest.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * {@code --name=value} options for {@link LoadTestRunner}. Durations accept {@code 90s}, {@code 2m} or ISO-8601.
+ */
+record LoadTestOptions(
+        Path serverJar,
+        Path apiJar,
+        Path replay,
+        String apiUrl,
+        int apiPort,
+        int serverPort,
+        double rate,
+        Duration duration,
+        int threads,
+        Duration requestTimeout,
+        Map<Endpoint, Integer> mix,
+        Path report,
+        Path logDir) {
+
+    private static final String DEFAULT_MIX =
+            "getAll=30,search=20,getById=20,highestSalary=10,topTen=10,create=5,delete=5";
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got '%s'".formatted(arg));
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return new LoadTestOptions(
+                pathOrNull(values.get("server-jar")),
+                pathOrNull(values.get("api-jar")),
+                pathOrNull(values.get("replay")),
+                values.get("api-url"),
+                Integer.parseInt(values.getOrDefault("api-port", "18111")),
+                Integer.parseInt(values.getOrDefault("server-port", "18112")),
+                Double.parseDouble(values.getOrDefault("rate", "20")),
+                parseDuration(values.getOrDefault("duration", "60s")),
+                Integer.parseInt(values.getOrDefault("threads", "64")),
+                parseDuration(values.getOrDefault("request-timeout", "300s")),
+                parseMix(values.getOrDefault("mix", DEFAULT_MIX)),
+                Path.of(values.getOrDefault("report", "loadtest-report.json")),
+                Path.of(values.getOrDefault("log-dir", ".")));
+    }
+
+    boolean bootsApplications() {
+        return apiUrl == null;
+    }
+
+    static Duration parseDuration(String value) {
+        String normalized = value.trim().toUpperCase(Locale.ROOT);
+        return Duration.parse(normalized.startsWith("P") ? normalized : "PT" + normalized);
+    }
+
+    static Map<Endpoint, Integer> parseMix(String value) {
+        Map<Endpoint, Integer> mix = new LinkedHashMap<>();
+        Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(entry -> !entry.isEmpty())
+                .forEach(entry -> {
+                    String[] parts = entry.split("=");
+                    int weight = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1;
+                    if (weight < 0) {
+                        throw new IllegalArgumentException("Negative weight for '%s'".formatted(parts[0]));
+                    }
+                    mix.put(Endpoint.fromKey(parts[0].trim()), weight);
+                });
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("Endpoint mix '%s' has no positive weights".formatted(value));
+        }
+        return mix;
+    }
+
+    private static Path pathOrNull(String value) {
+        return value != null ? Path.of(value) : null;
+    }
+}
@@ -0,0 +1,53 @@
+package com.reliaquest.loadtest;
+
+import java.time.Instant;
+import java.util.Map;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Machine-readable result of one load test run, written as JSON so runs can be diffed and compared.
+ */
+record LoadTestReport(
+        Instant startedAt,
+        Config config,
+        double elapsedSeconds,
+        long requests,
+        double achievedRate,
+        Map<String, EndpointResult> endpoints,
+        EndpointResult total,
+        Long upstreamCalls,
+        Double apiRequestsPerUpstreamCall) {
+
+    record Config(
+            String apiUrl,
+            double targetRate,
+            double durationSeconds,
+            int threads,
+            Map<String, Integer> mix,
+            int rosterSize) {}
+
+    record EndpointResult(
+            long requests,
+            Map<String, Long> statusCounts,
+            long errors,
+            double errorRate,
+            long shed,
+            Latency responseTimeMicros,
+            Latency serviceTimeMicros) {}
+
+    record Latency(long p50, long p90, long p99, long p999, long max, double mean) {
+
+        static Latency of(Histogram histogram) {
+            if (histogram.getTotalCount() == 0) {
+                return new Latency(0, 0, 0, 0, 0, 0);
+            }
+            return new Latency(
+                    histogram.getValueAtPercentile(50),
+                    histogram.getValueAtPercentile(90),
+                    histogram.getValueAtPercentile(99),
+                    histogram.getValueAtPercentile(99.9),
+                    histogram.getMaxValue(),
+                    histogram.getMean());
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.reliaquest.loadtest.replay.ReplayServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Boots the mock server (or a {@link ReplayServer} for {@code --replay}) and the api from their boot jars, unless
+ * {@code --api-url} points at a running api, drives
+ * the configured endpoint mix with {@link LoadGenerator} and writes a {@link LoadTestReport}. The number of employee
+ * server calls is read from the api's {@code employee.upstream.requests} meter before and after the run.
+ */
+@Slf4j
+public final class LoadTestRunner {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final String UPSTREAM_REQUESTS_METRIC = "/metrics/employee.upstream.requests";
+
+    private final LoadTestOptions options;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .enable(SerializationFeature.INDENT_OUTPUT);
+    private final List<Process> processes = new ArrayList<>();
+    private ReplayServer replayServer;
+
+    private LoadTestRunner(LoadTestOptions options) {
+        this.options = options;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestRunner runner = new LoadTestRunner(LoadTestOptions.parse(args));
+        try {
+            runner.run();
+        } finally {
+            runner.stopApplications();
+        }
+    }
+
+    private void run() throws IOException, InterruptedException {
+        String apiUrl = options.apiUrl();
+        if (options.bootsApplications()) {
+            Files.createDirectories(options.logDir());
+            if (options.replay() != null) {
+                replayServer = new ReplayServer(options.replay(), options.serverPort());
+            } else {
+                startApplication("server", options.serverJar(), "--server.port=" + options.serverPort());
+                awaitPort(options.serverPort());
+            }
+            startApplication(
+                    "api",
+                    options.apiJar(),
+                    "--server.port=" + options.apiPort(),
+                    "--employee.server.url=http://localhost:%d/api/v1/employee".formatted(options.serverPort()));
+            apiUrl = "http://localhost:%d/api/v1/employee".formatted(options.apiPort());
+        }
+        String actuatorUrl = URI.create(apiUrl).resolve("/actuator").toString();
+        awaitHealthy(actuatorUrl + "/health");
+
+        TargetIds targetIds = new TargetIds(fetchRosterIds(apiUrl));
+        Long upstreamCallsBefore = upstreamCalls(actuatorUrl);
+        Instant startedAt = Instant.now();
+        log.info(
+                "Driving {} req/s for {} with {} workers against {}",
+                options.rate(),
+                options.duration(),
+                options.threads(),
+                apiUrl);
+
+        LoadGenerator generator = new LoadGenerator(httpClient, apiUrl, targetIds, options);
+        long startNanos = System.nanoTime();
+        generator.run();
+        double elapsedSeconds = (System.nanoTime() - startNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+        Long upstreamCallsAfter = upstreamCalls(actuatorUrl);
+
+        Map<String, LoadTestReport.EndpointResult> endpoints = new LinkedHashMap<>();
+        generator.stats().forEach((endpoint, stats) -> endpoints.put(endpoint.key(), stats.result()));
+        LoadTestReport.EndpointResult total = generator.total().result();
+        Long upstreamCalls = upstreamCallsBefore != null && upstreamCallsAfter != null
+                ? upstreamCallsAfter - upstreamCallsBefore
+                : null;
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        options.mix().forEach((endpoint, weight) -> mix.put(endpoint.key(), weight));
+
+        LoadTestReport report = new LoadTestReport(
+                startedAt,
+                new LoadTestReport.Config(
+                        apiUrl,
+                        options.rate(),
+                        options.duration().toMillis() / 1000.0,
+                        options.threads(),
+                        mix,
+                        targetIds.rosterSize()),
+                elapsedSeconds,
+                total.requests(),
+                total.requests() / elapsedSeconds,
+                endpoints,
+                total,
+                upstreamCalls,
+                upstreamCalls != null && upstreamCalls > 0 ? (double) total.requests() / upstreamCalls : null);
+
+        Path reportPath = options.report().toAbsolutePath();
+        Files.createDirectories(reportPath.getParent());
+        objectMapper.writeValue(reportPath.toFile(), report);
+        log.info(
+                "{} requests, error rate {}, p99 {}us, {} api requests per upstream call. Report: {}",
+                total.requests(),
+                "%.4f".formatted(total.errorRate()),
+                total.responseTimeMicros().p99(),
+                report.apiRequestsPerUpstreamCall(),
+                reportPath);
+    }
+
+    private void startApplication(String name, Path jar, String... arguments) throws IOException {
+        if (jar == null || !Files.exists(jar)) {
+            throw new IllegalArgumentException("Missing --%s-jar (got %s)".formatted(name, jar));
+        }
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.add("-jar");
+        command.add(jar.toString());
+        command.addAll(List.of(arguments));
+        Path logFile = options.logDir().resolve(name + ".log");
+        log.info("Starting {} (log: {})", name, logFile);
+        processes.add(new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start());
+    }
+
+    private void stopApplications() throws InterruptedException {
+        if (replayServer != null) {
+            replayServer.close();
+        }
+        for (Process process : processes) {
+            process.destroy();
+        }
+        for (Process process : processes) {
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    /*
+     * The server's rate limiter counts every HTTP request, so readiness is checked with a plain TCP connect.
+     */
+    private void awaitPort(int port) throws InterruptedException {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            assertApplicationsAlive();
+            try (Socket socket = new Socket()) {
+                socket.connect(new InetSocketAddress("localhost", port), 500);
+                return;
+            } catch (IOException e) {
+                Thread.sleep(250);
+            }
+        }
+        throw new IllegalStateException("Nothing listening on port %d after %s".formatted(port, STARTUP_TIMEOUT));
+    }
+
+    private void awaitHealthy(String healthUrl) throws InterruptedException {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            assertApplicationsAlive();
+            try {
+                if (get(healthUrl).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // not up yet
+            }
+            Thread.sleep(250);
+        }
+        throw new IllegalStateException("%s not healthy after %s".formatted(healthUrl, STARTUP_TIMEOUT));
+    }
+
+    private void assertApplicationsAlive() {
+        for (Process process : processes) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(
+                        "Application exited with %d; see logs in %s".formatted(process.exitValue(), options.logDir()));
+            }
+        }
+    }
+
+    private List<String> fetchRosterIds(String apiUrl) throws InterruptedException {
+        List<String> ids = new ArrayList<>();
+        try {
+            HttpResponse<String> response = get(apiUrl);
+            if (response.statusCode() == 200) {
+                for (JsonNode employee : objectMapper.readTree(response.body())) {
+                    ids.add(employee.path("id").asText());
+                }
+            } else {
+                log.warn("Roster fetch returned {}; by-id requests will use random IDs", response.statusCode());
+            }
+        } catch (IOException e) {
+            log.warn("Roster fetch failed; by-id requests will use random IDs", e);
+        }
+        return ids;
+    }
+
+    /**
+     * @return total employee server calls the api has made, or {@code null} if the api does not expose the meter
+     */
+    private Long upstreamCalls(String actuatorUrl) throws InterruptedException {
+        try {
+            HttpResponse<String> response = get(actuatorUrl + UPSTREAM_REQUESTS_METRIC);
+            if (response.statusCode() == 404) {
+                return 0L;
+            }
+            if (response.statusCode() != 200) {
+                return null;
+            }
+            for (JsonNode measurement : objectMapper.readTree(response.body()).path("measurements")) {
+                if ("COUNT".equals(measurement.path("statistic").asText())) {
+                    return measurement.path("value").asLong();
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not read {}", UPSTREAM_REQUESTS_METRIC, e);
+        }
+        return null;
+    }
+
+    private HttpResponse<String> get(String url) throws IOException, InterruptedException {
+        return httpClient.send(
+                HttpRequest.newBuilder(URI.create(url))
+                        .timeout(options.requestTimeout())
+                        .GET()
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,41 @@
+package com.reliaquest.loadtest;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Employee IDs for the by-id endpoints: reads pick from the roster fetched before the run, deletes consume employees
+ * created during the run so the starting roster is left intact. Falls back to random IDs (404s) when none are known.
+ */
+class TargetIds {
+
+    private final List<String> rosterIds;
+    private final Queue<String> createdIds = new ConcurrentLinkedQueue<>();
+
+    TargetIds(List<String> rosterIds) {
+        this.rosterIds = List.copyOf(rosterIds);
+    }
+
+    String existingId() {
+        if (rosterIds.isEmpty()) {
+            return UUID.randomUUID().toString();
+        }
+        return rosterIds.get(ThreadLocalRandom.current().nextInt(rosterIds.size()));
+    }
+
+    String deletableId() {
+        String id = createdIds.poll();
+        return id != null ? id : UUID.randomUUID().toString();
+    }
+
+    void created(String id) {
+        createdIds.add(id);
+    }
+
+    int rosterSize() {
+        return rosterIds.size();
+    }
+}
@@ -0,0 +1,21 @@
+package com.reliaquest.loadtest.replay;
+
+import java.util.Map;
+
+/**
+ * One employee server exchange as the api's {@code UpstreamRecordingInterceptor} writes it, one JSON object per line.
+ * The loadtest module reads recordings with this copy rather than depending on the api for one record.
+ *
+ * @param offsetMillis when the request was sent, relative to the start of the recording
+ * @param durationMillis time until the response was received
+ * @param headers response headers worth replaying ({@code Content-Type}, {@code Retry-After})
+ */
+record RecordedExchange(
+        long offsetMillis,
+        String method,
+        String path,
+        String requestBody,
+        int status,
+        long durationMillis,
+        Map<String, String> headers,
+        String responseBody) {}
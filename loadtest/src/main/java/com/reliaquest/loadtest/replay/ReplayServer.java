@@ -0,0 +1,159 @@
+package com.reliaquest.loadtest.replay;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serves a recording made by the api's {@code UpstreamRecordingInterceptor} in place of the mock employee server.
+ * Each request is answered with the next recorded exchange for the same method and path (or, failing that, the same
+ * method and path template, with employee IDs collapsed to {@code {id}}). Responses, 429s included, are replayed in
+ * recorded order and cycle once exhausted.
+ *
+ * <p>The replay clock starts with the first request, which lines up with the first recorded exchange. A response is
+ * not sent before its exchange's recorded offset plus duration on that clock, each cycle starting where the previous
+ * one ended, so the windows in which the employee server throttled fall at the same times in every run. A client
+ * slower than the recording gets each response as soon as it asks, after the recorded duration.
+ */
+@Slf4j
+public class ReplayServer implements AutoCloseable {
+
+    private static final Pattern UUID_SEGMENT =
+            Pattern.compile("/[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
+
+    private final Map<String, Track> exactTracks = new HashMap<>();
+    private final Map<String, Track> templateTracks = new HashMap<>();
+    private final HttpServer httpServer;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final long firstOffsetMillis;
+    private final long cycleMillis;
+    private final AtomicLong replayStartNanos = new AtomicLong();
+
+    public ReplayServer(Path recording, int port) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        int exchanges = 0;
+        long firstOffset = Long.MAX_VALUE;
+        long end = 0;
+        for (String line : Files.readAllLines(recording, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            RecordedExchange exchange = objectMapper.readValue(line, RecordedExchange.class);
+            exactTracks
+                    .computeIfAbsent(exchange.method() + " " + exchange.path(), ignored -> new Track())
+                    .add(exchange);
+            templateTracks
+                    .computeIfAbsent(templateKey(exchange.method(), exchange.path()), ignored -> new Track())
+                    .add(exchange);
+            firstOffset = Math.min(firstOffset, exchange.offsetMillis());
+            end = Math.max(end, exchange.offsetMillis() + exchange.durationMillis());
+            exchanges++;
+        }
+        firstOffsetMillis = exchanges > 0 ? firstOffset : 0;
+        cycleMillis = Math.max(end - firstOffsetMillis, 1);
+        httpServer = HttpServer.create(new InetSocketAddress(port), 0);
+        httpServer.createContext("/", this::handle);
+        httpServer.setExecutor(executor);
+        httpServer.start();
+        log.info("Replaying {} exchanges from {} on port {}", exchanges, recording, port);
+    }
+
+    public int port() {
+        return httpServer.getAddress().getPort();
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("Usage: ReplayServer <recording.jsonl> [port]");
+            System.exit(2);
+        }
+        new ReplayServer(Path.of(args[0]), args.length > 1 ? Integer.parseInt(args[1]) : 8112);
+    }
+
+    @Override
+    public void close() {
+        httpServer.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange httpExchange) throws IOException {
+        try (httpExchange; InputStream requestBody = httpExchange.getRequestBody()) {
+            requestBody.readAllBytes();
+            String method = httpExchange.getRequestMethod();
+            String path = httpExchange.getRequestURI().getRawPath();
+            Track track = exactTracks.getOrDefault(method + " " + path, templateTracks.get(templateKey(method, path)));
+            if (track == null) {
+                httpExchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            long receivedNanos = System.nanoTime();
+            long startNanos = replayStartNanos.compareAndSet(0, receivedNanos) ? receivedNanos : replayStartNanos.get();
+            long index = track.nextIndex();
+            RecordedExchange recorded = track.get(index);
+            long dueMillis = track.cycle(index) * cycleMillis + recorded.offsetMillis() - firstOffsetMillis;
+            long dueNanos = Math.max(startNanos + TimeUnit.MILLISECONDS.toNanos(dueMillis), receivedNanos)
+                    + TimeUnit.MILLISECONDS.toNanos(recorded.durationMillis());
+            TimeUnit.NANOSECONDS.sleep(dueNanos - System.nanoTime());
+            recorded.headers().forEach(httpExchange.getResponseHeaders()::add);
+            byte[] body = recorded.responseBody() != null
+                    ? recorded.responseBody().getBytes(StandardCharsets.UTF_8)
+                    : new byte[0];
+            httpExchange.sendResponseHeaders(recorded.status(), body.length == 0 ? -1 : body.length);
+            if (body.length > 0) {
+                try (OutputStream responseBody = httpExchange.getResponseBody()) {
+                    responseBody.write(body);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String templateKey(String method, String path) {
+        return method + " " + UUID_SEGMENT.matcher(path).replaceFirst("/{id}");
+    }
+
+    private static final class Track {
+
+        private final List<RecordedExchange> exchanges = new ArrayList<>();
+        private final AtomicLong cursor = new AtomicLong();
+
+        void add(RecordedExchange exchange) {
+            exchanges.add(exchange);
+        }
+
+        long nextIndex() {
+            return cursor.getAndIncrement();
+        }
+
+        RecordedExchange get(long index) {
+            return exchanges.get((int) (index % exchanges.size()));
+        }
+
+        /**
+         * @return how many times the track had been played through before {@code index}
+         */
+        long cycle(long index) {
+            return index / exchanges.size();
+        }
+    }
+}
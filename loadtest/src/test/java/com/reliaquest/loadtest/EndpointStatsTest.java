@@ -0,0 +1,91 @@
+package com.reliaquest.loadtest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class EndpointStatsTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    void result_CountsErrorsAndShedSeparately() {
+        // Given
+        EndpointStats stats = new EndpointStats();
+        record(stats, "200", 90);
+        record(stats, "503", 4);
+        record(stats, "500", 3);
+        record(stats, "404", 1);
+        record(stats, EndpointStats.IO_ERROR, 1);
+        record(stats, EndpointStats.UNREADABLE_BODY, 1);
+
+        // When
+        LoadTestReport.EndpointResult result = stats.result();
+
+        // Then
+        assertEquals(100, result.requests());
+        assertEquals(
+                Map.of("200", 90L, "404", 1L, "500", 3L, "503", 4L, "IO_ERROR", 1L, "UNREADABLE_BODY", 1L),
+                result.statusCounts());
+        assertEquals(5, result.errors());
+        assertEquals(0.05, result.errorRate(), 1e-9);
+        assertEquals(4, result.shed());
+    }
+
+    @Test
+    void result_ReportsPercentilesInMicros() {
+        // Given
+        EndpointStats stats = new EndpointStats();
+        for (int millis = 1; millis <= 1000; millis++) {
+            stats.record("200", millis * MILLIS, MILLIS);
+        }
+
+        // When
+        LoadTestReport.EndpointResult result = stats.result();
+
+        // Then: HdrHistogram keeps three significant digits
+        LoadTestReport.Latency responseTime = result.responseTimeMicros();
+        assertEquals(500_000, responseTime.p50(), 500);
+        assertEquals(900_000, responseTime.p90(), 900);
+        assertEquals(990_000, responseTime.p99(), 990);
+        assertEquals(999_000, responseTime.p999(), 999);
+        assertEquals(1_000_000, responseTime.max(), 1000);
+        assertEquals(500_500, responseTime.mean(), 500);
+        assertEquals(1000, result.serviceTimeMicros().p50(), 1);
+    }
+
+    @Test
+    void record_ClampsToTrackableRange() {
+        // Given
+        EndpointStats stats = new EndpointStats();
+
+        // When
+        stats.record("200", 0, -5);
+        stats.record("200", TimeUnit.HOURS.toNanos(1), TimeUnit.HOURS.toNanos(1));
+
+        // Then
+        assertEquals(1, stats.responseTime().getMinValue());
+        assertTrue(stats.serviceTime()
+                .valuesAreEquivalent(TimeUnit.MINUTES.toMicros(10), stats.serviceTime().getMaxValue()));
+        assertEquals(2, stats.result().requests());
+    }
+
+    @Test
+    void result_IsEmptyWithoutRequests() {
+        // When
+        LoadTestReport.EndpointResult result = new EndpointStats().result();
+
+        // Then
+        assertEquals(0, result.requests());
+        assertEquals(0.0, result.errorRate());
+        assertEquals(new LoadTestReport.Latency(0, 0, 0, 0, 0, 0), result.responseTimeMicros());
+    }
+
+    private static void record(EndpointStats stats, String status, int times) {
+        for (int i = 0; i < times; i++) {
+            stats.record(status, MILLIS, MILLIS);
+        }
+    }
+}
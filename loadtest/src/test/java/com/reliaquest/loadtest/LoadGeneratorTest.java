@@ -0,0 +1,118 @@
+package com.reliaquest.loadtest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LoadGeneratorTest {
+
+    private HttpServer api;
+    private String apiUrl;
+    private volatile String createResponse;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        api = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        api.createContext("/api/v1/employee", this::handle);
+        api.start();
+        apiUrl = "http://localhost:%d/api/v1/employee".formatted(api.getAddress().getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        api.stop(0);
+    }
+
+    @Test
+    void run_ChargesQueueingDelayToResponseTime() throws Exception {
+        // Given: 10 requests due 50ms apart, one worker and an api that takes 100ms per request
+        LoadGenerator generator = generator("getAll=1");
+
+        // When
+        generator.run();
+
+        // Then: service time stays near 100ms while the backlog shows up in response time
+        EndpointStats stats = generator.stats().get(Endpoint.GET_ALL);
+        assertEquals(10, stats.responseTime().getTotalCount());
+        assertTrue(stats.serviceTime().getMaxValue() < TimeUnit.MILLISECONDS.toMicros(300));
+        assertTrue(stats.responseTime().getMaxValue() >= TimeUnit.MILLISECONDS.toMicros(500));
+        assertTrue(stats.responseTime().getMean() > 2 * stats.serviceTime().getMean());
+    }
+
+    @Test
+    void run_CountsUnreadableCreateResponsesSeparately() throws Exception {
+        // Given
+        createResponse = "not json";
+        LoadGenerator generator = generator("create=1");
+
+        // When
+        generator.run();
+
+        // Then
+        Map<String, Long> counts = generator.stats().get(Endpoint.CREATE).result().statusCounts();
+        assertEquals(Map.of(EndpointStats.UNREADABLE_BODY, 10L), counts);
+        assertEquals(10, generator.total().result().errors());
+    }
+
+    @Test
+    void run_RemembersCreatedIds() throws Exception {
+        // Given
+        createResponse = "{\"id\":\"4a3a170b-22cd-4ac2-aad1-9bb5b34a1507\"}";
+        TargetIds targetIds = new TargetIds(List.of());
+        LoadGenerator generator = generator("create=1", targetIds);
+
+        // When
+        generator.run();
+
+        // Then
+        assertEquals(Map.of("201", 10L), generator.stats().get(Endpoint.CREATE).result().statusCounts());
+        assertEquals("4a3a170b-22cd-4ac2-aad1-9bb5b34a1507", targetIds.deletableId());
+    }
+
+    private LoadGenerator generator(String mix) {
+        return generator(mix, new TargetIds(List.of()));
+    }
+
+    private LoadGenerator generator(String mix, TargetIds targetIds) {
+        LoadTestOptions options = LoadTestOptions.parse(
+                new String[] {"--api-url=" + apiUrl, "--rate=20", "--duration=0.5s", "--threads=1", "--mix=" + mix});
+        HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        return new LoadGenerator(httpClient, apiUrl, targetIds, options);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            exchange.getRequestBody().readAllBytes();
+            if ("POST".equals(exchange.getRequestMethod())) {
+                respond(exchange, 201, createResponse);
+                return;
+            }
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, "[]");
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
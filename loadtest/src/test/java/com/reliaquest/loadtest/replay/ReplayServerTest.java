@@ -0,0 +1,71 @@
+package com.reliaquest.loadtest.replay;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ReplayServerTest {
+
+    private static final String EXCHANGE =
+            """
+            {"offsetMillis":%d,"method":"GET","path":"/api/v1/employee","status":%d,"durationMillis":%d,\
+            "headers":{"Content-Type":"application/json"},"responseBody":"{}"}""";
+
+    private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void handle_HoldsResponsesUntilTheirRecordedOffset() throws Exception {
+        // Given: a 200 at 1s into the recording, then a 429 at 1.4s and a 200 at 1.5s
+        Path recording = directory.resolve("upstream.jsonl");
+        Files.write(
+                recording,
+                List.of(
+                        EXCHANGE.formatted(1000, 200, 10),
+                        EXCHANGE.formatted(1400, 429, 10),
+                        EXCHANGE.formatted(1500, 200, 10)));
+
+        try (ReplayServer replayServer = new ReplayServer(recording, 0)) {
+            // When: requested back to back
+            long startNanos = System.nanoTime();
+            int first = get(replayServer);
+            long firstMillis = millisSince(startNanos);
+            int second = get(replayServer);
+            long secondMillis = millisSince(startNanos);
+            int third = get(replayServer);
+            long thirdMillis = millisSince(startNanos);
+            int fourth = get(replayServer);
+            long fourthMillis = millisSince(startNanos);
+
+            // Then: the first lines up with the start of the recording; the rest keep their spacing, cycling after
+            assertEquals(List.of(200, 429, 200, 200), List.of(first, second, third, fourth));
+            assertTrue(firstMillis < 400, "first after " + firstMillis + "ms");
+            assertTrue(secondMillis >= 410, "second after " + secondMillis + "ms");
+            assertTrue(thirdMillis >= 510, "third after " + thirdMillis + "ms");
+            assertTrue(fourthMillis >= 520, "fourth after " + fourthMillis + "ms");
+        }
+    }
+
+    private int get(ReplayServer replayServer) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + replayServer.port() + "/api/v1/employee"))
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString()).statusCode();
+    }
+
+    private static long millisSince(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+}
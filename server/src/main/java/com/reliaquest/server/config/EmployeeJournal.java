@@ -0,0 +1,506 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.RosterVersion;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only journal of roster changes plus periodic roster snapshots, so that a restarted server comes back with the
+ * roster it had instead of a new random one.
+ *
+ * <ul>
+ *   <li>Changes are appended to the current segment file, {@code journal-<first version>.log}, by one writer thread.
+ *       {@link #append} returns a future that completes once the record is on disk. The writer takes up to
+ *       {@code groupCommit} queued records per write and fsync, so concurrent writers share one sync
+ *   <li>A record is an int payload length, the payload (version as a long, change type as a byte, then the employee in
+ *       the per-employee encoding of the binary roster format, see {@link MockEmployeeFiles}) and a CRC32 of the
+ *       payload. Recovery stops reading a segment at its first short or corrupt record, which is where a crash cut off
+ *       the last write, and truncates the segment there
+ *   <li>Once a segment holds {@code segmentRecords} records the writer starts a new one and takes a snapshot: the
+ *       roster at a version, from the snapshot source, written as a binary roster file {@code snapshot-<version>.bin}.
+ *       Once the snapshot is durable, older snapshots and segments that hold only older versions are deleted
+ *   <li>{@link #open} loads the latest snapshot and the segments' records after it, for the caller to replay. The
+ *       versions continue from there, in the {@link RosterVersion} epoch kept in the {@code epoch} file. A journal
+ *       with no snapshot and no changes starts over at version 0 and so in a new epoch. An unreadable snapshot,
+ *       changes without a snapshot, or missing versions fail {@code open} rather than drop acknowledged changes
+ * </ul>
+ */
+@Slf4j
+public class EmployeeJournal implements Closeable {
+
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".bin";
+    private static final String EPOCH_FILE = "epoch";
+    private static final EmployeeChange.Type[] TYPES = EmployeeChange.Type.values();
+    private static final Pending CLOSE = new Pending(null, null);
+
+    /**
+     * The roster as of {@code version}, that is with every change up to and including it.
+     */
+    public record Snapshot(long version, List<MockEmployee> roster) {}
+
+    /**
+     * What {@link #open} found: the latest snapshot, if any, and the changes after it in version order.
+     */
+    public record Recovery(Snapshot snapshot, List<EmployeeChange> tail) {
+
+        public long lastVersion() {
+            if (!tail.isEmpty()) {
+                return tail.get(tail.size() - 1).version();
+            }
+            return snapshot == null ? 0 : snapshot.version();
+        }
+    }
+
+    private final Path directory;
+    private final int groupCommit;
+    private final long segmentRecords;
+    private final boolean fsync;
+    private final Recovery recovery;
+    private final String epoch;
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private final ExecutorService snapshotter = Executors.newSingleThreadExecutor(runnable -> {
+        final var thread = new Thread(runnable, "employee-journal-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Supplier<Snapshot> snapshotSource;
+    // Guarded by this.
+    private long snapshotVersion;
+    private volatile boolean closed;
+    // Set once the writer has stopped taking changes; anything queued after that is failed rather than left waiting.
+    private volatile boolean stopped;
+    private volatile IOException failure;
+
+    // Writer thread only.
+    private FileChannel segment;
+    private long recordsInSegment;
+    private long lastVersion;
+
+    private EmployeeJournal(Path directory, int groupCommit, long segmentRecords, boolean fsync, Recovery recovery)
+            throws IOException {
+        this.directory = directory;
+        this.groupCommit = groupCommit;
+        this.segmentRecords = segmentRecords;
+        this.fsync = fsync;
+        this.recovery = recovery;
+        this.epoch = recoverEpoch();
+        this.snapshotVersion = recovery.snapshot() == null ? -1 : recovery.snapshot().version();
+        this.lastVersion = recovery.lastVersion();
+        openSegment(lastVersion + 1);
+        this.writer = new Thread(this::writeLoop, "employee-journal");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Recovers the journal in {@code directory}, creating it if needed, and starts appending after the last recovered
+     * version.
+     */
+    public static EmployeeJournal open(Path directory, int groupCommit, long segmentRecords, boolean fsync)
+            throws IOException {
+        if (groupCommit < 1 || segmentRecords < 1) {
+            throw new IllegalArgumentException("groupCommit and segmentRecords must be positive");
+        }
+        Files.createDirectories(directory);
+        final long started = System.nanoTime();
+        final var recovery = recover(directory);
+        if (recovery.snapshot() != null) {
+            log.info(
+                    "Recovered {} employees at version {} and {} later changes from {} in {}ms",
+                    recovery.snapshot().roster().size(),
+                    recovery.snapshot().version(),
+                    recovery.tail().size(),
+                    directory,
+                    (System.nanoTime() - started) / 1_000_000);
+        }
+        return new EmployeeJournal(directory, groupCommit, segmentRecords, fsync, recovery);
+    }
+
+    public Recovery getRecovery() {
+        return recovery;
+    }
+
+    /**
+     * @return the epoch the recovered and appended versions belong to
+     */
+    public String getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Sets where roster snapshots come from when a segment fills up; the snapshot must be consistent with its version.
+     */
+    public void setSnapshotSource(Supplier<Snapshot> snapshotSource) {
+        this.snapshotSource = snapshotSource;
+    }
+
+    /**
+     * Queues {@code change} for the writer. Changes must be appended in version order.
+     *
+     * @return a future completed once the change is durable, or failed if it could not be written
+     */
+    public CompletableFuture<Void> append(EmployeeChange change) {
+        if (closed) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Employee journal is closed"));
+        }
+        final var pending = new Pending(change, new CompletableFuture<>());
+        queue.add(pending);
+        if (stopped) {
+            // Raced with close(): the writer may have gone without seeing this change.
+            failLeftovers();
+        }
+        return pending.done;
+    }
+
+    /**
+     * Writes {@code roster} as the snapshot at {@code version}, atomically and durably, then deletes the snapshots and
+     * segments it makes obsolete. Does nothing if there already is a snapshot at or after {@code version}.
+     */
+    public synchronized void writeSnapshot(long version, Collection<MockEmployee> roster) throws IOException {
+        if (version <= snapshotVersion) {
+            return;
+        }
+        final long started = System.nanoTime();
+        final var file = directory.resolve(SNAPSHOT_PREFIX + version + SNAPSHOT_SUFFIX);
+        final var temporary = directory.resolve(file.getFileName() + ".tmp");
+        MockEmployeeFiles.writeBinary(roster, temporary);
+        if (Files.size(temporary) > Integer.MAX_VALUE) {
+            // MockEmployeeFiles could not read it back, and the segments it replaces would be deleted.
+            Files.delete(temporary);
+            throw new IOException("Roster snapshot at version " + version + " would be over 2GB");
+        }
+        try (var channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        syncDirectory();
+        snapshotVersion = version;
+        for (Path older : files(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX)) {
+            if (version(older, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX) < version) {
+                Files.deleteIfExists(older);
+            }
+        }
+        // A segment holds only versions up to the snapshot when the next segment starts at or before the one after it.
+        final var segments = files(SEGMENT_PREFIX, SEGMENT_SUFFIX);
+        for (int i = 0; i + 1 < segments.size(); i++) {
+            if (version(segments.get(i + 1), SEGMENT_PREFIX, SEGMENT_SUFFIX) <= version + 1) {
+                Files.deleteIfExists(segments.get(i));
+            }
+        }
+        log.info(
+                "Wrote snapshot of {} employees at version {} in {}ms",
+                roster.size(),
+                version,
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Writes everything already appended, then stops the writer.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        queue.add(CLOSE);
+        try {
+            writer.join();
+            snapshotter.shutdown();
+            snapshotter.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeLoop() {
+        final var batch = new ArrayList<Pending>(groupCommit);
+        final var payload = new Buffer();
+        final var payloadOut = new DataOutputStream(payload);
+        final var records = new Buffer();
+        final var recordsOut = new DataOutputStream(records);
+        final var crc = new CRC32();
+        boolean closing = false;
+        while (!closing) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            queue.drainTo(batch, groupCommit - 1);
+            closing = batch.remove(CLOSE);
+            if (batch.isEmpty()) {
+                continue;
+            }
+            try {
+                if (failure != null) {
+                    throw failure;
+                }
+                records.reset();
+                for (Pending pending : batch) {
+                    payload.reset();
+                    payloadOut.writeLong(pending.change.version());
+                    payloadOut.writeByte(pending.change.type().ordinal());
+                    MockEmployeeFiles.writeEmployee(payloadOut, pending.change.employee());
+                    crc.reset();
+                    crc.update(payload.array(), 0, payload.size());
+                    recordsOut.writeInt(payload.size());
+                    payload.writeTo(recordsOut);
+                    recordsOut.writeInt((int) crc.getValue());
+                }
+                final var buffer = ByteBuffer.wrap(records.array(), 0, records.size());
+                while (buffer.hasRemaining()) {
+                    segment.write(buffer);
+                }
+                if (fsync) {
+                    segment.force(false);
+                }
+                lastVersion = batch.get(batch.size() - 1).change.version();
+                recordsInSegment += batch.size();
+                batch.forEach(pending -> pending.done.complete(null));
+                if (recordsInSegment >= segmentRecords) {
+                    rollSegment();
+                }
+            } catch (IOException e) {
+                if (failure == null) {
+                    log.error("Employee journal failed; further writes will fail", e);
+                    failure = e;
+                }
+                batch.forEach(pending -> pending.done.completeExceptionally(new UncheckedIOException(failure)));
+            }
+            batch.clear();
+        }
+        try {
+            segment.close();
+        } catch (IOException e) {
+            log.warn("Failed to close employee journal segment", e);
+        }
+        stopped = true;
+        failLeftovers();
+    }
+
+    private void failLeftovers() {
+        Pending leftover;
+        while ((leftover = queue.poll()) != null) {
+            if (leftover != CLOSE) {
+                leftover.done.completeExceptionally(new IllegalStateException("Employee journal is closed"));
+            }
+        }
+    }
+
+    private void rollSegment() throws IOException {
+        segment.close();
+        openSegment(lastVersion + 1);
+        if (snapshotSource != null) {
+            snapshotter.execute(() -> {
+                try {
+                    final var snapshot = snapshotSource.get();
+                    writeSnapshot(snapshot.version(), snapshot.roster());
+                } catch (IOException | RuntimeException e) {
+                    log.error("Failed to write roster snapshot", e);
+                }
+            });
+        }
+    }
+
+    private void openSegment(long firstVersion) throws IOException {
+        segment = FileChannel.open(
+                directory.resolve(SEGMENT_PREFIX + firstVersion + SEGMENT_SUFFIX),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        recordsInSegment = 0;
+        syncDirectory();
+    }
+
+    /**
+     * Reads the journal's epoch, or starts a new one when there is no snapshot, and so versions start over, or no
+     * epoch file yet.
+     */
+    private String recoverEpoch() throws IOException {
+        final var file = directory.resolve(EPOCH_FILE);
+        if (recovery.snapshot() != null && Files.exists(file)) {
+            final var recovered = Files.readString(file).strip();
+            if (!recovered.isEmpty()) {
+                return recovered;
+            }
+        }
+        final var started = RosterVersion.newEpoch();
+        final var temporary = directory.resolve(EPOCH_FILE + ".tmp");
+        Files.writeString(temporary, started);
+        try (var channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        syncDirectory();
+        log.info("Starting roster epoch {}", started);
+        return started;
+    }
+
+    /**
+     * Loads the latest snapshot and the changes after it. Anything that would lose journaled changes fails instead, so
+     * the server does not start with less than it acknowledged: an unreadable latest snapshot, segments holding changes
+     * with no snapshot to replay them onto, and versions missing between the snapshot and the last change.
+     */
+    private static Recovery recover(Path directory) throws IOException {
+        final var snapshots = files(directory, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+        final var segments = files(directory, SEGMENT_PREFIX, SEGMENT_SUFFIX);
+        if (snapshots.isEmpty()) {
+            for (Path segment : segments) {
+                if (!readSegment(segment).isEmpty()) {
+                    throw new IOException(
+                            "Journal segment " + segment + " has changes but no snapshot to replay them onto");
+                }
+                // Opened before the first snapshot was written, and nothing journaled since.
+                Files.delete(segment);
+            }
+            return new Recovery(null, List.of());
+        }
+        final var latest = snapshots.get(snapshots.size() - 1);
+        final Snapshot snapshot;
+        try {
+            snapshot = new Snapshot(version(latest, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX), MockEmployeeFiles.read(latest));
+        } catch (IOException | RuntimeException e) {
+            throw new IOException("Unreadable roster snapshot " + latest, e);
+        }
+        final var tail = new ArrayList<EmployeeChange>();
+        long last = snapshot.version();
+        for (Path segment : segments) {
+            if (version(segment, SEGMENT_PREFIX, SEGMENT_SUFFIX) > last + 1) {
+                throw missingVersions(last, segment);
+            }
+            for (EmployeeChange change : readSegment(segment)) {
+                if (change.version() > last + 1) {
+                    throw missingVersions(last, segment);
+                }
+                if (change.version() == last + 1) {
+                    tail.add(change);
+                    last = change.version();
+                }
+            }
+        }
+        return new Recovery(snapshot, tail);
+    }
+
+    private static IOException missingVersions(long last, Path segment) {
+        return new IOException("Journal is missing the versions after " + last + " before those in " + segment);
+    }
+
+    /**
+     * Reads the intact records of one segment, truncating it after the last of them.
+     */
+    private static List<EmployeeChange> readSegment(Path file) throws IOException {
+        final var buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        final var reader = new MockEmployeeFiles.EmployeeReader();
+        final var crc = new CRC32();
+        final var changes = new ArrayList<EmployeeChange>();
+        int intact = 0;
+        while (buffer.limit() - intact >= Integer.BYTES) {
+            final int length = buffer.getInt(intact);
+            final int payloadStart = intact + Integer.BYTES;
+            if (length < Long.BYTES + 1 || buffer.limit() - payloadStart < length + Integer.BYTES) {
+                break;
+            }
+            crc.reset();
+            crc.update(buffer.array(), payloadStart, length);
+            if ((int) crc.getValue() != buffer.getInt(payloadStart + length)) {
+                break;
+            }
+            final var payload = buffer.slice(payloadStart, length);
+            final long version = payload.getLong();
+            final int type = payload.get();
+            if (type < 0 || type >= TYPES.length) {
+                break;
+            }
+            changes.add(new EmployeeChange(version, TYPES[type], reader.read(payload)));
+            intact = payloadStart + length + Integer.BYTES;
+        }
+        if (intact < buffer.limit()) {
+            log.warn("Truncating {} torn bytes at the end of {}", buffer.limit() - intact, file);
+            try (var channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.truncate(intact);
+                channel.force(true);
+            }
+        }
+        return changes;
+    }
+
+    private List<Path> files(String prefix, String suffix) throws IOException {
+        return files(directory, prefix, suffix);
+    }
+
+    /**
+     * The snapshot or segment files in {@code directory}, in version order.
+     */
+    private static List<Path> files(Path directory, String prefix, String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        final var name = file.getFileName().toString();
+                        return name.startsWith(prefix)
+                                && name.endsWith(suffix)
+                                && name.length() > prefix.length() + suffix.length();
+                    })
+                    .sorted(Comparator.comparingLong(file -> version(file, prefix, suffix)))
+                    .toList();
+        }
+    }
+
+    private void syncDirectory() {
+        try (var channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Not every platform can sync a directory; the file contents themselves are synced regardless.
+            log.debug("Could not sync {}", directory, e);
+        }
+    }
+
+    private static long version(Path file, String prefix, String suffix) {
+        final var name = file.getFileName().toString();
+        return Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length()));
+    }
+
+    private record Pending(EmployeeChange change, CompletableFuture<Void> done) {}
+
+    /**
+     * Exposes its array so records can be checksummed and written without copying.
+     */
+    private static final class Buffer extends ByteArrayOutputStream {
+        Buffer() {
+            super(4096);
+        }
+
+        byte[] array() {
+            return buf;
+        }
+    }
+}
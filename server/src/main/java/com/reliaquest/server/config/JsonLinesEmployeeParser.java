@@ -0,0 +1,321 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Parses one {@link MockEmployee} JSON object per line straight out of a (memory-mapped) {@link ByteBuffer}, with
+ * absolute reads and no intermediate {@code String} per line or per field name. Field names are matched on their
+ * bytes, with or without the server's {@code employee_} prefix; unknown fields are skipped. Only string values are
+ * decoded, through one reusable scratch array.
+ */
+final class JsonLinesEmployeeParser {
+
+    private static final byte[] PREFIX = ascii("employee_");
+    private static final byte[][] FIELD_NAMES = {
+        ascii("id"), ascii("name"), ascii("salary"), ascii("age"), ascii("title"), ascii("email")
+    };
+    private static final int ID = 0;
+    private static final int NAME = 1;
+    private static final int SALARY = 2;
+    private static final int AGE = 3;
+    private static final int TITLE = 4;
+    private static final int EMAIL = 5;
+    private static final int UNKNOWN = -1;
+
+    private final ByteBuffer buffer;
+    private final int limit;
+    private int position;
+    private byte[] scratch = new byte[256];
+
+    JsonLinesEmployeeParser(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.limit = buffer.limit();
+        this.position = buffer.position();
+    }
+
+    List<MockEmployee> parse() {
+        final var employees = new ArrayList<MockEmployee>();
+        skipWhitespace();
+        while (position < limit) {
+            employees.add(parseEmployee());
+            skipWhitespace();
+        }
+        return employees;
+    }
+
+    private MockEmployee parseEmployee() {
+        final var builder = MockEmployee.builder();
+        final int start = position;
+        expect('{');
+        skipWhitespace();
+        if (peek() == '}') {
+            throw malformed("missing id", start);
+        }
+        while (true) {
+            skipWhitespace();
+            final int field = parseFieldName();
+            skipWhitespace();
+            expect(':');
+            skipWhitespace();
+            switch (field) {
+                case ID -> builder.id(parseUuid());
+                case NAME -> builder.name(parseString());
+                case SALARY -> builder.salary(parseInteger());
+                case AGE -> builder.age(parseInteger());
+                case TITLE -> builder.title(parseString());
+                case EMAIL -> builder.email(parseString());
+                default -> skipValue();
+            }
+            skipWhitespace();
+            final byte next = next();
+            if (next == '}') {
+                final var employee = builder.build();
+                if (employee.getId() == null) {
+                    throw malformed("missing id", start);
+                }
+                return employee;
+            }
+            if (next != ',') {
+                throw malformed("expected ',' or '}'", position - 1);
+            }
+        }
+    }
+
+    private int parseFieldName() {
+        expect('"');
+        int start = position;
+        while (peek() != '"') {
+            if (peek() == '\\') {
+                skipStringBody();
+                return UNKNOWN;
+            }
+            position++;
+        }
+        final int end = position++;
+        if (matches(start, end, PREFIX, PREFIX.length)) {
+            start += PREFIX.length;
+        }
+        for (int field = 0; field < FIELD_NAMES.length; field++) {
+            if (matches(start, end, FIELD_NAMES[field], end - start)) {
+                return field;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    private boolean matches(int start, int end, byte[] expected, int length) {
+        if (length != expected.length || end - start < length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(start + i) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private UUID parseUuid() {
+        if (consumeNull()) {
+            return null;
+        }
+        expect('"');
+        final int start = position;
+        if (start + 37 <= limit
+                && buffer.get(start + 8) == '-'
+                && buffer.get(start + 13) == '-'
+                && buffer.get(start + 18) == '-'
+                && buffer.get(start + 23) == '-'
+                && buffer.get(start + 36) == '"') {
+            final long high = hex(start, 8) << 32 | hex(start + 9, 4) << 16 | hex(start + 14, 4);
+            final long low = hex(start + 19, 4) << 48 | hex(start + 24, 12);
+            position = start + 37;
+            return new UUID(high, low);
+        }
+        position--;
+        return UUID.fromString(parseString());
+    }
+
+    private long hex(int start, int length) {
+        long value = 0;
+        for (int i = start; i < start + length; i++) {
+            final int digit = Character.digit(buffer.get(i), 16);
+            if (digit < 0) {
+                throw malformed("invalid hex digit", i);
+            }
+            value = value << 4 | digit;
+        }
+        return value;
+    }
+
+    private Integer parseInteger() {
+        if (consumeNull()) {
+            return null;
+        }
+        final int start = position;
+        final boolean negative = peek() == '-';
+        if (negative) {
+            position++;
+        }
+        long value = 0;
+        while (position < limit && buffer.get(position) >= '0' && buffer.get(position) <= '9') {
+            value = value * 10 + (buffer.get(position++) - '0');
+            if (value > (negative ? Integer.MAX_VALUE + 1L : Integer.MAX_VALUE)) {
+                throw malformed("integer out of range", start);
+            }
+        }
+        if (position == start + (negative ? 1 : 0)) {
+            throw malformed("expected an integer", start);
+        }
+        return (int) (negative ? -value : value);
+    }
+
+    private String parseString() {
+        if (consumeNull()) {
+            return null;
+        }
+        expect('"');
+        final int start = position;
+        while (true) {
+            final byte b = next();
+            if (b == '"') {
+                final int length = position - 1 - start;
+                if (scratch.length < length) {
+                    scratch = new byte[Math.max(length, scratch.length * 2)];
+                }
+                buffer.get(start, scratch, 0, length);
+                return new String(scratch, 0, length, StandardCharsets.UTF_8);
+            }
+            if (b == '\\') {
+                position = start;
+                return parseEscapedString();
+            }
+        }
+    }
+
+    private String parseEscapedString() {
+        final var bytes = new ByteArrayOutputStream();
+        while (true) {
+            final byte b = next();
+            if (b == '"') {
+                return bytes.toString(StandardCharsets.UTF_8);
+            }
+            if (b != '\\') {
+                bytes.write(b);
+                continue;
+            }
+            final byte escaped = next();
+            switch (escaped) {
+                case '"', '\\', '/' -> bytes.write(escaped);
+                case 'b' -> bytes.write('\b');
+                case 'f' -> bytes.write('\f');
+                case 'n' -> bytes.write('\n');
+                case 'r' -> bytes.write('\r');
+                case 't' -> bytes.write('\t');
+                case 'u' -> {
+                    final var chars = new StringBuilder().append((char) hex(position, 4));
+                    position += 4;
+                    if (Character.isHighSurrogate(chars.charAt(0)) && peek() == '\\') {
+                        position += 2;
+                        chars.append((char) hex(position, 4));
+                        position += 4;
+                    }
+                    bytes.writeBytes(chars.toString().getBytes(StandardCharsets.UTF_8));
+                }
+                default -> throw malformed("invalid escape", position - 1);
+            }
+        }
+    }
+
+    private void skipValue() {
+        final byte first = peek();
+        if (first == '"') {
+            position++;
+            skipStringBody();
+            return;
+        }
+        if (first == '{' || first == '[') {
+            int depth = 0;
+            do {
+                final byte b = next();
+                if (b == '"') {
+                    skipStringBody();
+                } else if (b == '{' || b == '[') {
+                    depth++;
+                } else if (b == '}' || b == ']') {
+                    depth--;
+                }
+            } while (depth > 0);
+            return;
+        }
+        while (position < limit) {
+            final byte b = buffer.get(position);
+            if (b == ',' || b == '}' || b == ']' || isWhitespace(b)) {
+                return;
+            }
+            position++;
+        }
+    }
+
+    private void skipStringBody() {
+        while (true) {
+            final byte b = next();
+            if (b == '\\') {
+                next();
+            } else if (b == '"') {
+                return;
+            }
+        }
+    }
+
+    private boolean consumeNull() {
+        if (peek() == 'n') {
+            position += 4;
+            return true;
+        }
+        return false;
+    }
+
+    private void skipWhitespace() {
+        while (position < limit && isWhitespace(buffer.get(position))) {
+            position++;
+        }
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    private void expect(char expected) {
+        if (next() != expected) {
+            throw malformed("expected '" + expected + "'", position - 1);
+        }
+    }
+
+    private byte peek() {
+        if (position >= limit) {
+            throw malformed("unexpected end of input", position);
+        }
+        return buffer.get(position);
+    }
+
+    private byte next() {
+        final byte b = peek();
+        position++;
+        return b;
+    }
+
+    private static IllegalArgumentException malformed(String problem, int offset) {
+        return new IllegalArgumentException("Malformed employee JSON at byte " + offset + ": " + problem);
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,156 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.BufferedOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads a roster for the mock server from a memory-mapped file, in either of two formats (told apart by the binary
+ * magic number), and converts JSON Lines to binary.
+ *
+ * <ul>
+ *   <li>JSON Lines: one employee object per line, as the server serializes them ({@code employee_name}, ...) or with
+ *       unprefixed field names. {@code jq -c '.data[]'} turns a {@code GET /api/v1/employee} response into one
+ *   <li>Binary: {@code "RQROSTER"}, an int format version and an int count, then per employee the two UUID longs,
+ *       salary and age as ints ({@link Integer#MIN_VALUE} for null), and name, title and email as an int byte length
+ *       ({@code -1} for null) followed by UTF-8 bytes. Big-endian throughout
+ * </ul>
+ *
+ * Usage: {@code java -cp server.jar com.reliaquest.server.config.MockEmployeeFiles employees.jsonl employees.bin}, or
+ * {@code ./gradlew :server:convertRoster -Proster.in=employees.jsonl -Proster.out=employees.bin}.
+ */
+public final class MockEmployeeFiles {
+
+    private static final byte[] MAGIC = "RQROSTER".getBytes(StandardCharsets.US_ASCII);
+    private static final int FORMAT_VERSION = 1;
+    private static final int NULL = -1;
+
+    private MockEmployeeFiles() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: MockEmployeeFiles <employees.jsonl> <employees.bin>");
+            System.exit(2);
+        }
+        final long started = System.nanoTime();
+        final var employees = read(Path.of(args[0]));
+        writeBinary(employees, Path.of(args[1]));
+        System.out.printf(
+                "Converted %d employees to %s in %dms%n",
+                employees.size(), args[1], (System.nanoTime() - started) / 1_000_000);
+    }
+
+    public static List<MockEmployee> read(Path file) throws IOException {
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException(
+                        "Roster file " + file + " is over 2GB, the largest single mapping");
+            }
+            final var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return isBinary(buffer) ? readBinary(buffer) : new JsonLinesEmployeeParser(buffer).parse();
+        }
+    }
+
+    public static void writeBinary(Collection<MockEmployee> employees, Path file) throws IOException {
+        try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16))) {
+            out.write(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(employees.size());
+            for (MockEmployee employee : employees) {
+                writeEmployee(out, employee);
+            }
+        }
+    }
+
+    /**
+     * Writes one employee in the binary roster's per-employee encoding.
+     */
+    static void writeEmployee(DataOutput out, MockEmployee employee) throws IOException {
+        out.writeLong(employee.getId().getMostSignificantBits());
+        out.writeLong(employee.getId().getLeastSignificantBits());
+        out.writeInt(employee.getSalary() == null ? Integer.MIN_VALUE : employee.getSalary());
+        out.writeInt(employee.getAge() == null ? Integer.MIN_VALUE : employee.getAge());
+        writeString(out, employee.getName());
+        writeString(out, employee.getTitle());
+        writeString(out, employee.getEmail());
+    }
+
+    private static boolean isBinary(ByteBuffer buffer) {
+        if (buffer.limit() < MAGIC.length) {
+            return false;
+        }
+        final var magic = new byte[MAGIC.length];
+        buffer.get(0, magic);
+        return Arrays.equals(magic, MAGIC);
+    }
+
+    private static List<MockEmployee> readBinary(ByteBuffer buffer) {
+        buffer.position(MAGIC.length);
+        final int version = buffer.getInt();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported roster format version " + version);
+        }
+        final int count = buffer.getInt();
+        final var employees = new ArrayList<MockEmployee>(count);
+        final var reader = new EmployeeReader();
+        for (int i = 0; i < count; i++) {
+            employees.add(reader.read(buffer));
+        }
+        return employees;
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL);
+            return;
+        }
+        final var bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads employees written by {@link #writeEmployee}, decoding strings through one reusable scratch array.
+     */
+    static final class EmployeeReader {
+        private byte[] scratch = new byte[256];
+
+        MockEmployee read(ByteBuffer buffer) {
+            final var id = new UUID(buffer.getLong(), buffer.getLong());
+            final int salary = buffer.getInt();
+            final int age = buffer.getInt();
+            final var strings = new String[3];
+            for (int s = 0; s < strings.length; s++) {
+                final int length = buffer.getInt();
+                if (length == NULL) {
+                    continue;
+                }
+                if (scratch.length < length) {
+                    scratch = new byte[Math.max(length, scratch.length * 2)];
+                }
+                buffer.get(scratch, 0, length);
+                strings[s] = new String(scratch, 0, length, StandardCharsets.UTF_8);
+            }
+            return new MockEmployee(
+                    id,
+                    strings[0],
+                    salary == Integer.MIN_VALUE ? null : salary,
+                    age == Integer.MIN_VALUE ? null : age,
+                    strings[1],
+                    strings[2]);
+        }
+    }
+}
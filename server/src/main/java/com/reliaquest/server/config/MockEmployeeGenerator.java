@@ -0,0 +1,115 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import net.datafaker.Faker;
+
+/**
+ * Generates the mock server's starting roster in parallel, reproducibly for a given seed.
+ *
+ * <p>The roster is cut into fixed-size chunks, and chunk {@code c} is generated from its own seed derived from
+ * {@code (seed, c)}, so the output does not depend on the number of threads or on which thread ran which chunk.
+ * Each thread keeps one {@link Faker} (building one is expensive) and reseeds its {@link Random} at the start of every
+ * chunk. Numbers and IDs come straight from a {@link SplittableRandom} rather than through Faker, and IDs are
+ * random (version 4) UUIDs built from that generator instead of {@link UUID#randomUUID()}'s {@code SecureRandom}.
+ */
+@Slf4j
+public class MockEmployeeGenerator {
+
+    static final int CHUNK_SIZE = 16_384;
+    private static final long CHUNK_SEED_STRIDE = 0x9E3779B97F4A7C15L;
+
+    private final Locale locale;
+    private final int parallelism;
+    private final ThreadLocal<SeededFaker> fakers;
+
+    public MockEmployeeGenerator(Locale locale, int parallelism) {
+        this.locale = locale;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.fakers = ThreadLocal.withInitial(() -> new SeededFaker(this.locale));
+    }
+
+    public List<MockEmployee> generate(int count, long seed) {
+        final var employees = new MockEmployee[count];
+        final int chunks = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        final var completed = new AtomicInteger();
+        final long started = System.nanoTime();
+        final var pool = new ForkJoinPool(parallelism);
+        try {
+            pool.submit(() -> IntStream.range(0, chunks).parallel().forEach(chunk -> {
+                        generateChunk(employees, chunk, seed);
+                        reportProgress(completed.incrementAndGet(), chunks, count);
+                    }))
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted generating mock employees", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to generate mock employees", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+        log.info(
+                "Generated {} employees with seed {} on {} threads in {}ms",
+                count,
+                seed,
+                parallelism,
+                (System.nanoTime() - started) / 1_000_000);
+        return Arrays.asList(employees);
+    }
+
+    private void generateChunk(MockEmployee[] employees, int chunk, long seed) {
+        final long chunkSeed = seed + chunk * CHUNK_SEED_STRIDE;
+        final var random = new SplittableRandom(chunkSeed);
+        final var faker = fakers.get().reseed(chunkSeed);
+        final int end = Math.min(employees.length, (chunk + 1) * CHUNK_SIZE);
+        for (int i = chunk * CHUNK_SIZE; i < end; i++) {
+            employees[i] = new MockEmployee(
+                    randomUuid(random),
+                    faker.name().fullName(),
+                    random.nextInt(30000, 500000),
+                    random.nextInt(16, 70),
+                    faker.job().title(),
+                    ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                            faker.twitter().userName().toLowerCase()));
+        }
+    }
+
+    private static void reportProgress(int completedChunks, int chunks, int count) {
+        final int previousDecile = (completedChunks - 1) * 10 / chunks;
+        final int decile = completedChunks * 10 / chunks;
+        if (chunks >= 10 && decile != previousDecile) {
+            log.info("Generated {}% of {} employees", decile * 10, count);
+        }
+    }
+
+    static UUID randomUuid(SplittableRandom random) {
+        final long msb = (random.nextLong() & ~0xF000L) | 0x4000L;
+        final long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    private static final class SeededFaker {
+        private final Random random = new Random();
+        private final Faker faker;
+
+        private SeededFaker(Locale locale) {
+            this.faker = new Faker(locale, random);
+        }
+
+        private Faker reseed(long seed) {
+            random.setSeed(seed);
+            return faker;
+        }
+    }
+}
@@ -1,19 +1,29 @@
 package com.reliaquest.server.config;
 
+import com.reliaquest.server.controller.MockEmployeeController;
+import com.reliaquest.server.controller.RateLimitController;
+import com.reliaquest.server.model.BulkResult;
+import com.reliaquest.server.model.EmployeeChange;
 import com.reliaquest.server.model.MockEmployee;
-import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
+import com.reliaquest.server.service.EmployeeChangeLog;
+import com.reliaquest.server.service.EmployeeStore;
+import com.reliaquest.server.service.IdempotencyCache;
+import com.reliaquest.server.service.IndexedEmployeeStore;
+import com.reliaquest.server.service.SyntheticEmployeeStore;
+import com.reliaquest.server.web.KeyedRateLimiter;
+import com.reliaquest.server.web.RateLimitInterceptor;
+import com.reliaquest.server.web.RateLimitPolicy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.Locale;
-import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.random.RandomGenerator;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
-import net.datafaker.transformations.Field;
-import net.datafaker.transformations.JavaObjectTransformer;
-import net.datafaker.transformations.Schema;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -25,35 +35,159 @@ public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    @Value("${mock.rate-limit.policy:random}")
+    private String rateLimitPolicy;
+
+    @Value("${mock.rate-limit.limit:10}")
+    private int rateLimit;
+
+    @Value("${mock.rate-limit.window:60s}")
+    private Duration rateLimitWindow;
+
+    @Value("${mock.rate-limit.per-client:false}")
+    private boolean rateLimitPerClient;
+
+    @Value("${mock.rate-limit.client-key-header:X-Client-Id}")
+    private String rateLimitClientKeyHeader;
+
+    @Value("${mock.rate-limit.max-clients:10000}")
+    private int rateLimitMaxClients;
+
     @Bean
     public Faker faker() {
         return new Faker(Locale.getDefault());
     }
 
-    /*
-     * This list is modifiable by design for CRUD operations.
+    /**
+     * Present when {@code mock.journal.dir} is set; see {@link EmployeeJournal}.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnExpression("!'${mock.journal.dir:}'.isBlank()")
+    public EmployeeJournal employeeJournal(
+            @Value("${mock.journal.dir}") String dir,
+            @Value("${mock.journal.group-commit:256}") int groupCommit,
+            @Value("${mock.journal.segment-records:100000}") long segmentRecords,
+            @Value("${mock.journal.fsync:true}") boolean fsync)
+            throws IOException {
+        log.info("Journaling roster changes to {}", dir);
+        return EmployeeJournal.open(Path.of(dir), groupCommit, segmentRecords, fsync);
+    }
+
+    /**
+     * The roster recovered from the journal when there is one to recover; otherwise a new roster as configured, which
+     * is then the journal's first snapshot.
+     */
+    @Bean
+    public EmployeeStore employeeStore(
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.employees.seed:#{null}}") Long seed,
+            @Value("${mock.employees.generator-threads:0}") int generatorThreads,
+            @Value("${mock.employees.synthetic:false}") boolean synthetic,
+            @Value("${mock.employees.file:}") String file,
+            ObjectProvider<EmployeeJournal> employeeJournal)
+            throws IOException {
+        final var journal = employeeJournal.getIfAvailable();
+        if (journal == null) {
+            return newEmployeeStore(maxEmployees, seed, generatorThreads, synthetic, file);
+        }
+        final var recovery = journal.getRecovery();
+        if (recovery.snapshot() != null) {
+            final var store = new IndexedEmployeeStore(recovery.snapshot().roster());
+            replay(store, recovery.tail());
+            return store;
+        }
+        final var store = newEmployeeStore(maxEmployees, seed, generatorThreads, synthetic, file);
+        journal.writeSnapshot(0, store.snapshot());
+        return store;
+    }
+
+    private static EmployeeStore newEmployeeStore(
+            int maxEmployees, Long seed, int generatorThreads, boolean synthetic, String file) throws IOException {
+        if (!file.isBlank()) {
+            final long started = System.nanoTime();
+            final var employees = MockEmployeeFiles.read(Path.of(file));
+            log.info(
+                    "Loaded {} employees from {} in {}ms",
+                    employees.size(),
+                    file,
+                    (System.nanoTime() - started) / 1_000_000);
+            return new IndexedEmployeeStore(employees);
+        }
+        final long rosterSeed = seed != null ? seed : RandomGenerator.getDefault().nextLong();
+        if (synthetic) {
+            log.info("Serving a synthetic roster of {} employees with seed {}", maxEmployees, rosterSeed);
+            return new SyntheticEmployeeStore(maxEmployees, rosterSeed, Locale.getDefault());
+        }
+        final var generator = new MockEmployeeGenerator(Locale.getDefault(), generatorThreads);
+        return new IndexedEmployeeStore(generator.generate(maxEmployees, rosterSeed));
+    }
+
+    /**
+     * Continues the journal's epoch and versions when there is a journal; otherwise starts a new epoch, so clients
+     * holding versions from before a restart resync.
+     */
+    @Bean
+    public EmployeeChangeLog employeeChangeLog(
+            @Value("${mock.changes.capacity:10000}") int capacity, ObjectProvider<EmployeeJournal> employeeJournal) {
+        final var journal = employeeJournal.getIfAvailable();
+        if (journal == null) {
+            return new EmployeeChangeLog(capacity);
+        }
+        return new EmployeeChangeLog(capacity, journal.getEpoch(), journal.getRecovery().lastVersion());
+    }
+
+    @Bean
+    public IdempotencyCache<MockEmployee> idempotentCreates(
+            @Value("${mock.idempotency.max-keys:10000}") int maxKeys,
+            @Value("${mock.idempotency.ttl:24h}") Duration ttl) {
+        return new IdempotencyCache<>(maxKeys, ttl);
+    }
+
+    /**
+     * Bulk creates are remembered apart from single creates, and fewer of them, as each holds a whole batch of results.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
-        final var transformer = new JavaObjectTransformer();
-        final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
-                Field.field("name", () -> faker.name().fullName()),
-                Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
-                Field.field("age", () -> faker.number().numberBetween(16, 70)),
-                Field.field("title", () -> faker.job().title()),
-                Field.field(
-                        "email",
-                        () -> EMAIL_TEMPLATE.formatted(
-                                faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
-                .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
-                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+    public IdempotencyCache<List<BulkResult<MockEmployee>>> idempotentBulkCreates(
+            @Value("${mock.idempotency.max-bulk-keys:1000}") int maxKeys,
+            @Value("${mock.idempotency.ttl:24h}") Duration ttl) {
+        return new IdempotencyCache<>(maxKeys, ttl);
+    }
+
+    /**
+     * Applies journaled changes in order. A delete records the employee it removed, so it is replayed by ID whether it
+     * was made by name or by ID.
+     */
+    private static void replay(EmployeeStore store, List<EmployeeChange> changes) {
+        for (EmployeeChange change : changes) {
+            switch (change.type()) {
+                case CREATED -> store.add(change.employee());
+                case DELETED -> store.removeById(change.employee().getId());
+            }
+        }
+    }
+
+    @Bean
+    public RateLimitInterceptor rateLimitInterceptor() {
+        final var policy = RateLimitPolicy.parse(rateLimitPolicy);
+        log.info(
+                "Rate limit policy {}{}: {} requests per {}",
+                policy,
+                rateLimitPerClient ? " per client" : "",
+                rateLimit,
+                rateLimitWindow);
+        if (rateLimitPerClient) {
+            return RateLimitInterceptor.perClient(
+                    policy,
+                    new KeyedRateLimiter(() -> policy.newLimiter(rateLimit, rateLimitWindow), rateLimitMaxClients),
+                    rateLimitClientKeyHeader);
+        }
+        return RateLimitInterceptor.global(policy, policy.newLimiter(rateLimit, rateLimitWindow));
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        // The event stream is one long-lived connection per client rather than a request rate.
+        registry.addInterceptor(rateLimitInterceptor())
+                .excludePathPatterns(RateLimitController.PATH, MockEmployeeController.EVENTS_PATH);
     }
 }
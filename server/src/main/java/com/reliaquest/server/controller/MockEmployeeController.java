@@ -1,34 +1,124 @@
 package com.reliaquest.server.controller;
 
+import com.reliaquest.server.model.BulkResult;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeeChanges;
+import com.reliaquest.server.model.EmployeeQuery;
 import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.model.Response;
+import com.reliaquest.server.model.RosterVersion;
+import com.reliaquest.server.service.IdempotencyCache;
 import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.web.EmployeeEventBroadcaster;
+import com.reliaquest.server.web.EmployeeListResponseCache;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/v1/employee")
 @RequiredArgsConstructor
 public class MockEmployeeController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String ROSTER_VERSION_HEADER = "X-Roster-Version";
+    public static final String EVENTS_PATH = "/api/v1/employee/events";
+
     private final MockEmployeeService mockEmployeeService;
 
+    private final EmployeeEventBroadcaster employeeEventBroadcaster;
+
+    private final EmployeeListResponseCache employeeListResponseCache;
+
+    /**
+     * The whole roster, or with any of the parameters only the matching employees: {@code name} is a case-insensitive
+     * substring, salary and age ranges are inclusive, and {@code title} is a case-insensitive match. With
+     * {@code limit}, a full page carries an {@value #NEXT_CURSOR_HEADER} header to pass back as {@code after}. The
+     * {@value #ROSTER_VERSION_HEADER} header is a change feed {@link RosterVersion} the answer is at least as new as,
+     * written {@code epoch:version}. The whole
+     * roster is written from {@link EmployeeListResponseCache}.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<Response<List<MockEmployee>>> getEmployees(
+            @RequestParam(name = "name", required = false) String name,
+            @RequestParam(name = "minSalary", required = false) Integer minSalary,
+            @RequestParam(name = "maxSalary", required = false) Integer maxSalary,
+            @RequestParam(name = "minAge", required = false) Integer minAge,
+            @RequestParam(name = "maxAge", required = false) Integer maxAge,
+            @RequestParam(name = "title", required = false) String title,
+            @RequestParam(name = "after", required = false) Long after,
+            @RequestParam(name = "limit", required = false) Integer limit,
+            HttpServletRequest request,
+            HttpServletResponse servletResponse)
+            throws IOException {
+        final var version = mockEmployeeService.version();
+        final var query = new EmployeeQuery(name, minSalary, maxSalary, minAge, maxAge, title, after, limit);
+        if (query.equals(EmployeeQuery.ALL)) {
+            servletResponse.setHeader(ROSTER_VERSION_HEADER, version.toString());
+            employeeListResponseCache.write(
+                    version.version(), () -> mockEmployeeService.query(query).employees(), request, servletResponse);
+            // Already written; a null body tells Spring MVC there is nothing left to render.
+            return null;
+        }
+        final var page = mockEmployeeService.query(query);
+        final var response = ResponseEntity.ok().header(ROSTER_VERSION_HEADER, version.toString());
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor().toString());
+        }
+        return response.body(Response.handledWith(page.employees()));
+    }
+
+    /**
+     * The creates and deletes after {@code since}, an {@code epoch:version} as in {@value #ROSTER_VERSION_HEADER},
+     * oldest first, or {@code resyncRequired} if the change log no longer reaches back that far or {@code since} is of
+     * another epoch. Changes replayed over a roster that already has them are harmless when applied by ID.
+     */
+    @GetMapping("/changes")
+    public Response<EmployeeChanges> getChanges(@RequestParam(name = "since") String since) {
+        return Response.handledWith(mockEmployeeService.changesSince(RosterVersion.parse(since)));
+    }
+
+    /**
+     * A Server-Sent Events stream of creates and deletes; see {@link EmployeeEventBroadcaster}.
+     */
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(@RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        return employeeEventBroadcaster.subscribe(lastEventId);
+    }
+
+    /**
+     * The highest salary on the roster, without the roster; no data when the roster is empty.
+     */
+    @GetMapping("/aggregates/max-salary")
+    public Response<Integer> getMaxSalary() {
+        return mockEmployeeService.maxSalary().map(Response::handledWith).orElseGet(Response::handled);
+    }
+
+    /**
+     * The {@code n} highest earners, highest salary first, for {@code n} up to
+     * {@value MockEmployeeService#MAX_TOP_EARNERS}.
+     */
+    @GetMapping("/aggregates/top-earners")
+    public Response<List<MockEmployee>> getTopEarners(@RequestParam(name = "n", defaultValue = "10") int n) {
+        return Response.handledWith(mockEmployeeService.topEarners(n));
     }
 
     @GetMapping("/{id}")
@@ -39,13 +129,61 @@ public class MockEmployeeController {
                 .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
     }
 
+    /**
+     * Creates an employee. With an {@value IdempotencyCache#HEADER} header, a retry with the same key is answered with
+     * the employee created the first time, for as long as the key is remembered ({@code mock.idempotency.*}).
+     */
     @PostMapping()
-    public Response<MockEmployee> createEmployee(@Valid @RequestBody CreateMockEmployeeInput input) {
-        return Response.handledWith(mockEmployeeService.create(input));
+    public Response<MockEmployee> createEmployee(
+            @Valid @RequestBody CreateMockEmployeeInput input,
+            @RequestHeader(name = IdempotencyCache.HEADER, required = false) String idempotencyKey) {
+        return Response.handledWith(mockEmployeeService.create(input, idempotencyKey));
     }
 
     @DeleteMapping()
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    /**
+     * Deletes the employee with {@code id} and answers with it, so a client learns the name without reading it first;
+     * not found if there is none.
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Response<MockEmployee>> deleteEmployeeById(@PathVariable("id") UUID uuid) {
+        return mockEmployeeService
+                .deleteById(uuid)
+                .map(employee -> ResponseEntity.ok(Response.handledWith(employee)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
+    }
+
+    /**
+     * Creates up to {@value MockEmployeeService#MAX_BATCH} employees in one request. Each input is validated on its
+     * own: the answer has, at each input's position, the created employee or the validation error. With an
+     * {@value IdempotencyCache#HEADER} header, a retry with the same key is answered with the first batch's results.
+     */
+    @PostMapping("/bulk")
+    public Response<List<BulkResult<MockEmployee>>> createEmployees(
+            @RequestBody List<CreateMockEmployeeInput> inputs,
+            @RequestHeader(name = IdempotencyCache.HEADER, required = false) String idempotencyKey) {
+        return Response.handledWith(mockEmployeeService.createAll(inputs, idempotencyKey));
+    }
+
+    /**
+     * Deletes up to {@value MockEmployeeService#MAX_BATCH} employees by name in one request. The answer has, at each
+     * input's position, whether an employee was deleted or the validation error.
+     */
+    @DeleteMapping("/bulk")
+    public Response<List<BulkResult<Boolean>>> deleteEmployees(@RequestBody List<DeleteMockEmployeeInput> inputs) {
+        return Response.handledWith(mockEmployeeService.deleteAll(inputs));
+    }
+
+    /**
+     * Deletes up to {@value MockEmployeeService#MAX_BATCH} employees by ID in one request. The answer has, at each ID's
+     * position, the deleted employee, so a client learns the names without reading them first, or why none was.
+     */
+    @DeleteMapping("/bulk/ids")
+    public Response<List<BulkResult<MockEmployee>>> deleteEmployeesById(@RequestBody List<String> ids) {
+        return Response.handledWith(mockEmployeeService.deleteAllById(ids));
+    }
 }
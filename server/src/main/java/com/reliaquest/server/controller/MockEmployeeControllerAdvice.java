@@ -1,15 +1,35 @@
 package com.reliaquest.server.controller;
 
+import com.reliaquest.server.model.InvalidRequestException;
 import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.IdempotencyCache;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 @Slf4j
 @ControllerAdvice
 public class MockEmployeeControllerAdvice {
 
+    @ExceptionHandler
+    protected ResponseEntity<?> handleInvalidRequest(InvalidRequestException ex) {
+        return ResponseEntity.badRequest().body(Response.error(ex.getMessage()));
+    }
+
+    @ExceptionHandler
+    protected ResponseEntity<?> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
+        return ResponseEntity.badRequest()
+                .body(Response.error("Invalid value '%s' for %s".formatted(ex.getValue(), ex.getName())));
+    }
+
+    @ExceptionHandler
+    protected ResponseEntity<?> handleIdempotencyKeyReused(IdempotencyCache.IdempotencyKeyReusedException ex) {
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(Response.error(ex.getMessage()));
+    }
+
     @ExceptionHandler
     protected ResponseEntity<?> handleException(Throwable ex) {
         log.error("Error handling web request.", ex);
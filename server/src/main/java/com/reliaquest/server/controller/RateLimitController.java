@@ -0,0 +1,24 @@
+package com.reliaquest.server.controller;
+
+import com.reliaquest.server.model.RateLimitStats;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.web.RateLimitInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping(RateLimitController.PATH)
+@RequiredArgsConstructor
+public class RateLimitController {
+
+    public static final String PATH = "/api/v1/rate-limit";
+
+    private final RateLimitInterceptor rateLimitInterceptor;
+
+    @GetMapping()
+    public Response<RateLimitStats> getStats() {
+        return Response.handledWith(rateLimitInterceptor.getStats());
+    }
+}
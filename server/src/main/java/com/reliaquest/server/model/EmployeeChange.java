@@ -0,0 +1,12 @@
+package com.reliaquest.server.model;
+
+/**
+ * One write to the roster. Versions are assigned in the order the writes were applied, starting at 1.
+ */
+public record EmployeeChange(long version, Type type, MockEmployee employee) {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
@@ -0,0 +1,19 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/**
+ * The changes after a client's version, up to {@code version} of {@code epoch}. When {@code resyncRequired} is set the
+ * changes are no longer retained (or the version was never issued in this epoch), {@code changes} is empty, and the
+ * client must reload the roster.
+ */
+public record EmployeeChanges(String epoch, long version, boolean resyncRequired, List<EmployeeChange> changes) {
+
+    public static EmployeeChanges of(String epoch, long version, List<EmployeeChange> changes) {
+        return new EmployeeChanges(epoch, version, false, changes);
+    }
+
+    public static EmployeeChanges resync(String epoch, long version) {
+        return new EmployeeChanges(epoch, version, true, List.of());
+    }
+}
@@ -0,0 +1,9 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/**
+ * One page of an {@link EmployeeQuery}. {@code nextCursor} is set when the page is full, in which case there may be
+ * more matches after it; pass it back as {@code after}.
+ */
+public record EmployeePage(List<MockEmployee> employees, Long nextCursor) {}
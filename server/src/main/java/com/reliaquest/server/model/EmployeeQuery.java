@@ -0,0 +1,85 @@
+package com.reliaquest.server.model;
+
+/**
+ * Filters and a keyset page for {@code GET /api/v1/employee}; {@code null} means "not constrained". Employees are
+ * returned in insertion order, and {@code after} is the cursor from the previous page: the insertion sequence of its
+ * last employee.
+ */
+public record EmployeeQuery(
+        String nameContains,
+        Integer minSalary,
+        Integer maxSalary,
+        Integer minAge,
+        Integer maxAge,
+        String title,
+        Long after,
+        Integer limit) {
+
+    public static final EmployeeQuery ALL = new EmployeeQuery(null, null, null, null, null, null, null, null);
+
+    public EmployeeQuery {
+        if (limit != null && limit < 1) {
+            throw new InvalidRequestException("limit must be positive");
+        }
+        if (minSalary != null && maxSalary != null && minSalary > maxSalary) {
+            throw new InvalidRequestException("minSalary must not exceed maxSalary");
+        }
+        if (minAge != null && maxAge != null && minAge > maxAge) {
+            throw new InvalidRequestException("minAge must not exceed maxAge");
+        }
+        if (nameContains != null && nameContains.isEmpty()) {
+            nameContains = null;
+        }
+    }
+
+    public boolean isFiltered() {
+        return nameContains != null
+                || minSalary != null
+                || maxSalary != null
+                || minAge != null
+                || maxAge != null
+                || title != null;
+    }
+
+    public boolean hasSalaryRange() {
+        return minSalary != null || maxSalary != null;
+    }
+
+    public long afterOrStart() {
+        return after == null ? -1 : after;
+    }
+
+    public int limitOrAll() {
+        return limit == null ? Integer.MAX_VALUE : limit;
+    }
+
+    public EmployeeQuery withPage(Long after, Integer limit) {
+        return new EmployeeQuery(nameContains, minSalary, maxSalary, minAge, maxAge, title, after, limit);
+    }
+
+    public boolean matches(MockEmployee employee) {
+        return (nameContains == null || containsIgnoreCase(employee.getName(), nameContains))
+                && inRange(employee.getSalary(), minSalary, maxSalary)
+                && inRange(employee.getAge(), minAge, maxAge)
+                && (title == null || title.equalsIgnoreCase(employee.getTitle()));
+    }
+
+    private static boolean inRange(Integer value, Integer min, Integer max) {
+        if (min == null && max == null) {
+            return true;
+        }
+        return value != null && (min == null || value >= min) && (max == null || value <= max);
+    }
+
+    private static boolean containsIgnoreCase(String value, String part) {
+        if (value == null) {
+            return false;
+        }
+        for (int i = 0; i <= value.length() - part.length(); i++) {
+            if (value.regionMatches(true, i, part, 0, part.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,12 @@
+package com.reliaquest.server.model;
+
+/**
+ * A request parameter or body the caller can fix, answered with 400 Bad Request. Other
+ * {@link IllegalArgumentException}s are server faults and stay 500s.
+ */
+public class InvalidRequestException extends IllegalArgumentException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
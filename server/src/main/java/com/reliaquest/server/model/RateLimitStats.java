@@ -0,0 +1,10 @@
+package com.reliaquest.server.model;
+
+import com.reliaquest.server.web.RateLimitPolicy;
+
+/**
+ * Admit/reject counts of the server's rate limiter since startup; {@code trackedClients} is the number of per-client
+ * limiters currently held, zero for a global limiter.
+ */
+public record RateLimitStats(
+        RateLimitPolicy policy, boolean perClient, long admitted, long rejected, int trackedClients) {}
@@ -0,0 +1,42 @@
+package com.reliaquest.server.model;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * A position in the change feed: {@code version} counts writes within {@code epoch}. A server that starts without a
+ * journal to recover starts a new epoch at version 0, so a version from another epoch says nothing about the current
+ * roster and its holder must resync. Written as {@code epoch:version} in the {@code X-Roster-Version} header, the
+ * {@code since} parameter and event IDs.
+ */
+public record RosterVersion(String epoch, long version) {
+
+    public RosterVersion {
+        if (version < 0) {
+            throw new InvalidRequestException("version must not be negative");
+        }
+    }
+
+    /**
+     * Reads an {@code epoch:version} token. A bare version has no epoch, so it never matches the current one.
+     *
+     * @throws InvalidRequestException if the version is not a number or is negative
+     */
+    public static RosterVersion parse(String token) {
+        final int colon = token.lastIndexOf(':');
+        try {
+            return new RosterVersion(
+                    colon < 0 ? null : token.substring(0, colon), Long.parseLong(token.substring(colon + 1)));
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("Invalid roster version " + token);
+        }
+    }
+
+    public static String newEpoch() {
+        return Long.toUnsignedString(RandomGenerator.getDefault().nextLong(), 36);
+    }
+
+    @Override
+    public String toString() {
+        return epoch + ":" + version;
+    }
+}
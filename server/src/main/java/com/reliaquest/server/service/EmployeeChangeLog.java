@@ -0,0 +1,121 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.EmployeeChanges;
+import com.reliaquest.server.model.InvalidRequestException;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.RosterVersion;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * The last {@code capacity} roster writes, in a ring buffer indexed by version. {@link #since} answers in
+ * O(changes returned) whatever the roster size; once a version has been overwritten, clients behind it are told to
+ * resync, as are clients holding a version of another epoch. Listeners see each change as it is appended, in version
+ * order.
+ */
+public class EmployeeChangeLog {
+
+    private final EmployeeChange[] changes;
+    private final List<Consumer<EmployeeChange>> listeners = new CopyOnWriteArrayList<>();
+    private final String epoch;
+    private final long initialVersion;
+    private long version;
+
+    /**
+     * A log for a new roster, in a new epoch.
+     */
+    public EmployeeChangeLog(int capacity) {
+        this(capacity, RosterVersion.newEpoch(), 0);
+    }
+
+    /**
+     * @param epoch the epoch of the versions, as recovered from a journal
+     * @param initialVersion the version the roster starts at, as recovered from a journal; the first change appended
+     *     gets the next one
+     */
+    public EmployeeChangeLog(int capacity, String epoch, long initialVersion) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.changes = new EmployeeChange[capacity];
+        this.epoch = epoch;
+        this.initialVersion = initialVersion;
+        this.version = initialVersion;
+    }
+
+    public synchronized EmployeeChange append(EmployeeChange.Type type, MockEmployee employee) {
+        return append(new EmployeeChange(version + 1, type, employee));
+    }
+
+    /**
+     * Appends a change that was given its version ahead of time, as a journaled change is.
+     *
+     * @throws IllegalStateException if {@code change} is not the next version
+     */
+    public synchronized EmployeeChange append(EmployeeChange change) {
+        if (change.version() != version + 1) {
+            throw new IllegalStateException("Change " + change.version() + " does not follow version " + version);
+        }
+        version = change.version();
+        changes[slot(version)] = change;
+        listeners.forEach(listener -> listener.accept(change));
+        return change;
+    }
+
+    /**
+     * Registers {@code listener} to be called with every later change, on the writing thread and while the log is
+     * locked, so it must only hand the change off.
+     */
+    public void addListener(Consumer<EmployeeChange> listener) {
+        listeners.add(listener);
+    }
+
+    public synchronized long version() {
+        return version;
+    }
+
+    public String epoch() {
+        return epoch;
+    }
+
+    public synchronized RosterVersion rosterVersion() {
+        return new RosterVersion(epoch, version);
+    }
+
+    /**
+     * @return every change after {@code since}, oldest first, or a resync answer if {@code since} is of another epoch
+     *     or as for {@link #since(long)}
+     */
+    public synchronized EmployeeChanges since(RosterVersion since) {
+        if (!epoch.equals(since.epoch())) {
+            return EmployeeChanges.resync(epoch, version);
+        }
+        return since(since.version());
+    }
+
+    /**
+     * @return every change after {@code since} in this epoch, oldest first, or a resync answer if some of them have
+     *     been trimmed or {@code since} is ahead of the log
+     */
+    public synchronized EmployeeChanges since(long since) {
+        if (since < 0) {
+            throw new InvalidRequestException("since must not be negative");
+        }
+        final long oldest = Math.max(initialVersion + 1, version - changes.length + 1);
+        if (since > version || since < oldest - 1) {
+            return EmployeeChanges.resync(epoch, version);
+        }
+        final List<EmployeeChange> after = new ArrayList<>((int) (version - since));
+        for (long next = since + 1; next <= version; next++) {
+            after.add(changes[slot(next)]);
+        }
+        return EmployeeChanges.of(epoch, version, after);
+    }
+
+    private int slot(long version) {
+        return (int) (version % changes.length);
+    }
+}
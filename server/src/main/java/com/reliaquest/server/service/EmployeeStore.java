@@ -0,0 +1,65 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.EmployeePage;
+import com.reliaquest.server.model.EmployeeQuery;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The mock server's roster. Implementations are thread-safe: reads may run concurrently with writes, and
+ * {@link #snapshot()} always returns a list that is consistent as of a single point in time and never changes
+ * afterwards.
+ */
+public interface EmployeeStore {
+
+    Optional<MockEmployee> findById(UUID id);
+
+    /**
+     * @return every employee in insertion order, as of the latest write; unmodifiable
+     */
+    List<MockEmployee> snapshot();
+
+    /**
+     * @return the employees matching {@code query}, in insertion order, after its cursor and up to its limit
+     */
+    EmployeePage query(EmployeeQuery query);
+
+    /**
+     * @return up to {@code n} employees with a salary, highest salary first and, among equal salaries, the most
+     *     recently added first
+     */
+    List<MockEmployee> topEarners(int n);
+
+    /**
+     * @return the highest salary, or empty if no employee has one
+     */
+    default Optional<Integer> maxSalary() {
+        final var top = topEarners(1);
+        return top.isEmpty() ? Optional.empty() : Optional.of(top.get(0).getSalary());
+    }
+
+    void add(MockEmployee employee);
+
+    /**
+     * Removes the earliest-added employee whose name matches {@code name}, ignoring case.
+     */
+    Optional<MockEmployee> removeByName(String name);
+
+    /**
+     * @return the employee {@link #removeByName} would remove if the employees in {@code excluding} were already gone,
+     *     without removing it
+     */
+    Optional<MockEmployee> findByName(String name, Set<UUID> excluding);
+
+    Optional<MockEmployee> removeById(UUID id);
+
+    int size();
+
+    /**
+     * @return a counter incremented by every write, so equal versions mean equal contents
+     */
+    long version();
+}
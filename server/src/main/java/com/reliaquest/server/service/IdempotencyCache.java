@@ -0,0 +1,129 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.InvalidRequestException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Results of writes made under an {@code Idempotency-Key}, so a retried or resubmitted request is answered with the
+ * first result instead of writing again. A request that arrives while the first with its key is still running waits
+ * for that one's result. Only successes are kept: if the write throws, the key is forgotten and the next request with
+ * it writes afresh.
+ *
+ * <p>Keys expire {@code ttl} after they were first seen, and at most {@code maxKeys} are kept; past that the oldest is
+ * dropped, so a request retried after its key was dropped writes again.
+ */
+public class IdempotencyCache<T> {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    public static final int MAX_KEY_LENGTH = 255;
+
+    private final int maxKeys;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+
+    // Guarded by this; in the order keys were first seen, which is also the order they expire in.
+    private final LinkedHashMap<String, Entry<T>> entries = new LinkedHashMap<>();
+
+    public IdempotencyCache(int maxKeys, Duration ttl) {
+        this(maxKeys, ttl, System::nanoTime);
+    }
+
+    IdempotencyCache(int maxKeys, Duration ttl, LongSupplier nanoClock) {
+        if (maxKeys < 1) {
+            throw new IllegalArgumentException("maxKeys must be positive");
+        }
+        this.maxKeys = maxKeys;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Runs {@code write} unless {@code key} has been seen, and otherwise answers with the result of its first write.
+     *
+     * @param request what the write was asked to do; a key may only be reused for an equal request
+     * @throws InvalidRequestException if {@code key} is blank or longer than {@value #MAX_KEY_LENGTH} characters
+     * @throws IdempotencyKeyReusedException if {@code key} was first used for a different request
+     */
+    public T execute(String key, Object request, Supplier<T> write) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidRequestException(
+                    HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters and not blank");
+        }
+        final Entry<T> entry;
+        final boolean first;
+        synchronized (this) {
+            final long now = nanoClock.getAsLong();
+            expire(now);
+            final var seen = entries.get(key);
+            if (seen != null) {
+                if (!seen.request.equals(request)) {
+                    throw new IdempotencyKeyReusedException(key);
+                }
+                entry = seen;
+                first = false;
+            } else {
+                entry = new Entry<>(request, now, new CompletableFuture<>());
+                entries.put(key, entry);
+                if (entries.size() > maxKeys) {
+                    entries.remove(entries.keySet().iterator().next());
+                }
+                first = true;
+            }
+        }
+        if (!first) {
+            return await(entry.result);
+        }
+        try {
+            final var result = write.get();
+            entry.result.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            synchronized (this) {
+                entries.remove(key, entry);
+            }
+            entry.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private void expire(long now) {
+        final Iterator<Entry<T>> oldest = entries.values().iterator();
+        while (oldest.hasNext() && now - oldest.next().firstSeenNanos >= ttlNanos) {
+            oldest.remove();
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Entry<T>(Object request, long firstSeenNanos, CompletableFuture<T> result) {}
+
+    /**
+     * An {@code Idempotency-Key} sent again with a different request than it was first used for.
+     */
+    public static class IdempotencyKeyReusedException extends IllegalStateException {
+
+        public IdempotencyKeyReusedException(String key) {
+            super(HEADER + " " + key + " was already used for a different request");
+        }
+    }
+}
@@ -0,0 +1,382 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.EmployeePage;
+import com.reliaquest.server.model.EmployeeQuery;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * In-memory {@link EmployeeStore} with a {@link UUID} hash index, a case-insensitive name index for deletes, and
+ * title and salary indexes for queries and top earners.
+ *
+ * <ul>
+ *   <li>{@link #findById} is a lock-free {@link ConcurrentHashMap} lookup
+ *   <li>{@link #add}, {@link #removeByName} and {@link #removeById} are O(1) (amortized; O(log n) with the salary
+ *       index) and serialized on the store's monitor. Insertion order is kept in an array where removals leave a gap;
+ *       the array is compacted once half of it is gaps
+ *   <li>{@link #snapshot} returns an immutable list built at most once per write version and then shared by every
+ *       reader until the next write, so repeated reads of an unchanged roster cost one volatile read
+ *   <li>{@link #query} reads a per-title skip list in insertion order, a narrow salary range of the skip list ordered
+ *       by (salary, sequence), or scans the snapshot from the cursor, whichever the filters allow, without locking.
+ *       Index reads are weakly consistent with concurrent writes
+ *   <li>{@link #topEarners} and {@link #maxSalary} read the descending end of the salary index, which every write
+ *       keeps current
+ * </ul>
+ */
+public class IndexedEmployeeStore implements EmployeeStore {
+
+    private static final int MIN_CAPACITY = 64;
+    private static final int NO_SALARY = Integer.MIN_VALUE;
+    private static final Comparator<Entry> BY_SALARY =
+            Comparator.<Entry>comparingInt(entry -> entry.salaryKey).thenComparingLong(entry -> entry.sequence);
+    private static final Comparator<Entry> BY_SEQUENCE = Comparator.comparingLong(entry -> entry.sequence);
+
+    private final ConcurrentHashMap<UUID, Entry> byId;
+    private final Map<String, ArrayDeque<Entry>> byName;
+    private final ConcurrentHashMap<String, ConcurrentSkipListMap<Long, Entry>> byTitle = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Entry> bySalary = new ConcurrentSkipListSet<>(BY_SALARY);
+    private Entry[] order;
+    private int end;
+    private long nextSequence;
+
+    private volatile long version;
+    private volatile Snapshot snapshot = new Snapshot(0, new Entry[0]);
+
+    public IndexedEmployeeStore() {
+        this(List.of());
+    }
+
+    public IndexedEmployeeStore(Collection<MockEmployee> employees) {
+        final int capacity = Math.max(MIN_CAPACITY, employees.size());
+        this.byId = new ConcurrentHashMap<>(capacity);
+        this.byName = new HashMap<>(capacity);
+        this.order = new Entry[capacity];
+        employees.forEach(this::add);
+    }
+
+    @Override
+    public Optional<MockEmployee> findById(UUID id) {
+        final var entry = byId.get(id);
+        return entry == null ? Optional.empty() : Optional.of(entry.employee);
+    }
+
+    @Override
+    public List<MockEmployee> snapshot() {
+        return currentSnapshot();
+    }
+
+    @Override
+    public EmployeePage query(EmployeeQuery query) {
+        if (!query.isFiltered() && query.limit() == null && query.after() == null) {
+            return new EmployeePage(snapshot(), null);
+        }
+        if (query.title() != null) {
+            final var entries = byTitle.get(key(query.title()));
+            return entries == null
+                    ? new EmployeePage(List.of(), null)
+                    : page(entries.tailMap(query.afterOrStart(), false).values(), query);
+        }
+        if (query.hasSalaryRange()) {
+            return salaryRange(query);
+        }
+        return scan(query);
+    }
+
+    /**
+     * Reads the top of the salary index, so costs O(log n + {@code n}) whatever the roster size.
+     */
+    @Override
+    public List<MockEmployee> topEarners(int n) {
+        final var employees = new ArrayList<MockEmployee>(Math.min(n, 64));
+        for (Entry entry : bySalary.descendingSet()) {
+            if (employees.size() == n || entry.salaryKey == NO_SALARY) {
+                break;
+            }
+            employees.add(entry.employee);
+        }
+        return employees;
+    }
+
+    @Override
+    public synchronized void add(MockEmployee employee) {
+        final var entry = new Entry(employee, end, nextSequence++);
+        final var previous = byId.put(employee.getId(), entry);
+        if (previous != null) {
+            order[previous.position] = null;
+            unindex(previous);
+        }
+        if (end == order.length) {
+            order = Arrays.copyOf(order, order.length * 2);
+        }
+        order[end++] = entry;
+        if (employee.getName() != null) {
+            byName.computeIfAbsent(key(employee.getName()), ignored -> new ArrayDeque<>(1))
+                    .addLast(entry);
+        }
+        if (employee.getTitle() != null) {
+            byTitle.computeIfAbsent(key(employee.getTitle()), ignored -> new ConcurrentSkipListMap<>())
+                    .put(entry.sequence, entry);
+        }
+        bySalary.add(entry);
+        version++;
+    }
+
+    @Override
+    public synchronized Optional<MockEmployee> removeByName(String name) {
+        final var entries = byName.get(key(name));
+        if (entries == null) {
+            return Optional.empty();
+        }
+        final var entry = entries.peekFirst();
+        byId.remove(entry.employee.getId(), entry);
+        return Optional.of(remove(entry));
+    }
+
+    @Override
+    public synchronized Optional<MockEmployee> findByName(String name, Set<UUID> excluding) {
+        final var entries = byName.get(key(name));
+        if (entries != null) {
+            for (Entry entry : entries) {
+                if (!excluding.contains(entry.employee.getId())) {
+                    return Optional.of(entry.employee);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public synchronized Optional<MockEmployee> removeById(UUID id) {
+        final var entry = byId.remove(id);
+        return entry == null ? Optional.empty() : Optional.of(remove(entry));
+    }
+
+    @Override
+    public int size() {
+        return byId.size();
+    }
+
+    @Override
+    public long version() {
+        return version;
+    }
+
+    private Snapshot currentSnapshot() {
+        final var current = snapshot;
+        if (current.version == version) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot.version != version) {
+                snapshot = new Snapshot(version, copyInOrder());
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * Pages through a salary range. Without a limit every match is needed, so the range is read from the salary index
+     * and sorted into insertion order. With one, a narrow range is read from the index keeping only the {@code limit}
+     * earliest matches after the cursor, while a wide range is cheaper to page by scanning insertion order from the
+     * cursor, which stops at the {@code limit}th match. Which a range is only shows while reading it: past
+     * sqrt({@code limit} * n) index entries the scan is expected to cost less, so the index read gives way to it.
+     */
+    private EmployeePage salaryRange(EmployeeQuery query) {
+        final int minSalary = query.minSalary() == null ? Integer.MIN_VALUE : query.minSalary();
+        final int maxSalary = query.maxSalary() == null ? Integer.MAX_VALUE : query.maxSalary();
+        final var from = new Entry(minSalary, Long.MIN_VALUE);
+        final var to = new Entry(maxSalary, Long.MAX_VALUE);
+        final var range = bySalary.subSet(from, true, to, true);
+        if (query.limit() == null) {
+            final var matches = new ArrayList<Entry>();
+            for (Entry entry : range) {
+                if (entry.sequence > query.afterOrStart() && query.matches(entry.employee)) {
+                    matches.add(entry);
+                }
+            }
+            matches.sort(BY_SEQUENCE);
+            return page(matches, query);
+        }
+        final int limit = query.limit();
+        final long budget = limit + (long) Math.sqrt((double) limit * size());
+        final var earliest = new PriorityQueue<Entry>(Math.min(limit, 64), BY_SEQUENCE.reversed());
+        long read = 0;
+        for (Entry entry : range) {
+            if (++read > budget) {
+                return scan(query);
+            }
+            if (entry.sequence > query.afterOrStart()
+                    && (earliest.size() < limit || entry.sequence < earliest.peek().sequence)
+                    && query.matches(entry.employee)) {
+                earliest.add(entry);
+                if (earliest.size() > limit) {
+                    earliest.poll();
+                }
+            }
+        }
+        final var matches = new ArrayList<>(earliest);
+        matches.sort(BY_SEQUENCE);
+        return page(matches, query);
+    }
+
+    /**
+     * Pages through the snapshot from the cursor, found by binary search on sequence.
+     */
+    private EmployeePage scan(EmployeeQuery query) {
+        final var entries = currentSnapshot().entries;
+        int low = 0;
+        int high = entries.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (entries[mid].sequence <= query.afterOrStart()) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return page(Arrays.asList(entries).subList(low, entries.length), query);
+    }
+
+    private static EmployeePage page(Iterable<Entry> candidates, EmployeeQuery query) {
+        final int limit = query.limitOrAll();
+        final var employees = new ArrayList<MockEmployee>(Math.min(limit, 64));
+        for (Entry entry : candidates) {
+            if (entry.sequence > query.afterOrStart() && query.matches(entry.employee)) {
+                employees.add(entry.employee);
+                if (employees.size() == limit) {
+                    return new EmployeePage(employees, entry.sequence);
+                }
+            }
+        }
+        return new EmployeePage(employees, null);
+    }
+
+    /**
+     * Removes {@code entry}, already dropped from the ID index, from insertion order and the other indexes.
+     */
+    private MockEmployee remove(Entry entry) {
+        order[entry.position] = null;
+        unindex(entry);
+        compactIfSparse();
+        version++;
+        return entry.employee;
+    }
+
+    private void unindex(Entry entry) {
+        if (entry.employee.getName() != null) {
+            final var key = key(entry.employee.getName());
+            final var entries = byName.get(key);
+            entries.remove(entry);
+            if (entries.isEmpty()) {
+                byName.remove(key);
+            }
+        }
+        if (entry.employee.getTitle() != null) {
+            final var key = key(entry.employee.getTitle());
+            final var entries = byTitle.get(key);
+            entries.remove(entry.sequence);
+            if (entries.isEmpty()) {
+                byTitle.remove(key, entries);
+            }
+        }
+        bySalary.remove(entry);
+    }
+
+    private void compactIfSparse() {
+        final int live = byId.size();
+        if (end < MIN_CAPACITY || live > end / 2) {
+            return;
+        }
+        int next = 0;
+        for (int i = 0; i < end; i++) {
+            final var entry = order[i];
+            if (entry != null) {
+                entry.position = next;
+                order[next++] = entry;
+            }
+        }
+        Arrays.fill(order, next, end, null);
+        end = next;
+        if (order.length > MIN_CAPACITY && end < order.length / 4) {
+            order = Arrays.copyOf(order, Math.max(MIN_CAPACITY, order.length / 2));
+        }
+    }
+
+    private Entry[] copyInOrder() {
+        final var entries = new Entry[byId.size()];
+        int next = 0;
+        for (int i = 0; i < end; i++) {
+            if (order[i] != null) {
+                entries[next++] = order[i];
+            }
+        }
+        return entries;
+    }
+
+    private static String key(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Entry {
+        private final MockEmployee employee;
+        private final long sequence;
+        private final int salaryKey;
+        private int position;
+
+        private Entry(MockEmployee employee, int position, long sequence) {
+            this.employee = employee;
+            this.position = position;
+            this.sequence = sequence;
+            this.salaryKey = employee.getSalary() == null ? NO_SALARY : employee.getSalary();
+        }
+
+        /**
+         * A search bound for the salary index.
+         */
+        private Entry(int salaryKey, long sequence) {
+            this.employee = null;
+            this.sequence = sequence;
+            this.salaryKey = salaryKey;
+        }
+    }
+
+    /**
+     * The live entries in insertion (and so sequence) order, viewed as the list of their employees.
+     */
+    private static final class Snapshot extends AbstractList<MockEmployee> implements RandomAccess {
+        private final long version;
+        private final Entry[] entries;
+
+        private Snapshot(long version, Entry[] entries) {
+            this.version = version;
+            this.entries = entries;
+        }
+
+        @Override
+        public MockEmployee get(int index) {
+            return entries[index].employee;
+        }
+
+        @Override
+        public int size() {
+            return entries.length;
+        }
+    }
+}
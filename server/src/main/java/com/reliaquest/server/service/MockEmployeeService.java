@@ -1,18 +1,36 @@
 package com.reliaquest.server.service;
 
+import com.reliaquest.server.config.EmployeeJournal;
 import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.model.BulkResult;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.EmployeeChanges;
+import com.reliaquest.server.model.EmployeePage;
+import com.reliaquest.server.model.EmployeeQuery;
+import com.reliaquest.server.model.InvalidRequestException;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.RosterVersion;
+import jakarta.annotation.PostConstruct;
+import jakarta.validation.Validator;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import lombok.Getter;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -20,39 +38,371 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class MockEmployeeService {
 
+    public static final int MAX_TOP_EARNERS = 1000;
+
+    public static final int MAX_BATCH = 1000;
+
+    private static final CompletableFuture<Void> NOTHING_TO_JOURNAL = CompletableFuture.completedFuture(null);
+
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final EmployeeStore employeeStore;
+
+    private final EmployeeChangeLog employeeChangeLog;
+
+    private final ObjectProvider<EmployeeJournal> employeeJournal;
+
+    private final Validator validator;
+
+    private final IdempotencyCache<MockEmployee> idempotentCreates;
+
+    private final IdempotencyCache<List<BulkResult<MockEmployee>>> idempotentBulkCreates;
+
+    /**
+     * Makes deciding each write and giving it a version one step, and applies changes in version order.
+     */
+    private final Object writeLock = new Object();
+
+    // Guarded by writeLock: the changes given a version but not applied yet, oldest first, and what they do to the
+    // roster, so that writes decided meanwhile see them. Creates are in the order they were made.
+    private final ArrayDeque<Staged> staged = new ArrayDeque<>();
+    private final Map<UUID, MockEmployee> stagedCreates = new LinkedHashMap<>();
+    private final Set<UUID> stagedDeletes = new HashSet<>();
+
+    @PostConstruct
+    void registerSnapshotSource() {
+        employeeJournal.ifAvailable(journal -> journal.setSnapshotSource(this::snapshot));
+    }
+
+    public EmployeePage query(@NonNull EmployeeQuery query) {
+        return employeeStore.query(query);
+    }
+
+    /**
+     * @return the version of the latest write; reading it before a query gives a version the query is at least as new
+     *     as
+     */
+    public RosterVersion version() {
+        return employeeChangeLog.rosterVersion();
+    }
+
+    public EmployeeChanges changesSince(RosterVersion version) {
+        return employeeChangeLog.since(version);
+    }
+
+    public Optional<Integer> maxSalary() {
+        return employeeStore.maxSalary();
+    }
+
+    public List<MockEmployee> topEarners(int n) {
+        if (n < 1 || n > MAX_TOP_EARNERS) {
+            throw new InvalidRequestException("n must be between 1 and " + MAX_TOP_EARNERS);
+        }
+        return employeeStore.topEarners(n);
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return employeeStore.findById(uuid);
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
-        final var mockEmployee = MockEmployee.from(
-                ServerConfiguration.EMAIL_TEMPLATE.formatted(
-                        faker.twitter().userName().toLowerCase()),
-                input);
-        mockEmployees.add(mockEmployee);
+        final var mockEmployee = newEmployee(input);
+        final CompletableFuture<Void> durable;
+        synchronized (writeLock) {
+            durable = stage(EmployeeChange.Type.CREATED, mockEmployee);
+        }
+        commit(durable);
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
+    /**
+     * Creates as {@link #create(CreateMockEmployeeInput)} does, once per {@code idempotencyKey}: a retry with the same
+     * key gets the employee created the first time.
+     *
+     * @param idempotencyKey the request's {@value IdempotencyCache#HEADER}, or {@code null} to always create
+     */
+    public MockEmployee create(@NonNull CreateMockEmployeeInput input, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return create(input);
+        }
+        return idempotentCreates.execute(idempotencyKey, input, () -> create(input));
+    }
+
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
+        final Optional<MockEmployee> mockEmployee;
+        final CompletableFuture<Void> durable;
+        synchronized (writeLock) {
+            mockEmployee = findToDelete(input.getName());
+            durable = mockEmployee
+                    .map(employee -> stage(EmployeeChange.Type.DELETED, employee))
+                    .orElse(NOTHING_TO_JOURNAL);
+        }
+        commit(durable);
+        mockEmployee.ifPresent(employee -> log.debug("Removed employee: {}", employee));
+        return mockEmployee.isPresent();
+    }
+
+    /**
+     * Deletes the employee with {@code uuid}. Unlike {@link #delete}, which takes the earliest employee with a name,
+     * this cannot remove a different employee who shares the name.
+     *
+     * @return the deleted employee, or empty if there was none with {@code uuid}
+     */
+    public Optional<MockEmployee> deleteById(@NonNull UUID uuid) {
+        final Optional<MockEmployee> mockEmployee;
+        final CompletableFuture<Void> durable;
+        synchronized (writeLock) {
+            mockEmployee = findToDelete(uuid);
+            durable = mockEmployee
+                    .map(employee -> stage(EmployeeChange.Type.DELETED, employee))
+                    .orElse(NOTHING_TO_JOURNAL);
+        }
+        commit(durable);
+        mockEmployee.ifPresent(employee -> log.debug("Removed employee: {}", employee));
+        return mockEmployee;
+    }
+
+    /**
+     * Creates every valid input under one acquisition of the write lock, so the batch gets consecutive versions and,
+     * with a journal, shares its fsyncs.
+     *
+     * @return for each input, in order, the created employee or why the input is invalid
+     */
+    public List<BulkResult<MockEmployee>> createAll(@NonNull List<CreateMockEmployeeInput> inputs) {
+        checkBatchSize(inputs.size());
+        final List<BulkResult<MockEmployee>> results = new ArrayList<>(inputs.size());
+        final List<MockEmployee> created = new ArrayList<>(inputs.size());
+        for (CreateMockEmployeeInput input : inputs) {
+            final var invalid = violations(input);
+            if (invalid != null) {
+                results.add(BulkResult.error(invalid));
+                continue;
+            }
+            final var mockEmployee = newEmployee(input);
+            created.add(mockEmployee);
+            results.add(BulkResult.of(mockEmployee));
+        }
+        var durable = NOTHING_TO_JOURNAL;
+        synchronized (writeLock) {
+            for (MockEmployee mockEmployee : created) {
+                durable = stage(EmployeeChange.Type.CREATED, mockEmployee);
+            }
+        }
+        // The journal makes changes durable in order, so the last one being durable covers the batch.
+        commit(durable);
+        log.debug("Added {} employees", created.size());
+        return results;
+    }
+
+    /**
+     * Creates as {@link #createAll(List)} does, once per {@code idempotencyKey}: a retry with the same key gets the
+     * results of the first batch, and the same key with a different batch is refused.
+     *
+     * @param idempotencyKey the request's {@value IdempotencyCache#HEADER}, or {@code null} to always create
+     */
+    public List<BulkResult<MockEmployee>> createAll(
+            @NonNull List<CreateMockEmployeeInput> inputs, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return createAll(inputs);
+        }
+        // Copied, as the cache holds the batch to compare later requests with.
+        final List<CreateMockEmployeeInput> request = new ArrayList<>(inputs);
+        return idempotentBulkCreates.execute(idempotencyKey, request, () -> createAll(request));
+    }
+
+    /**
+     * Deletes by name, as {@link #delete} does, for every valid input under one acquisition of the write lock.
+     *
+     * @return for each input, in order, whether an employee was deleted or why the input is invalid
+     */
+    public List<BulkResult<Boolean>> deleteAll(@NonNull List<DeleteMockEmployeeInput> inputs) {
+        checkBatchSize(inputs.size());
+        final List<BulkResult<Boolean>> results = new ArrayList<>(inputs.size());
+        var durable = NOTHING_TO_JOURNAL;
+        int deleted = 0;
+        synchronized (writeLock) {
+            for (DeleteMockEmployeeInput input : inputs) {
+                final var invalid = violations(input);
+                if (invalid != null) {
+                    results.add(BulkResult.error(invalid));
+                    continue;
+                }
+                final var mockEmployee = findToDelete(input.getName());
+                if (mockEmployee.isPresent()) {
+                    durable = stage(EmployeeChange.Type.DELETED, mockEmployee.get());
+                    deleted++;
+                }
+                results.add(BulkResult.of(mockEmployee.isPresent()));
+            }
+        }
+        commit(durable);
+        log.debug("Removed {} employees", deleted);
+        return results;
+    }
+
+    /**
+     * Deletes by ID, as {@link #deleteById} does, for every valid ID under one acquisition of the write lock. An ID
+     * given twice deletes once; the second is not found.
+     *
+     * @return for each ID, in order, the deleted employee or why none was deleted
+     */
+    public List<BulkResult<MockEmployee>> deleteAllById(@NonNull List<String> ids) {
+        checkBatchSize(ids.size());
+        final List<BulkResult<MockEmployee>> results = new ArrayList<>(ids.size());
+        var durable = NOTHING_TO_JOURNAL;
+        int deleted = 0;
+        synchronized (writeLock) {
+            for (String id : ids) {
+                final UUID uuid;
+                try {
+                    uuid = UUID.fromString(id);
+                } catch (IllegalArgumentException | NullPointerException e) {
+                    results.add(BulkResult.error("id: must be a UUID"));
+                    continue;
+                }
+                final var mockEmployee = findToDelete(uuid);
+                if (mockEmployee.isEmpty()) {
+                    results.add(BulkResult.error("id: not found"));
+                    continue;
+                }
+                durable = stage(EmployeeChange.Type.DELETED, mockEmployee.get());
+                deleted++;
+                results.add(BulkResult.of(mockEmployee.get()));
+            }
+        }
+        commit(durable);
+        log.debug("Removed {} employees by ID", deleted);
+        return results;
+    }
+
+    private MockEmployee newEmployee(CreateMockEmployeeInput input) {
+        return MockEmployee.from(
+                ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                        faker.twitter().userName().toLowerCase()),
+                input);
+    }
+
+    private static void checkBatchSize(int size) {
+        if (size < 1 || size > MAX_BATCH) {
+            throw new InvalidRequestException("A batch must have between 1 and " + MAX_BATCH + " items");
+        }
+    }
+
+    /**
+     * @return the bean validation failures of {@code input}, as "field: message" pairs, or {@code null} if it is valid
+     */
+    private String violations(Object input) {
+        if (input == null) {
+            return "item must not be null";
+        }
+        final var violations = validator.validate(input);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * The employee a delete by {@code name} takes, counting the staged changes: the earliest-added match that is not
+     * about to be deleted. Must hold the write lock.
+     */
+    private Optional<MockEmployee> findToDelete(String name) {
+        final var stored = employeeStore.findByName(name, stagedDeletes);
+        if (stored.isPresent()) {
+            return stored;
+        }
+        final var key = name.toLowerCase(Locale.ROOT);
+        return stagedCreates.values().stream()
+                .filter(employee -> !stagedDeletes.contains(employee.getId())
+                        && employee.getName() != null
+                        && employee.getName().toLowerCase(Locale.ROOT).equals(key))
                 .findFirst();
-        if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
-            log.debug("Removed employee: {}", mockEmployee.get());
-            return true;
+    }
+
+    /**
+     * {@link #findById} counting the staged changes. Must hold the write lock.
+     */
+    private Optional<MockEmployee> findToDelete(UUID uuid) {
+        if (stagedDeletes.contains(uuid)) {
+            return Optional.empty();
+        }
+        return employeeStore.findById(uuid).or(() -> Optional.ofNullable(stagedCreates.get(uuid)));
+    }
+
+    /**
+     * Gives a change the next version and queues it on the journal, without applying it yet. Must hold the write lock.
+     *
+     * @return completed once the change is durable
+     */
+    private CompletableFuture<Void> stage(EmployeeChange.Type type, MockEmployee employee) {
+        final long previous = staged.isEmpty() ? employeeChangeLog.version() : staged.getLast().change().version();
+        final var change = new EmployeeChange(previous + 1, type, employee);
+        if (type == EmployeeChange.Type.CREATED) {
+            stagedCreates.put(employee.getId(), employee);
+        } else {
+            stagedDeletes.add(employee.getId());
+        }
+        final var durable = journal(change);
+        staged.addLast(new Staged(change, durable));
+        return durable;
+    }
+
+    /**
+     * Waits for {@code durable}, then applies the staged changes that are durable, in version order, to the store
+     * and change log. The journal makes changes durable in order, so that includes the caller's own. A change the
+     * journal failed is dropped and its failure thrown to its caller, so neither readers nor event subscribers ever
+     * see a change that would not survive a restart.
+     */
+    private void commit(CompletableFuture<Void> durable) {
+        try {
+            durable.join();
+        } finally {
+            synchronized (writeLock) {
+                while (!staged.isEmpty() && staged.getFirst().durable().isDone()) {
+                    apply(staged.removeFirst());
+                }
+            }
+        }
+    }
+
+    private void apply(Staged next) {
+        final var change = next.change();
+        final var id = change.employee().getId();
+        final boolean durable = !next.durable().isCompletedExceptionally();
+        if (change.type() == EmployeeChange.Type.CREATED) {
+            stagedCreates.remove(id);
+            if (durable) {
+                employeeStore.add(change.employee());
+            }
+        } else {
+            stagedDeletes.remove(id);
+            if (durable) {
+                employeeStore.removeById(id);
+            }
+        }
+        if (durable) {
+            employeeChangeLog.append(change);
         }
+    }
+
+    /**
+     * Queues {@code change} on the journal, if there is one. Callers wait on the result after releasing the write lock,
+     * so that concurrent writes are journaled with one fsync.
+     */
+    private CompletableFuture<Void> journal(EmployeeChange change) {
+        final var journal = employeeJournal.getIfAvailable();
+        return journal == null ? NOTHING_TO_JOURNAL : journal.append(change);
+    }
 
-        return false;
+    private record Staged(EmployeeChange change, CompletableFuture<Void> durable) {}
+
+    private EmployeeJournal.Snapshot snapshot() {
+        synchronized (writeLock) {
+            return new EmployeeJournal.Snapshot(employeeChangeLog.version(), employeeStore.snapshot());
+        }
     }
 }
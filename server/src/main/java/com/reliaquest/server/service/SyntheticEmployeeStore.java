@@ -0,0 +1,469 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.model.EmployeePage;
+import com.reliaquest.server.model.EmployeeQuery;
+import com.reliaquest.server.model.MockEmployee;
+import java.math.BigInteger;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import net.datafaker.Faker;
+
+/**
+ * {@link EmployeeStore} over a virtual roster of {@code size} employees, where employee {@code i} is computed on
+ * demand from {@code (seed, i)} instead of being held in memory. Only the overlay of writes is stored: the indexes of
+ * deleted synthetic employees and an {@link IndexedEmployeeStore} of created ones, listed after the synthetic roster.
+ *
+ * <ul>
+ *   <li>IDs are version 4 UUIDs whose low 62 bits are an invertible scramble of {@code i} (XOR a seed-derived key,
+ *       times an odd constant) and whose high bits are a hash of {@code (seed, i)}, so {@link #findById} decodes
+ *       {@code i} and checks the hash instead of searching
+ *   <li>Names are {@code first[i % F] + " " + last[i % L]} from seeded pools of distinct single-word names, with
+ *       {@code F} and {@code L} coprime. A name therefore fixes {@code i} modulo {@code F * L} (Chinese remainder
+ *       theorem), and {@link #removeByName} only visits the {@code size / (F * L)} indexes that can carry it
+ *   <li>Salary, age and title come from a hash of {@code (seed, i)}; emails are {@code first.last.i@company.com}
+ * </ul>
+ *
+ * Memory is a few thousand pool strings plus the overlay, whatever {@code size} is. {@link #snapshot} is a virtual
+ * list over a sorted copy of the deleted indexes and the created employees, taken once per write version.
+ * {@link #topEarners} scans the salaries once for the best {@value #TOP_EARNER_CANDIDATES} indexes and rescans only
+ * when deletes leave too few of them. A scan holds its own lock rather than the store's, so writes carry on while it
+ * runs, and readers that need a scan at the same time wait for one to finish instead of each running their own.
+ */
+public class SyntheticEmployeeStore implements EmployeeStore {
+
+    private static final int MAX_POOL_SIZE = 1024;
+    private static final int TOP_EARNER_CANDIDATES = 1024;
+    private static final int POOL_DRAWS = 20_000;
+    private static final long INDEX_MASK = (1L << 62) - 1;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final long INDEX_MULTIPLIER = GOLDEN_GAMMA;
+    private static final long INDEX_MULTIPLIER_INVERSE = inverse(INDEX_MULTIPLIER);
+
+    private final int size;
+    private final long seed;
+    private final long indexKey;
+    private final String[] firstNames;
+    private final String[] lastNames;
+    private final String[] titles;
+    private final Map<String, Integer> firstNameIndex;
+    private final Map<String, Integer> lastNameIndex;
+    private final long namePeriod;
+    private final long firstNameInverse;
+
+    private final Set<Integer> deleted = ConcurrentHashMap.newKeySet();
+    private final IndexedEmployeeStore created = new IndexedEmployeeStore();
+    private final Object topEarnersScan = new Object();
+
+    private volatile long version;
+    private volatile Snapshot snapshot;
+    private volatile TopEarners topEarners;
+
+    public SyntheticEmployeeStore(int size, long seed, Locale locale) {
+        this.size = size;
+        this.seed = seed;
+        this.indexKey = mix(seed + GOLDEN_GAMMA) & INDEX_MASK;
+        final var faker = new Faker(locale, new Random(seed));
+        this.firstNames = pool(() -> faker.name().firstName());
+        final var lastNamePool = pool(() -> faker.name().lastName());
+        int lastNameCount = lastNamePool.length;
+        while (BigInteger.valueOf(firstNames.length).gcd(BigInteger.valueOf(lastNameCount)).intValue() != 1) {
+            lastNameCount--;
+        }
+        this.lastNames = Arrays.copyOf(lastNamePool, lastNameCount);
+        this.titles = pool(() -> faker.job().title());
+        this.firstNameIndex = index(firstNames);
+        this.lastNameIndex = index(lastNames);
+        this.namePeriod = (long) firstNames.length * lastNames.length;
+        this.firstNameInverse = lastNames.length == 1
+                ? 0
+                : BigInteger.valueOf(firstNames.length)
+                        .modInverse(BigInteger.valueOf(lastNames.length))
+                        .longValue();
+        this.snapshot = new Snapshot(0, new int[0], List.of());
+    }
+
+    @Override
+    public Optional<MockEmployee> findById(UUID id) {
+        final int index = syntheticIndex(id);
+        if (index >= 0 && !deleted.contains(index)) {
+            return Optional.of(employee(index));
+        }
+        return created.findById(id);
+    }
+
+    @Override
+    public List<MockEmployee> snapshot() {
+        final var current = snapshot;
+        if (current.version == version) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot.version != version) {
+                snapshot = new Snapshot(
+                        version,
+                        deleted.stream().mapToInt(Integer::intValue).sorted().toArray(),
+                        created.snapshot());
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * Derives and filters employees in index order from the cursor, then continues into the created ones. There are no
+     * indexes over the virtual roster, so a selective filter may derive many employees per match.
+     */
+    @Override
+    public EmployeePage query(EmployeeQuery query) {
+        if (!query.isFiltered() && query.limit() == null && query.after() == null) {
+            return new EmployeePage(snapshot(), null);
+        }
+        final int limit = query.limitOrAll();
+        final var employees = new ArrayList<MockEmployee>(Math.min(limit, 64));
+        for (long index = query.afterOrStart() + 1; index < size; index++) {
+            if (deleted.contains((int) index)) {
+                continue;
+            }
+            final var employee = employee((int) index);
+            if (query.matches(employee)) {
+                employees.add(employee);
+                if (employees.size() == limit) {
+                    return new EmployeePage(employees, index);
+                }
+            }
+        }
+        final var createdPage = created.query(query.withPage(
+                query.afterOrStart() < size ? null : query.afterOrStart() - size,
+                query.limit() == null ? null : limit - employees.size()));
+        employees.addAll(createdPage.employees());
+        return new EmployeePage(
+                employees, createdPage.nextCursor() == null ? null : createdPage.nextCursor() + size);
+    }
+
+    /**
+     * Merges the live top-earner candidates with the created employees' top earners. Created employees were added
+     * after every synthetic one, so they come first among equal salaries.
+     */
+    @Override
+    public List<MockEmployee> topEarners(int n) {
+        final var synthetic = liveTopEarners(n);
+        final var fromCreated = created.topEarners(n);
+        final var employees = new ArrayList<MockEmployee>(Math.min(n, synthetic.size() + fromCreated.size()));
+        int s = 0;
+        int c = 0;
+        while (employees.size() < n && (s < synthetic.size() || c < fromCreated.size())) {
+            if (c < fromCreated.size()
+                    && (s == synthetic.size()
+                            || fromCreated.get(c).getSalary() >= synthetic.get(s).getSalary())) {
+                employees.add(fromCreated.get(c++));
+            } else {
+                employees.add(synthetic.get(s++));
+            }
+        }
+        return employees;
+    }
+
+    @Override
+    public synchronized void add(MockEmployee employee) {
+        created.add(employee);
+        version++;
+    }
+
+    @Override
+    public synchronized Optional<MockEmployee> removeByName(String name) {
+        final var parts = name.toLowerCase(Locale.ROOT).split(" ");
+        final var first = parts.length == 2 ? firstNameIndex.get(parts[0]) : null;
+        final var last = parts.length == 2 ? lastNameIndex.get(parts[1]) : null;
+        if (first != null && last != null) {
+            final long difference = Math.floorMod(last - first, lastNames.length);
+            final long start = first + firstNames.length * (difference * firstNameInverse % lastNames.length);
+            for (long index = start; index < size; index += namePeriod) {
+                if (deleted.add((int) index)) {
+                    version++;
+                    return Optional.of(employee((int) index));
+                }
+            }
+        }
+        final var removed = created.removeByName(name);
+        if (removed.isPresent()) {
+            version++;
+        }
+        return removed;
+    }
+
+    @Override
+    public synchronized Optional<MockEmployee> findByName(String name, Set<UUID> excluding) {
+        final var parts = name.toLowerCase(Locale.ROOT).split(" ");
+        final var first = parts.length == 2 ? firstNameIndex.get(parts[0]) : null;
+        final var last = parts.length == 2 ? lastNameIndex.get(parts[1]) : null;
+        if (first != null && last != null) {
+            final long difference = Math.floorMod(last - first, lastNames.length);
+            final long start = first + firstNames.length * (difference * firstNameInverse % lastNames.length);
+            for (long index = start; index < size; index += namePeriod) {
+                if (!deleted.contains((int) index)) {
+                    final var employee = employee((int) index);
+                    if (!excluding.contains(employee.getId())) {
+                        return Optional.of(employee);
+                    }
+                }
+            }
+        }
+        return created.findByName(name, excluding);
+    }
+
+    /**
+     * Decodes the synthetic index from {@code id}, as {@link #findById} does, so costs O(1) whatever the roster size.
+     */
+    @Override
+    public synchronized Optional<MockEmployee> removeById(UUID id) {
+        final int index = syntheticIndex(id);
+        if (index >= 0) {
+            if (!deleted.add(index)) {
+                return Optional.empty();
+            }
+            version++;
+            return Optional.of(employee(index));
+        }
+        final var removed = created.removeById(id);
+        if (removed.isPresent()) {
+            version++;
+        }
+        return removed;
+    }
+
+    @Override
+    public int size() {
+        return size - deleted.size() + created.size();
+    }
+
+    @Override
+    public long version() {
+        return version;
+    }
+
+    /**
+     * @return the index of the synthetic employee {@code id} belongs to, deleted or not, or -1 if it is not synthetic
+     */
+    private int syntheticIndex(UUID id) {
+        final long index = ((id.getLeastSignificantBits() * INDEX_MULTIPLIER_INVERSE) & INDEX_MASK) ^ indexKey;
+        return index < size && id.getMostSignificantBits() == idHigh(index) ? (int) index : -1;
+    }
+
+    MockEmployee employee(int index) {
+        final long hash = mix(idHigh(index));
+        final var first = firstNames[index % firstNames.length];
+        final var last = lastNames[index % lastNames.length];
+        return new MockEmployee(
+                new UUID(idHigh(index), Long.MIN_VALUE | (((index ^ indexKey) * INDEX_MULTIPLIER) & INDEX_MASK)),
+                first + " " + last,
+                salary(hash),
+                16 + (int) ((hash >>> 40) % 54),
+                titles[(int) Long.remainderUnsigned(hash >>> 8, titles.length)],
+                ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                        (first + "." + last + "." + index).toLowerCase(Locale.ROOT)));
+    }
+
+    /**
+     * The live synthetic employees among the current candidates, best first, rescanning when deletes have left fewer
+     * than {@code n} of a scan that stopped short of the whole roster. The scan reads {@link #deleted} while deletes
+     * continue; one it misses is dropped by {@link TopEarners#live} like any later delete.
+     */
+    private List<MockEmployee> liveTopEarners(int n) {
+        final var live = live(topEarners, n);
+        if (live != null) {
+            return live;
+        }
+        synchronized (topEarnersScan) {
+            final var rechecked = live(topEarners, n);
+            if (rechecked != null) {
+                return rechecked;
+            }
+            topEarners = scanTopEarners(Math.max(n, TOP_EARNER_CANDIDATES));
+            return topEarners.live(n);
+        }
+    }
+
+    /**
+     * @return the live {@code candidates}, or {@code null} if there are none yet or they may miss a better index
+     */
+    private static List<MockEmployee> live(TopEarners candidates, int n) {
+        if (candidates == null) {
+            return null;
+        }
+        final var live = candidates.live(n);
+        return live.size() == n || candidates.complete ? live : null;
+    }
+
+    /**
+     * One pass over the live synthetic indexes, keeping the best {@code count} in a min-heap of
+     * {@code salary << 32 | index} keys, so ties go to the higher (later) index.
+     */
+    private TopEarners scanTopEarners(int count) {
+        final var heap = new long[count];
+        int heapSize = 0;
+        for (int index = 0; index < size; index++) {
+            if (deleted.contains(index)) {
+                continue;
+            }
+            final long key = (long) salary(mix(idHigh(index))) << 32 | index;
+            if (heapSize < count) {
+                int child = heapSize++;
+                while (child > 0 && heap[(child - 1) >>> 1] > key) {
+                    heap[child] = heap[(child - 1) >>> 1];
+                    child = (child - 1) >>> 1;
+                }
+                heap[child] = key;
+            } else if (key > heap[0]) {
+                int parent = 0;
+                while (true) {
+                    int child = 2 * parent + 1;
+                    if (child >= count) {
+                        break;
+                    }
+                    if (child + 1 < count && heap[child + 1] < heap[child]) {
+                        child++;
+                    }
+                    if (heap[child] >= key) {
+                        break;
+                    }
+                    heap[parent] = heap[child];
+                    parent = child;
+                }
+                heap[parent] = key;
+            }
+        }
+        final var keys = Arrays.copyOf(heap, heapSize);
+        Arrays.sort(keys);
+        final var indexes = new int[heapSize];
+        for (int i = 0; i < heapSize; i++) {
+            indexes[i] = (int) keys[heapSize - 1 - i];
+        }
+        return new TopEarners(indexes, heapSize < count);
+    }
+
+    private static int salary(long hash) {
+        return 30000 + (int) Long.remainderUnsigned(hash, 470000);
+    }
+
+    private long idHigh(long index) {
+        return (mix(seed ^ mix(index)) & ~0xF000L) | 0x4000L;
+    }
+
+    private static String[] pool(Supplier<String> draw) {
+        final var distinct = new ArrayList<String>();
+        final var seen = new HashSet<String>();
+        for (int i = 0; i < POOL_DRAWS && distinct.size() < MAX_POOL_SIZE; i++) {
+            final var value = draw.get();
+            if (!value.isBlank() && !value.contains(" ") && seen.add(value.toLowerCase(Locale.ROOT))) {
+                distinct.add(value);
+            }
+        }
+        return distinct.toArray(String[]::new);
+    }
+
+    private static Map<String, Integer> index(String[] names) {
+        final var index = new HashMap<String, Integer>(names.length * 2);
+        for (int i = 0; i < names.length; i++) {
+            index.put(names[i].toLowerCase(Locale.ROOT), i);
+        }
+        return index;
+    }
+
+    /**
+     * Multiplicative inverse of an odd number modulo 2^64 (and so modulo 2^62) by Newton's iteration.
+     */
+    private static long inverse(long odd) {
+        long inverse = odd;
+        for (int i = 0; i < 5; i++) {
+            inverse *= 2 - odd * inverse;
+        }
+        return inverse;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * The live synthetic employees in index order, then the created ones. Position {@code p} of the synthetic part is
+     * index {@code p + k}, where {@code k} counts the deleted indexes {@code d[m]} with {@code d[m] - m <= p}.
+     */
+    private final class Snapshot extends AbstractList<MockEmployee> implements RandomAccess {
+        private final long version;
+        private final int[] deletedIndexes;
+        private final List<MockEmployee> createdEmployees;
+        private final int syntheticSize;
+
+        private Snapshot(long version, int[] deletedIndexes, List<MockEmployee> createdEmployees) {
+            this.version = version;
+            this.deletedIndexes = deletedIndexes;
+            this.createdEmployees = createdEmployees;
+            this.syntheticSize = size - deletedIndexes.length;
+        }
+
+        @Override
+        public MockEmployee get(int position) {
+            if (position < 0 || position >= size()) {
+                throw new IndexOutOfBoundsException(position);
+            }
+            if (position >= syntheticSize) {
+                return createdEmployees.get(position - syntheticSize);
+            }
+            int low = 0;
+            int high = deletedIndexes.length;
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (deletedIndexes[mid] - mid <= position) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return employee(position + low);
+        }
+
+        @Override
+        public int size() {
+            return syntheticSize + createdEmployees.size();
+        }
+    }
+
+    /**
+     * Synthetic indexes in descending salary order, as of the scan that found them. {@code complete} means the scan
+     * kept every live index, so later deletes can never leave a better one outside the list.
+     */
+    private final class TopEarners {
+        private final int[] indexes;
+        private final boolean complete;
+
+        private TopEarners(int[] indexes, boolean complete) {
+            this.indexes = indexes;
+            this.complete = complete;
+        }
+
+        private List<MockEmployee> live(int n) {
+            final var employees = new ArrayList<MockEmployee>(Math.min(n, indexes.length));
+            for (int i = 0; i < indexes.length && employees.size() < n; i++) {
+                if (!deleted.contains(indexes[i])) {
+                    employees.add(employee(indexes[i]));
+                }
+            }
+            return employees;
+        }
+    }
+}
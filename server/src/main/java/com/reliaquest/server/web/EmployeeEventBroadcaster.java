@@ -0,0 +1,165 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.InvalidRequestException;
+import com.reliaquest.server.model.RosterVersion;
+import com.reliaquest.server.service.EmployeeChangeLog;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes every {@link EmployeeChange} to subscribed clients as a Server-Sent Event named {@code created} or
+ * {@code deleted}, whose ID is the change's {@link RosterVersion}. A client reconnecting with {@code Last-Event-ID}
+ * first gets the changes it missed from the {@link EmployeeChangeLog}; if those have been trimmed, its ID is of another
+ * epoch (as after a restart without a journal), or it sends no ID, it gets a {@code resync} event carrying the current
+ * version instead, after which it must reload the roster.
+ *
+ * <p>All sends run on one dispatcher thread, so events reach each subscriber in version order and a slow subscriber
+ * delays only the dispatcher rather than writers. A comment line every heartbeat interval lets both ends notice dead
+ * connections.
+ */
+@Slf4j
+@Component
+public class EmployeeEventBroadcaster {
+
+    public static final String RESYNC_EVENT = "resync";
+
+    private final EmployeeChangeLog employeeChangeLog;
+    private final ScheduledExecutorService dispatcher;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    public EmployeeEventBroadcaster(
+            EmployeeChangeLog employeeChangeLog, @Value("${mock.events.heartbeat:15s}") Duration heartbeat) {
+        this.employeeChangeLog = employeeChangeLog;
+        this.dispatcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "employee-events");
+            thread.setDaemon(true);
+            return thread;
+        });
+        employeeChangeLog.addListener(change -> dispatcher.execute(() -> broadcast(change)));
+        dispatcher.scheduleAtFixedRate(
+                this::heartbeat, heartbeat.toMillis(), heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param lastEventId the last version the client applied, or {@code null} on its first connection; one that does
+     *     not parse is treated as missing
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        return subscribe(new SseEmitter(0L), lastEventId);
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, String lastEventId) {
+        final var subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> dispatcher.execute(() -> subscribers.remove(subscriber)));
+        emitter.onError(error -> dispatcher.execute(() -> subscribers.remove(subscriber)));
+        dispatcher.execute(() -> start(subscriber, lastEventId));
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    private void start(Subscriber subscriber, String lastEventId) {
+        final var lastVersion = parse(lastEventId);
+        final var changes = lastVersion == null ? null : employeeChangeLog.since(lastVersion);
+        if (changes == null || changes.resyncRequired()) {
+            final var version = changes == null
+                    ? employeeChangeLog.rosterVersion()
+                    : new RosterVersion(changes.epoch(), changes.version());
+            subscriber.lastSent = version.version();
+            send(subscriber, SseEmitter.event()
+                    .id(version.toString())
+                    .name(RESYNC_EVENT)
+                    .data(version.toString()));
+        } else {
+            changes.changes().forEach(change -> sendChange(subscriber, change));
+            subscriber.lastSent = Math.max(subscriber.lastSent, changes.version());
+        }
+        if (!subscriber.failed) {
+            subscribers.add(subscriber);
+        }
+    }
+
+    private static RosterVersion parse(String lastEventId) {
+        if (lastEventId == null) {
+            return null;
+        }
+        try {
+            return RosterVersion.parse(lastEventId);
+        } catch (InvalidRequestException e) {
+            return null;
+        }
+    }
+
+    private void broadcast(EmployeeChange change) {
+        for (Subscriber subscriber : subscribers) {
+            sendChange(subscriber, change);
+        }
+        subscribers.removeIf(subscriber -> subscriber.failed);
+    }
+
+    /**
+     * Sends {@code change} unless the subscriber already has it: a change appended while the subscriber was being
+     * started is both in its replay and queued for broadcast.
+     */
+    private void sendChange(Subscriber subscriber, EmployeeChange change) {
+        if (change.version() <= subscriber.lastSent) {
+            return;
+        }
+        subscriber.lastSent = change.version();
+        send(subscriber, SseEmitter.event()
+                .id(new RosterVersion(employeeChangeLog.epoch(), change.version()).toString())
+                .name(change.type().name().toLowerCase(Locale.ROOT))
+                .data(change, MediaType.APPLICATION_JSON));
+    }
+
+    private void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            send(subscriber, SseEmitter.event().comment("heartbeat"));
+        }
+        subscribers.removeIf(subscriber -> subscriber.failed);
+    }
+
+    private void send(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (subscriber.failed) {
+            return;
+        }
+        try {
+            subscriber.emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping event subscriber: {}", e.getMessage());
+            subscriber.failed = true;
+            subscriber.emitter.completeWithError(e);
+        }
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private long lastSent = Long.MIN_VALUE;
+        private boolean failed;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.EmployeeChangeLog;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * The unfiltered {@code GET /api/v1/employee} body, serialized once per roster version and, with
+ * {@code server.compression.enabled}, gzipped once too, so serving the whole roster copies bytes instead of running
+ * Jackson and deflate on every request. Every create and delete drops the cached body; the next request at the new
+ * version builds it again.
+ *
+ * <p>The gzipped body is sent with its own {@code Content-Encoding}, which the servlet container's compression leaves
+ * alone, to clients that accept gzip and when the body reaches {@code server.compression.min-response-size}.
+ */
+@Slf4j
+@Component
+public class EmployeeListResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final boolean compress;
+    private final long minCompressSize;
+
+    private volatile Body body;
+
+    public EmployeeListResponseCache(
+            EmployeeChangeLog employeeChangeLog,
+            ObjectMapper objectMapper,
+            @Value("${server.compression.enabled:false}") boolean compress,
+            @Value("${server.compression.min-response-size:2KB}") DataSize minCompressSize) {
+        this.objectMapper = objectMapper;
+        this.compress = compress;
+        this.minCompressSize = minCompressSize.toBytes();
+        employeeChangeLog.addListener(change -> body = null);
+    }
+
+    /**
+     * Writes the roster as of {@code version} to {@code response}.
+     *
+     * @param version the current roster version, read before {@code roster} so that the body is at least that new
+     */
+    public void write(
+            long version,
+            Supplier<List<MockEmployee>> roster,
+            HttpServletRequest request,
+            HttpServletResponse response)
+            throws IOException {
+        final var current = get(version, roster);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        var bytes = current.json;
+        if (current.gzip != null) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (acceptsGzip(request)) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                bytes = current.gzip;
+            }
+        }
+        response.setContentLength(bytes.length);
+        response.getOutputStream().write(bytes);
+    }
+
+    Body get(long version, Supplier<List<MockEmployee>> roster) {
+        final var cached = body;
+        if (cached != null && cached.version == version) {
+            return cached;
+        }
+        synchronized (this) {
+            if (body != null && body.version == version) {
+                return body;
+            }
+            final long started = System.nanoTime();
+            final var json = serialize(roster.get());
+            final var built = new Body(version, json, compress && json.length >= minCompressSize ? gzip(json) : null);
+            log.debug(
+                    "Cached roster body at version {}: {} bytes, {} gzipped, in {}ms",
+                    version,
+                    json.length,
+                    built.gzip == null ? "not" : built.gzip.length,
+                    (System.nanoTime() - started) / 1_000_000);
+            body = built;
+            return built;
+        }
+    }
+
+    private byte[] serialize(List<MockEmployee> roster) {
+        try {
+            return objectMapper.writeValueAsBytes(Response.handledWith(roster));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        final var bytes = new ByteArrayOutputStream(json.length / 4);
+        try (var out = new GZIPOutputStream(bytes, 64 * 1024)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        final var accepted = request.getHeaders(HttpHeaders.ACCEPT_ENCODING);
+        while (accepted != null && accepted.hasMoreElements()) {
+            for (String coding : accepted.nextElement().split(",")) {
+                final var parts = coding.trim().toLowerCase(Locale.ROOT).split(";");
+                final var name = parts[0].trim();
+                if ((name.equals("gzip") || name.equals("*")) && !rejected(parts)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean rejected(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            final var parameter = parameters[i].replace(" ", "");
+            if (parameter.startsWith("q=") && parameter.substring(2).matches("0(\\.0*)?")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The serialized body at {@code version}, and its gzipped form when it is big enough to be worth compressing.
+     */
+    record Body(long version, byte[] json, byte[] gzip) {}
+}
@@ -0,0 +1,83 @@
+package com.reliaquest.server.web;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+/**
+ * Admits {@code requestLimit} requests, then rejects until {@code backoff} has passed since the last admitted request.
+ * Once {@code backoff} has passed, a new window starts whether or not the last one was used up. This is the mock
+ * server's original limiter; {@link #random()} keeps its random 5-10 requests and 30-90s backoff.
+ *
+ * <p>The request count and the time of the last admitted request share one {@code long} (milliseconds since
+ * construction in the upper 48 bits, count in the lower 16), so the check and the update are a single
+ * compare-and-set: concurrent requests can never push the count past the limit, and nothing is allocated per request.
+ */
+public class FixedWindowRateLimiter implements RateLimiter {
+
+    private static final int COUNT_BITS = 16;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private final int requestLimit;
+    private final long backoffMillis;
+    private final long originNanos;
+    private final AtomicLong state = new AtomicLong();
+
+    public FixedWindowRateLimiter(int requestLimit, Duration backoff) {
+        if (requestLimit < 1 || requestLimit > COUNT_MASK) {
+            throw new IllegalArgumentException("Request limit must be between 1 and " + COUNT_MASK);
+        }
+        this.requestLimit = requestLimit;
+        this.backoffMillis = backoff.toMillis();
+        this.originNanos = System.nanoTime();
+    }
+
+    public static FixedWindowRateLimiter random() {
+        return new FixedWindowRateLimiter(
+                RandomGenerator.getDefault().nextInt(5, 10),
+                Duration.ofSeconds(RandomGenerator.getDefault().nextInt(30, 90)));
+    }
+
+    @Override
+    public boolean tryAcquire(long nowNanos) {
+        long nowMillis = elapsedMillis(nowNanos);
+        while (true) {
+            long current = state.get();
+            int count = (int) (current & COUNT_MASK);
+            long next;
+            if (nowMillis - (current >>> COUNT_BITS) >= backoffMillis) {
+                // A new window, even if the last one was not used up, so an idle limiter is as good as a fresh one.
+                next = pack(nowMillis, 1);
+            } else if (count < requestLimit) {
+                next = pack(nowMillis, count + 1);
+            } else {
+                return false;
+            }
+            if (state.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public boolean isIdle(long nowNanos) {
+        long current = state.get();
+        return (current & COUNT_MASK) == 0 || elapsedMillis(nowNanos) - (current >>> COUNT_BITS) >= backoffMillis;
+    }
+
+    public int getRequestLimit() {
+        return requestLimit;
+    }
+
+    public Duration getBackoff() {
+        return Duration.ofMillis(backoffMillis);
+    }
+
+    private long elapsedMillis(long nowNanos) {
+        return Math.max(0, nowNanos - originNanos) / 1_000_000;
+    }
+
+    private static long pack(long millis, int count) {
+        return (millis << COUNT_BITS) | count;
+    }
+}
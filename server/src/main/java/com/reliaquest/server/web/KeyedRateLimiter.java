@@ -0,0 +1,84 @@
+package com.reliaquest.server.web;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * A separate {@link RateLimiter} per client key, created on first use from {@code limiterFactory}.
+ *
+ * <p>Keys are spread over a power-of-two number of stripes (four per core), each a map guarded by its own lock, so
+ * requests from different clients rarely contend. The lookup and the admission happen under that lock, so a limiter
+ * cannot be dropped between being found and counting the request.
+ *
+ * <p>At most {@code maxKeys} clients are tracked. When a stripe is full, its idle limiters are dropped (they would make
+ * the same decisions as a fresh one); limiters still counting are never dropped, since a fresh one would let their
+ * client start over. A new client that finds its stripe full of busy limiters shares one overflow limiter with every
+ * other such client until room frees up, so being untracked never grants more than the limit.
+ */
+public class KeyedRateLimiter {
+
+    private final Supplier<RateLimiter> limiterFactory;
+    private final Map<String, RateLimiter>[] stripes;
+    private final int stripeMask;
+    private final int maxKeysPerStripe;
+    private final RateLimiter overflow;
+
+    public KeyedRateLimiter(Supplier<RateLimiter> limiterFactory, int maxKeys) {
+        this(limiterFactory, maxKeys, Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 4 - 1) << 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    KeyedRateLimiter(Supplier<RateLimiter> limiterFactory, int maxKeys, int stripeCount) {
+        if (Integer.bitCount(stripeCount) != 1) {
+            throw new IllegalArgumentException("stripeCount must be a power of two");
+        }
+        this.limiterFactory = limiterFactory;
+        this.stripes = new Map[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            // Access order, so the least recently used limiters are checked for idleness first.
+            stripes[i] = new LinkedHashMap<>(16, 0.75f, true);
+        }
+        this.stripeMask = stripeCount - 1;
+        this.maxKeysPerStripe = Math.max(1, maxKeys / stripeCount);
+        this.overflow = limiterFactory.get();
+    }
+
+    public boolean tryAcquire(String key, long nowNanos) {
+        Map<String, RateLimiter> stripe = stripeFor(key);
+        synchronized (stripe) {
+            RateLimiter limiter = stripe.get(key);
+            if (limiter == null) {
+                if (stripe.size() >= maxKeysPerStripe && !evictIdle(stripe, nowNanos)) {
+                    return overflow.tryAcquire(nowNanos);
+                }
+                limiter = limiterFactory.get();
+                stripe.put(key, limiter);
+            }
+            return limiter.tryAcquire(nowNanos);
+        }
+    }
+
+    public int getTrackedKeys() {
+        int trackedKeys = 0;
+        for (Map<String, RateLimiter> stripe : stripes) {
+            synchronized (stripe) {
+                trackedKeys += stripe.size();
+            }
+        }
+        return trackedKeys;
+    }
+
+    private Map<String, RateLimiter> stripeFor(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & stripeMask];
+    }
+
+    /**
+     * @return whether dropping the stripe's idle limiters made room for another
+     */
+    private boolean evictIdle(Map<String, RateLimiter> stripe, long nowNanos) {
+        stripe.values().removeIf(limiter -> limiter.isIdle(nowNanos));
+        return stripe.size() < maxKeysPerStripe;
+    }
+}
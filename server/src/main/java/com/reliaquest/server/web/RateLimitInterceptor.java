@@ -0,0 +1,70 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.model.RateLimitStats;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Rejects requests with 429 when the configured {@link RateLimitPolicy} says so, either against one limiter shared by
+ * every client or against one per client ({@link KeyedRateLimiter}). Clients are identified by
+ * {@code clientKeyHeader} when the request carries it, otherwise by remote address. Admissions and rejections are
+ * counted on {@link LongAdder}s so the counting does not become the contended part.
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final RateLimitPolicy policy;
+    private final RateLimiter limiter;
+    private final KeyedRateLimiter keyedLimiter;
+    private final String clientKeyHeader;
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    private RateLimitInterceptor(
+            RateLimitPolicy policy, RateLimiter limiter, KeyedRateLimiter keyedLimiter, String clientKeyHeader) {
+        this.policy = policy;
+        this.limiter = limiter;
+        this.keyedLimiter = keyedLimiter;
+        this.clientKeyHeader = clientKeyHeader;
+    }
+
+    public static RateLimitInterceptor global(RateLimitPolicy policy, RateLimiter limiter) {
+        return new RateLimitInterceptor(policy, limiter, null, null);
+    }
+
+    public static RateLimitInterceptor perClient(
+            RateLimitPolicy policy, KeyedRateLimiter keyedLimiter, String clientKeyHeader) {
+        return new RateLimitInterceptor(policy, null, keyedLimiter, clientKeyHeader);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        long now = System.nanoTime();
+        boolean admit =
+                keyedLimiter == null ? limiter.tryAcquire(now) : keyedLimiter.tryAcquire(clientKey(request), now);
+        if (admit) {
+            admitted.increment();
+            return true;
+        }
+        rejected.increment();
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        return false;
+    }
+
+    public RateLimitStats getStats() {
+        return new RateLimitStats(
+                policy,
+                keyedLimiter != null,
+                admitted.sum(),
+                rejected.sum(),
+                keyedLimiter == null ? 0 : keyedLimiter.getTrackedKeys());
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        String key = clientKeyHeader == null ? null : request.getHeader(clientKeyHeader);
+        return StringUtils.hasText(key) ? key : request.getRemoteAddr();
+    }
+}
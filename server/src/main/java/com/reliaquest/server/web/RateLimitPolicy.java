@@ -0,0 +1,53 @@
+package com.reliaquest.server.web;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * The rate-limit algorithms the mock server can apply, selected with {@code mock.rate-limit.policy}. All but
+ * {@link #RANDOM} are deterministic, configured with {@code mock.rate-limit.limit} requests per
+ * {@code mock.rate-limit.window}.
+ */
+public enum RateLimitPolicy {
+    /** No limit. */
+    NONE,
+    /** The original behaviour: a fixed window with a random 5-10 request limit and 30-90s backoff. */
+    RANDOM,
+    /** {@code limit} requests, then rejected until {@code window} has passed since the last admitted one. */
+    FIXED_WINDOW,
+    /** Bursts of up to {@code limit} requests, refilled at {@code limit} per {@code window}. */
+    TOKEN_BUCKET,
+    /** At most {@code limit} requests in any {@code window}. */
+    SLIDING_WINDOW;
+
+    public RateLimiter newLimiter(int limit, Duration window) {
+        return switch (this) {
+            case NONE -> Unlimited.INSTANCE;
+            case RANDOM -> FixedWindowRateLimiter.random();
+            case FIXED_WINDOW -> new FixedWindowRateLimiter(limit, window);
+            case TOKEN_BUCKET -> new TokenBucketRateLimiter(limit, limit * 1_000_000_000.0 / window.toNanos());
+            case SLIDING_WINDOW -> new SlidingWindowLogRateLimiter(limit, window);
+        };
+    }
+
+    /**
+     * Accepts the enum name in any case, with {@code -} or {@code _} separators ({@code token-bucket}).
+     */
+    public static RateLimitPolicy parse(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+
+    private enum Unlimited implements RateLimiter {
+        INSTANCE;
+
+        @Override
+        public boolean tryAcquire(long nowNanos) {
+            return true;
+        }
+
+        @Override
+        public boolean isIdle(long nowNanos) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.reliaquest.server.web;
+
+/**
+ * One rate-limit state machine. Implementations are thread-safe and take the current time from the caller
+ * ({@link System#nanoTime()} in production) so that a single clock read serves the whole decision and tests can drive
+ * time directly.
+ */
+public interface RateLimiter {
+
+    /**
+     * @return true if a request arriving at {@code nowNanos} is admitted, in which case it has been counted
+     */
+    boolean tryAcquire(long nowNanos);
+
+    /**
+     * @return true if this limiter is back in its initial state at {@code nowNanos}, so dropping it and starting a new
+     *     one would not change any decision. {@link KeyedRateLimiter} evicts idle clients with this.
+     */
+    boolean isIdle(long nowNanos);
+}
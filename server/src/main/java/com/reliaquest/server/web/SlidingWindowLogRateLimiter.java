@@ -0,0 +1,44 @@
+package com.reliaquest.server.web;
+
+import java.time.Duration;
+
+/**
+ * Admits at most {@code limit} requests in any {@code window}, by keeping the admission times of the last
+ * {@code limit} requests in a ring buffer: a request is admitted if the oldest of them has left the window. Exact at
+ * every instant, unlike a fixed window, at the cost of {@code limit} timestamps per limiter and a lock around the
+ * buffer; with {@link KeyedRateLimiter} the lock is per client.
+ */
+public class SlidingWindowLogRateLimiter implements RateLimiter {
+
+    private final long windowNanos;
+    private final long[] log;
+    private int head;
+    private int size;
+
+    public SlidingWindowLogRateLimiter(int limit, Duration window) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Sliding window limit must be positive");
+        }
+        this.windowNanos = window.toNanos();
+        this.log = new long[limit];
+    }
+
+    @Override
+    public synchronized boolean tryAcquire(long nowNanos) {
+        if (size == log.length) {
+            if (nowNanos - log[head] < windowNanos) {
+                return false;
+            }
+        } else {
+            size++;
+        }
+        log[head] = nowNanos;
+        head = (head + 1) % log.length;
+        return true;
+    }
+
+    @Override
+    public synchronized boolean isIdle(long nowNanos) {
+        return size == 0 || nowNanos - log[(head + log.length - 1) % log.length] >= windowNanos;
+    }
+}
@@ -0,0 +1,46 @@
+package com.reliaquest.server.web;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket holding up to {@code capacity} tokens, refilled at {@code refillPerSecond}; each request takes one.
+ *
+ * <p>Implemented as the generic cell rate algorithm, which is equivalent but needs only one {@code long} of state: the
+ * theoretical arrival time ({@code tat}) at which the bucket would be full again. A request is admitted while
+ * {@code tat} is no more than {@code capacity - 1} refill intervals ahead of now, and each admission pushes it one
+ * interval further. The update is a compare-and-set, so admissions are exact under contention and allocation-free.
+ */
+public class TokenBucketRateLimiter implements RateLimiter {
+
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final AtomicLong tat;
+
+    public TokenBucketRateLimiter(int capacity, double refillPerSecond) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Token bucket capacity and refill rate must be positive");
+        }
+        this.intervalNanos = Math.max(1, (long) (1_000_000_000L / refillPerSecond));
+        this.toleranceNanos = intervalNanos * (capacity - 1);
+        this.tat = new AtomicLong(System.nanoTime());
+    }
+
+    @Override
+    public boolean tryAcquire(long nowNanos) {
+        while (true) {
+            long current = tat.get();
+            if (current - nowNanos > toleranceNanos) {
+                return false;
+            }
+            long next = (current - nowNanos > 0 ? current : nowNanos) + intervalNanos;
+            if (tat.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public boolean isIdle(long nowNanos) {
+        return tat.get() - nowNanos <= 0;
+    }
+}
@@ -0,0 +1,248 @@
+package com.reliaquest.server.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EmployeeJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void open_RecoversSnapshotAndChangesAfterRestart() throws Exception {
+        // Given
+        List<MockEmployee> roster = new MockEmployeeGenerator(Locale.US, 1).generate(100, 42L);
+        List<EmployeeChange> changes = List.of(
+                new EmployeeChange(1, EmployeeChange.Type.CREATED, new MockEmployee(
+                        UUID.randomUUID(), "Employee X", 75000, 30, "Developer", "x@company.com")),
+                new EmployeeChange(2, EmployeeChange.Type.DELETED, roster.get(3)),
+                new EmployeeChange(3, EmployeeChange.Type.CREATED, new MockEmployee(
+                        UUID.randomUUID(), "Employee Y", 75000, 30, "Developer", "x@company.com")));
+        try (EmployeeJournal journal = EmployeeJournal.open(directory, 8, 1_000, true)) {
+            journal.writeSnapshot(0, roster);
+            appendAll(journal, changes);
+        }
+
+        // When
+        EmployeeJournal.Recovery recovery;
+        try (EmployeeJournal journal = EmployeeJournal.open(directory, 8, 1_000, true)) {
+            recovery = journal.getRecovery();
+            journal.append(new EmployeeChange(4, EmployeeChange.Type.CREATED, new MockEmployee(
+                    UUID.randomUUID(), "Employee Z", 75000, 30, "Developer", "x@company.com")))
+                    .join();
+        }
+
+        // Then
+        assertEquals(0, recovery.snapshot().version());
+        assertEquals(roster, recovery.snapshot().roster());
+        assertEquals(changes, recovery.tail());
+        assertEquals(3, recovery.lastVersion());
+        try (EmployeeJournal journal = EmployeeJournal.open(directory, 8, 1_000, true)) {
+            assertEquals(4, journal.getRecovery().lastVersion());
+            assertEquals("Employee Z", journal.getRecovery().tail().get(3).employee().getName());
+        }
+    }
+
+    @Test
+    void close_CompletesEveryAppendThatRacesIt() throws Exception {
+        // Given
+        EmployeeJournal journal = EmployeeJournal.open(directory, 8, 1_000, false);
+        journal.writeSnapshot(0, List.of());
+        List<CompletableFuture<Void>> appended = new ArrayList<>();
+        Thread appender = new Thread(() -> {
+            for (long version = 1; version <= 10_000; version++) {
+                appended.add(journal.append(
+                        new EmployeeChange(version, EmployeeChange.Type.CREATED, new MockEmployee(
+                                UUID.randomUUID(), "Employee X", 75000, 30, "Developer", "x@company.com"))));
+            }
+        });
+
+        // When
+        appender.start();
+        Thread.sleep(1);
+        journal.close();
+        appender.join();
+
+        // Then
+        assertEquals(10_000, appended.size());
+        assertTrue(appended.stream().allMatch(CompletableFuture::isDone));
+        assertTrue(appended.get(appended.size() - 1).isCompletedExceptionally());
+    }
+
+    @Test
+    void open_StopsAtTornRecordAndContinuesAfterIt() throws Exception {
+        // Given
+        List<EmployeeChange> changes = List.of(
+                new EmployeeChange(1, EmployeeChange.Type.CREATED, new MockEmployee(
+                        UUID.randomUUID(), "Employee X", 75000, 30, "Developer", "x@company.com")),
+                new EmployeeChange(2, EmployeeChange.Type.CREATED, new MockEmployee(
+                        UUID.randomUUID(), "Employee Y", 75000, 30, "Developer", "x@company.com")));
+        try (EmployeeJournal journal = EmployeeJournal.open(directory, 8, 1_000, true)) {
+            journal.writeSnapshot(0, List.of());
+            appendAll(journal, changes);
+        }
+        Path segment = directory.resolve("journal-1.log");
+        long intactSize = Files.size(segment);
+        Files.write(segment, new byte[] {0, 0, 0, 60, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        // When
+        EmployeeJournal.Recovery recovery;
+        try (EmployeeJournal journal = EmployeeJournal.open(directory, 8, 1_000, true)) {
+            recovery = journal.getRecovery();
+            journal.append(new EmployeeChange(3, EmployeeChange.Type.DELETED, changes.get(0).employee()))
+                    .join();
+        }
+
+        // Then
+        assertEquals(changes, recovery.tail());
+        assertEquals(intactSize, Files.size(segment));
+        try (EmployeeJournal journal = EmployeeJournal.open(directory, 8, 1_000, true)) {
+            assertEquals(3, journal.getRecovery().lastVersion());
+        }
+    }
+
+    @Test
+    void append_RollsSegmentsAndCompactsThemIntoSnapshots() throws Exception {
+        // Given
+        List<MockEmployee> roster = new ArrayList<>();
+        long[] version = {0};
+        List<EmployeeChange> changes = new ArrayList<>();
+
+        // When
+        try (EmployeeJournal journal = EmployeeJournal.open(directory, 4, 10, true)) {
+            journal.writeSnapshot(0, List.of());
+            journal.setSnapshotSource(() -> {
+                synchronized (roster) {
+                    return new EmployeeJournal.Snapshot(version[0], List.copyOf(roster));
+                }
+            });
+            List<CompletableFuture<Void>> durable = new ArrayList<>();
+            for (int i = 0; i < 35; i++) {
+                synchronized (roster) {
+                    MockEmployee employee = new MockEmployee(
+                            UUID.randomUUID(), "Employee " + i, 75000, 30, "Developer", "x@company.com");
+                    roster.add(employee);
+                    EmployeeChange change = new EmployeeChange(++version[0], EmployeeChange.Type.CREATED, employee);
+                    changes.add(change);
+                    durable.add(journal.append(change));
+                }
+            }
+            durable.forEach(CompletableFuture::join);
+        }
+
+        // Then
+        List<String> snapshots = files("snapshot-");
+        assertEquals(1, snapshots.size());
+        long snapshotVersion = Long.parseLong(snapshots.get(0).replaceAll("\\D", ""));
+        assertTrue(snapshotVersion >= 10);
+        assertTrue(files("journal-").size() < 4);
+        try (EmployeeJournal journal = EmployeeJournal.open(directory, 4, 10, true)) {
+            EmployeeJournal.Recovery recovery = journal.getRecovery();
+            assertEquals(snapshotVersion, recovery.snapshot().version());
+            assertEquals(roster.subList(0, (int) snapshotVersion), recovery.snapshot().roster());
+            assertEquals(changes.subList((int) snapshotVersion, changes.size()), recovery.tail());
+            assertEquals(35, recovery.lastVersion());
+        }
+    }
+
+    @Test
+    void open_WithoutSnapshotRefusesJournaledChanges() throws Exception {
+        // Given
+        try (EmployeeJournal journal = EmployeeJournal.open(directory, 8, 1_000, true)) {
+            assertNull(journal.getRecovery().snapshot());
+        }
+        try (EmployeeJournal journal = EmployeeJournal.open(directory, 8, 1_000, true)) {
+            assertEquals(0, journal.getRecovery().lastVersion());
+            journal.append(new EmployeeChange(1, EmployeeChange.Type.CREATED, new MockEmployee(
+                    UUID.randomUUID(), "Employee X", 75000, 30, "Developer", "x@company.com")))
+                    .join();
+        }
+
+        // When & Then
+        assertThrows(IOException.class, () -> EmployeeJournal.open(directory, 8, 1_000, true));
+        assertEquals(List.of("journal-1.log"), files("journal-"));
+    }
+
+    @Test
+    void open_RefusesUnreadableSnapshotAndMissingVersions() throws Exception {
+        // Given
+        try (EmployeeJournal journal = EmployeeJournal.open(directory, 1, 2, true)) {
+            journal.writeSnapshot(0, List.of(new MockEmployee(
+                    UUID.randomUUID(), "Employee W", 75000, 30, "Developer", "x@company.com")));
+            appendAll(journal, List.of(
+                    new EmployeeChange(1, EmployeeChange.Type.CREATED, new MockEmployee(
+                            UUID.randomUUID(), "Employee X", 75000, 30, "Developer", "x@company.com")),
+                    new EmployeeChange(2, EmployeeChange.Type.CREATED, new MockEmployee(
+                            UUID.randomUUID(), "Employee Y", 75000, 30, "Developer", "x@company.com")),
+                    new EmployeeChange(3, EmployeeChange.Type.CREATED, new MockEmployee(
+                            UUID.randomUUID(), "Employee Z", 75000, 30, "Developer", "x@company.com"))));
+        }
+        Files.delete(directory.resolve("journal-1.log"));
+
+        // When & Then
+        assertThrows(IOException.class, () -> EmployeeJournal.open(directory, 1, 2, true));
+        assertTrue(files("journal-").contains("journal-3.log"));
+        Path snapshot = directory.resolve("snapshot-0.bin");
+        Files.write(snapshot, Arrays.copyOf(Files.readAllBytes(snapshot), 12));
+        assertThrows(IOException.class, () -> EmployeeJournal.open(directory, 1, 2, true));
+        assertTrue(files("journal-").contains("journal-3.log"));
+    }
+
+    @Test
+    void open_KeepsEpochWhileVersionsContinue() throws Exception {
+        // Given
+        String epoch;
+        try (EmployeeJournal journal = EmployeeJournal.open(directory, 8, 1_000, true)) {
+            epoch = journal.getEpoch();
+            journal.writeSnapshot(0, List.of());
+            appendAll(journal, List.of(new EmployeeChange(1, EmployeeChange.Type.CREATED, new MockEmployee(
+                    UUID.randomUUID(), "Employee X", 75000, 30, "Developer", "x@company.com"))));
+        }
+
+        // When
+        String reopened;
+        try (EmployeeJournal journal = EmployeeJournal.open(directory, 8, 1_000, true)) {
+            reopened = journal.getEpoch();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(file -> !file.endsWith("epoch")).toList()) {
+                Files.delete(file);
+            }
+        }
+        String restarted;
+        try (EmployeeJournal journal = EmployeeJournal.open(directory, 8, 1_000, true)) {
+            restarted = journal.getEpoch();
+        }
+
+        // Then
+        assertEquals(epoch, reopened);
+        assertNotEquals(epoch, restarted);
+    }
+
+    private static void appendAll(EmployeeJournal journal, List<EmployeeChange> changes) {
+        changes.stream().map(journal::append).toList().forEach(CompletableFuture::join);
+    }
+
+    private List<String> files(String prefix) throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(prefix))
+                    .toList();
+        }
+    }
+}
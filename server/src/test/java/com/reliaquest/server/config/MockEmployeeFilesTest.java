@@ -0,0 +1,112 @@
+package com.reliaquest.server.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.MockEmployee;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MockEmployeeFilesTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void read_ParsesServerJsonLines() throws Exception {
+        // Given
+        List<MockEmployee> employees = new MockEmployeeGenerator(Locale.US, 2).generate(1_000, 42L);
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<String> lines = new ArrayList<>();
+        for (MockEmployee employee : employees) {
+            lines.add(objectMapper.writeValueAsString(employee));
+        }
+        Path file = directory.resolve("employees.jsonl");
+        Files.write(file, lines);
+
+        // When
+        List<MockEmployee> read = MockEmployeeFiles.read(file);
+
+        // Then
+        assertEquals(employees, read);
+    }
+
+    @Test
+    void read_HandlesEscapesNullsUnprefixedAndUnknownFields() throws Exception {
+        // Given
+        UUID id = UUID.randomUUID();
+        Path file = directory.resolve("employees.jsonl");
+        Files.writeString(
+                file,
+                """
+                {"id":"%s","name":"Zo\\u00eb \\"Z\\" O'Neil","salary":-5,"age":null,"extra":{"a":[1,"}"]},\
+                "title":"Caf\u00e9 \u2615 \\ud83d\\ude00","email":null}
+
+                  { "id" : "%s" , "employee_name" : "Y Two" , "flag" : true , "employee_salary" : 2147483647 }
+                """
+                        .formatted(id, id),
+                StandardCharsets.UTF_8);
+
+        // When
+        List<MockEmployee> read = MockEmployeeFiles.read(file);
+
+        // Then
+        assertEquals(2, read.size());
+        assertEquals(
+                new MockEmployee(id, "Zo\u00eb \"Z\" O'Neil", -5, null, "Caf\u00e9 \u2615 \ud83d\ude00", null),
+                read.get(0));
+        assertEquals(new MockEmployee(id, "Y Two", Integer.MAX_VALUE, null, null, null), read.get(1));
+    }
+
+    @Test
+    void read_RejectsMalformedJson() throws Exception {
+        // Given
+        Path file = directory.resolve("employees.jsonl");
+        Files.writeString(file, "{\"employee_name\":\"X\" \"employee_age\":1}");
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> MockEmployeeFiles.read(file));
+    }
+
+    @Test
+    void read_RejectsEmployeesWithoutId() throws Exception {
+        // Given
+        Path empty = directory.resolve("empty.jsonl");
+        Files.writeString(empty, "{}");
+        Path nullId = directory.resolve("null-id.jsonl");
+        Files.writeString(
+                nullId, "{\"id\":\"%s\"}\n{\"id\":null,\"employee_name\":\"X\"}".formatted(UUID.randomUUID()));
+        Path noId = directory.resolve("no-id.jsonl");
+        Files.writeString(noId, "{\"employee_name\":\"X\",\"employee_age\":1}");
+
+        // When & Then
+        for (Path file : List.of(empty, nullId, noId)) {
+            IllegalArgumentException thrown =
+                    assertThrows(IllegalArgumentException.class, () -> MockEmployeeFiles.read(file));
+            assertTrue(thrown.getMessage().endsWith("missing id"), thrown.getMessage());
+        }
+    }
+
+    @Test
+    void writeBinary_RoundTrips() throws Exception {
+        // Given
+        List<MockEmployee> employees = new ArrayList<>(new MockEmployeeGenerator(Locale.US, 2).generate(1_000, 7L));
+        employees.add(
+                new MockEmployee(UUID.randomUUID(), null, null, null, "", "\u00fcn\u00efc\u00f6d\u00e9@company.com"));
+        Path file = directory.resolve("employees.bin");
+
+        // When
+        MockEmployeeFiles.writeBinary(employees, file);
+        List<MockEmployee> read = MockEmployeeFiles.read(file);
+
+        // Then
+        assertEquals(employees, read);
+    }
+}
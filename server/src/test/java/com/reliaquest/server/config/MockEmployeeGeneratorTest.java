@@ -0,0 +1,56 @@
+package com.reliaquest.server.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeGeneratorTest {
+
+    private static final int COUNT = MockEmployeeGenerator.CHUNK_SIZE * 3 + 17;
+
+    @Test
+    void generate_IsReproducibleForSeedRegardlessOfThreads() {
+        // When
+        List<MockEmployee> single = new MockEmployeeGenerator(Locale.US, 1).generate(COUNT, 42L);
+        List<MockEmployee> parallel = new MockEmployeeGenerator(Locale.US, 4).generate(COUNT, 42L);
+        List<MockEmployee> otherSeed = new MockEmployeeGenerator(Locale.US, 4).generate(COUNT, 43L);
+
+        // Then
+        assertEquals(COUNT, single.size());
+        assertEquals(single, parallel);
+        assertNotEquals(single.get(0), otherSeed.get(0));
+    }
+
+    @Test
+    void generate_FillsEveryFieldWithinRanges() {
+        // When
+        List<MockEmployee> employees = new MockEmployeeGenerator(Locale.US, 0).generate(COUNT, 7L);
+
+        // Then
+        assertEquals(COUNT, new HashSet<>(employees.stream().map(MockEmployee::getId).toList()).size());
+        employees.forEach(employee -> {
+            assertFalse(employee.getName().isBlank());
+            assertFalse(employee.getTitle().isBlank());
+            assertTrue(employee.getEmail().endsWith("@company.com"));
+            assertTrue(employee.getSalary() >= 30000 && employee.getSalary() < 500000);
+            assertTrue(employee.getAge() >= 16 && employee.getAge() < 70);
+        });
+    }
+
+    @Test
+    void randomUuid_IsVersionFour() {
+        // When
+        UUID uuid = MockEmployeeGenerator.randomUuid(new SplittableRandom(1L));
+
+        // Then
+        assertEquals(4, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertEquals(uuid, UUID.fromString(uuid.toString()));
+    }
+}
@@ -0,0 +1,112 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.EmployeeChanges;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.RosterVersion;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class EmployeeChangeLogTest {
+
+    @Test
+    void since_ReturnsChangesAfterVersionInOrder() {
+        // Given
+        EmployeeChangeLog changeLog = new EmployeeChangeLog(10);
+        MockEmployee alice =
+                new MockEmployee(UUID.randomUUID(), "Alice X", 50_000, 30, "Engineer", "employee@company.com");
+        MockEmployee bob = new MockEmployee(UUID.randomUUID(), "Bob Y", 50_000, 30, "Engineer", "employee@company.com");
+
+        // When
+        EmployeeChange created = changeLog.append(EmployeeChange.Type.CREATED, alice);
+        changeLog.append(EmployeeChange.Type.CREATED, bob);
+        EmployeeChange deleted = changeLog.append(EmployeeChange.Type.DELETED, alice);
+
+        // Then
+        assertEquals(1, created.version());
+        assertEquals(3, changeLog.version());
+        EmployeeChanges changes = changeLog.since(1);
+        assertFalse(changes.resyncRequired());
+        assertEquals(3, changes.version());
+        assertEquals(List.of(2L, 3L), changes.changes().stream().map(EmployeeChange::version).toList());
+        assertEquals(deleted, changes.changes().get(1));
+        assertEquals(3, changeLog.since(0).changes().size());
+        assertEquals(List.of(), changeLog.since(3).changes());
+    }
+
+    @Test
+    void since_RequiresResyncOnceTrimmedOrAhead() {
+        // Given
+        EmployeeChangeLog changeLog = new EmployeeChangeLog(4);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            changeLog.append(
+                    EmployeeChange.Type.CREATED,
+                    new MockEmployee(
+                            UUID.randomUUID(), "Employee " + i, 50_000, 30, "Engineer", "employee@company.com"));
+        }
+
+        // Then
+        assertTrue(changeLog.since(5).resyncRequired());
+        assertEquals(10, changeLog.since(5).version());
+        assertTrue(changeLog.since(5).changes().isEmpty());
+        assertEquals(
+                List.of(7L, 8L, 9L, 10L),
+                changeLog.since(6).changes().stream().map(EmployeeChange::version).toList());
+        assertEquals("Employee 6", changeLog.since(6).changes().get(0).employee().getName());
+        assertTrue(changeLog.since(11).resyncRequired());
+        assertThrows(IllegalArgumentException.class, () -> changeLog.since(-1));
+    }
+
+    @Test
+    void since_VersionOfAnotherEpochRequiresResync() {
+        // Given
+        EmployeeChangeLog changeLog = new EmployeeChangeLog(10, "e1", 5);
+        changeLog.append(
+                EmployeeChange.Type.CREATED,
+                new MockEmployee(UUID.randomUUID(), "Alice X", 50_000, 30, "Engineer", "employee@company.com"));
+
+        // When
+        EmployeeChanges sameEpoch = changeLog.since(new RosterVersion("e1", 5));
+        EmployeeChanges otherEpoch = changeLog.since(new RosterVersion("e0", 5));
+        EmployeeChanges noEpoch = changeLog.since(RosterVersion.parse("5"));
+
+        // Then
+        assertEquals(List.of(6L), sameEpoch.changes().stream().map(EmployeeChange::version).toList());
+        assertTrue(otherEpoch.resyncRequired());
+        assertEquals("e1", otherEpoch.epoch());
+        assertEquals(6, otherEpoch.version());
+        assertTrue(noEpoch.resyncRequired());
+        assertEquals(new RosterVersion("e1", 6), changeLog.rosterVersion());
+        assertEquals("e1:6", changeLog.rosterVersion().toString());
+        assertNotEquals(new EmployeeChangeLog(10).epoch(), new EmployeeChangeLog(10).epoch());
+        assertThrows(IllegalArgumentException.class, () -> RosterVersion.parse("e1:x"));
+    }
+
+    @Test
+    void addListener_SeesLaterChangesInOrder() {
+        // Given
+        EmployeeChangeLog changeLog = new EmployeeChangeLog(10);
+        changeLog.append(
+                EmployeeChange.Type.CREATED,
+                new MockEmployee(UUID.randomUUID(), "Alice X", 50_000, 30, "Engineer", "employee@company.com"));
+        List<Long> seen = new ArrayList<>();
+
+        // When
+        changeLog.addListener(change -> seen.add(change.version()));
+        changeLog.append(
+                EmployeeChange.Type.CREATED,
+                new MockEmployee(UUID.randomUUID(), "Bob Y", 50_000, 30, "Engineer", "employee@company.com"));
+        changeLog.append(
+                EmployeeChange.Type.DELETED,
+                new MockEmployee(UUID.randomUUID(), "Bob Y", 50_000, 30, "Engineer", "employee@company.com"));
+
+        // Then
+        assertEquals(List.of(2L, 3L), seen);
+    }
+}
@@ -0,0 +1,110 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class IdempotencyCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger writes = new AtomicInteger();
+
+    @Test
+    void execute_AnswersRepeatedKeyWithFirstResult() {
+        // Given
+        IdempotencyCache<Integer> cache = new IdempotencyCache<>(10, Duration.ofMinutes(1), now::get);
+
+        // When
+        int first = cache.execute("key-1", "create X", writes::incrementAndGet);
+        int retried = cache.execute("key-1", "create X", writes::incrementAndGet);
+        int other = cache.execute("key-2", "create X", writes::incrementAndGet);
+
+        // Then
+        assertEquals(1, first);
+        assertEquals(1, retried);
+        assertEquals(2, other);
+        assertEquals(2, writes.get());
+    }
+
+    @Test
+    void execute_RejectsKeyReusedForDifferentRequest() {
+        // Given
+        IdempotencyCache<Integer> cache = new IdempotencyCache<>(10, Duration.ofMinutes(1), now::get);
+        cache.execute("key-1", "create X", writes::incrementAndGet);
+
+        // When & Then
+        assertThrows(
+                IdempotencyCache.IdempotencyKeyReusedException.class,
+                () -> cache.execute("key-1", "create Y", writes::incrementAndGet));
+        assertThrows(IllegalArgumentException.class, () -> cache.execute(" ", "create X", writes::incrementAndGet));
+        assertEquals(1, writes.get());
+    }
+
+    @Test
+    void execute_ForgetsFailuresExpiredAndOldestKeys() {
+        // Given
+        IdempotencyCache<Integer> cache = new IdempotencyCache<>(2, Duration.ofMinutes(1), now::get);
+
+        // When
+        assertThrows(IllegalStateException.class, () -> cache.execute("failed", "create X", () -> {
+            throw new IllegalStateException("server down");
+        }));
+        int afterFailure = cache.execute("failed", "create X", writes::incrementAndGet);
+        cache.execute("key-2", "create X", writes::incrementAndGet);
+        cache.execute("key-3", "create X", writes::incrementAndGet);
+        int afterEviction = cache.execute("failed", "create X", writes::incrementAndGet);
+        now.addAndGet(Duration.ofMinutes(1).toNanos());
+        int afterExpiry = cache.execute("key-3", "create X", writes::incrementAndGet);
+
+        // Then
+        assertEquals(1, afterFailure);
+        assertEquals(4, afterEviction);
+        assertEquals(5, afterExpiry);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void execute_ConcurrentRetryWaitsForFirstWrite() throws Exception {
+        // Given
+        IdempotencyCache<Integer> cache = new IdempotencyCache<>(10, Duration.ofMinutes(1), now::get);
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // When
+            Future<Integer> first = executor.submit(() -> cache.execute("key-1", "create X", () -> {
+                writing.countDown();
+                await(release);
+                return writes.incrementAndGet();
+            }));
+            assertTrue(writing.await(5, TimeUnit.SECONDS));
+            Future<Integer> retried =
+                    executor.submit(() -> cache.execute("key-1", "create X", writes::incrementAndGet));
+            release.countDown();
+
+            // Then
+            assertEquals(1, first.get(5, TimeUnit.SECONDS));
+            assertEquals(1, retried.get(5, TimeUnit.SECONDS));
+            assertEquals(1, writes.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
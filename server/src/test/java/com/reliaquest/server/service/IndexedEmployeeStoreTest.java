@@ -0,0 +1,340 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.EmployeePage;
+import com.reliaquest.server.model.EmployeeQuery;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class IndexedEmployeeStoreTest {
+
+    @Test
+    void findById_ReturnsAddedEmployee() {
+        // Given
+        MockEmployee employee =
+                new MockEmployee(UUID.randomUUID(), "Alice X", 50_000, 30, "Engineer", "employee@company.com");
+        IndexedEmployeeStore store = new IndexedEmployeeStore(List.of(employee));
+
+        // When & Then
+        assertSame(employee, store.findById(employee.getId()).orElseThrow());
+        assertTrue(store.findById(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    void removeByName_RemovesEarliestMatchIgnoringCase() {
+        // Given
+        MockEmployee first =
+                new MockEmployee(UUID.randomUUID(), "Alice X", 50_000, 30, "Engineer", "employee@company.com");
+        MockEmployee other =
+                new MockEmployee(UUID.randomUUID(), "Bob Y", 50_000, 30, "Engineer", "employee@company.com");
+        MockEmployee second =
+                new MockEmployee(UUID.randomUUID(), "alice x", 50_000, 30, "Engineer", "employee@company.com");
+        IndexedEmployeeStore store = new IndexedEmployeeStore(List.of(first, other, second));
+
+        // When & Then
+        assertSame(first, store.removeByName("ALICE X").orElseThrow());
+        assertEquals(List.of(other, second), store.snapshot());
+        assertTrue(store.findById(first.getId()).isEmpty());
+        assertSame(second, store.removeByName("Alice X").orElseThrow());
+        assertTrue(store.removeByName("Alice X").isEmpty());
+        assertEquals(List.of(other), store.snapshot());
+    }
+
+    @Test
+    void findByName_SkipsExcludedMatchesWithoutRemoving() {
+        // Given
+        MockEmployee first =
+                new MockEmployee(UUID.randomUUID(), "Alice X", 50_000, 30, "Engineer", "employee@company.com");
+        MockEmployee second =
+                new MockEmployee(UUID.randomUUID(), "alice x", 50_000, 30, "Engineer", "employee@company.com");
+        IndexedEmployeeStore store = new IndexedEmployeeStore(List.of(first, second));
+
+        // When & Then
+        assertSame(first, store.findByName("ALICE X", Set.of()).orElseThrow());
+        assertSame(second, store.findByName("Alice X", Set.of(first.getId())).orElseThrow());
+        assertTrue(store.findByName("Alice X", Set.of(first.getId(), second.getId())).isEmpty());
+        assertEquals(List.of(first, second), store.snapshot());
+    }
+
+    @Test
+    void removeById_RemovesOnlyThatEmployee() {
+        // Given
+        MockEmployee first =
+                new MockEmployee(UUID.randomUUID(), "Alice X", 50_000, 30, "Engineer", "employee@company.com");
+        MockEmployee second =
+                new MockEmployee(UUID.randomUUID(), "Alice X", 50_000, 30, "Engineer", "employee@company.com");
+        IndexedEmployeeStore store = new IndexedEmployeeStore(List.of(first, second));
+
+        // When & Then
+        assertSame(second, store.removeById(second.getId()).orElseThrow());
+        assertEquals(List.of(first), store.snapshot());
+        assertTrue(store.removeById(second.getId()).isEmpty());
+        assertSame(first, store.removeByName("Alice X").orElseThrow());
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void snapshot_IsUnaffectedByLaterWrites() {
+        // Given
+        MockEmployee first =
+                new MockEmployee(UUID.randomUUID(), "Alice X", 50_000, 30, "Engineer", "employee@company.com");
+        IndexedEmployeeStore store = new IndexedEmployeeStore(List.of(first));
+        List<MockEmployee> before = store.snapshot();
+        long version = store.version();
+
+        // When
+        store.add(new MockEmployee(UUID.randomUUID(), "Bob Y", 50_000, 30, "Engineer", "employee@company.com"));
+        store.removeByName("Alice X");
+
+        // Then
+        assertEquals(List.of(first), before);
+        assertEquals(version + 2, store.version());
+        assertEquals(1, store.snapshot().size());
+        assertSame(store.snapshot(), store.snapshot());
+        assertThrows(UnsupportedOperationException.class, () -> store.snapshot().clear());
+    }
+
+    @Test
+    void removeByName_KeepsOrderAcrossCompaction() {
+        // Given
+        IndexedEmployeeStore store = new IndexedEmployeeStore();
+        List<MockEmployee> kept = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            MockEmployee employee = new MockEmployee(
+                    UUID.randomUUID(), "Employee " + i, 50_000, 30, "Engineer", "employee@company.com");
+            store.add(employee);
+            if (i % 10 == 0) {
+                kept.add(employee);
+            }
+        }
+
+        // When
+        for (int i = 0; i < 1_000; i++) {
+            if (i % 10 != 0) {
+                assertTrue(store.removeByName("employee " + i).isPresent());
+            }
+        }
+
+        // Then
+        assertEquals(kept, store.snapshot());
+        assertEquals(kept.size(), store.size());
+        kept.forEach(employee -> assertSame(employee, store.findById(employee.getId()).orElseThrow()));
+    }
+
+    @Test
+    void concurrentWritesAndSnapshots_StayConsistent() throws Exception {
+        // Given
+        int writers = 16;
+        int employeesPerWriter = 2_000;
+        IndexedEmployeeStore store = new IndexedEmployeeStore();
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 4);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When
+        try {
+            for (int w = 0; w < writers; w++) {
+                int writer = w;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < employeesPerWriter; i++) {
+                        store.add(new MockEmployee(
+                                UUID.randomUUID(),
+                                "Writer " + writer + " Employee " + i,
+                                50_000,
+                                30,
+                                "Engineer",
+                                "employee@company.com"));
+                        if (i % 2 == 1) {
+                            assertTrue(store.removeByName("writer " + writer + " employee " + (i - 1))
+                                    .isPresent());
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (int r = 0; r < 4; r++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 2_000; i++) {
+                        List<MockEmployee> snapshot = store.snapshot();
+                        assertEquals(snapshot.size(), new HashSet<>(snapshot).size());
+                        snapshot.forEach(employee -> assertNotNull(employee));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertEquals(writers * employeesPerWriter / 2, store.size());
+        assertEquals(store.size(), store.snapshot().size());
+    }
+
+    @Test
+    void query_MatchesFullScanForEachIndex() {
+        // Given
+        List<MockEmployee> roster = roster(1_000);
+        IndexedEmployeeStore store = new IndexedEmployeeStore(roster);
+        List<EmployeeQuery> queries = List.of(
+                new EmployeeQuery(null, null, null, 30, 39, "MANAGER", null, null),
+                new EmployeeQuery("employee 1", 40_000, 60_000, null, null, null, null, null),
+                new EmployeeQuery(null, null, 35_000, null, null, null, null, null),
+                new EmployeeQuery("PLOYEE 99", null, null, null, null, null, null, null),
+                new EmployeeQuery(null, null, null, 25, 25, null, null, null));
+
+        for (EmployeeQuery query : queries) {
+            // When
+            EmployeePage page = store.query(query);
+
+            // Then
+            List<MockEmployee> expected = roster.stream().filter(query::matches).toList();
+            assertFalse(expected.isEmpty(), query.toString());
+            assertEquals(expected, page.employees(), query.toString());
+            assertNull(page.nextCursor());
+        }
+    }
+
+    @Test
+    void query_PagesWithKeysetCursorAcrossWrites() {
+        // Given
+        List<MockEmployee> roster = roster(1_000);
+        IndexedEmployeeStore store = new IndexedEmployeeStore(roster);
+        EmployeeQuery query = new EmployeeQuery(null, 30_000, 90_000, null, null, null, null, 7);
+        List<MockEmployee> expected = new ArrayList<>(roster.stream().filter(query::matches).toList());
+
+        // When
+        List<MockEmployee> seen = new ArrayList<>();
+        EmployeePage page = store.query(query);
+        seen.addAll(page.employees());
+        assertTrue(store.removeByName(page.employees().get(0).getName()).isPresent());
+        assertTrue(store.removeByName(expected.get(10).getName()).isPresent());
+        expected.remove(10);
+        while (page.nextCursor() != null) {
+            page = store.query(query.withPage(page.nextCursor(), query.limit()));
+            assertTrue(page.employees().size() <= 7);
+            seen.addAll(page.employees());
+        }
+
+        // Then
+        assertEquals(expected, seen);
+    }
+
+    @Test
+    void query_PagesNarrowAndWideSalaryRangesInInsertionOrder() {
+        // Given
+        List<MockEmployee> roster = roster(1_000);
+        for (int i = 0; i < roster.size(); i++) {
+            roster.get(i).setSalary(30_000 + (i * 37 % 1_000) * 100);
+        }
+        IndexedEmployeeStore store = new IndexedEmployeeStore(roster);
+        List<EmployeeQuery> queries = List.of(
+                new EmployeeQuery(null, 50_000, 51_900, null, null, null, null, 5),
+                new EmployeeQuery(null, 30_000, 120_000, null, null, null, null, 5),
+                new EmployeeQuery(null, 40_000, 90_000, 30, 39, null, null, 3));
+
+        for (EmployeeQuery query : queries) {
+            // When
+            List<MockEmployee> seen = new ArrayList<>();
+            EmployeePage page = store.query(query);
+            seen.addAll(page.employees());
+            while (page.nextCursor() != null) {
+                page = store.query(query.withPage(page.nextCursor(), query.limit()));
+                assertTrue(page.employees().size() <= query.limit());
+                seen.addAll(page.employees());
+            }
+
+            // Then
+            List<MockEmployee> expected = roster.stream().filter(query::matches).toList();
+            assertFalse(expected.isEmpty(), query.toString());
+            assertEquals(expected, seen, query.toString());
+        }
+    }
+
+    @Test
+    void query_WithoutFiltersOrPageReturnsSnapshot() {
+        // Given
+        IndexedEmployeeStore store = new IndexedEmployeeStore(roster(10));
+
+        // When & Then
+        assertSame(store.snapshot(), store.query(EmployeeQuery.ALL).employees());
+        assertEquals(
+                store.snapshot().subList(3, 6),
+                store.query(EmployeeQuery.ALL.withPage(2L, 3)).employees());
+    }
+
+    @Test
+    void query_TitleAndSalaryIndexesFollowDeletes() {
+        // Given
+        List<MockEmployee> roster = roster(30);
+        IndexedEmployeeStore store = new IndexedEmployeeStore(roster);
+        MockEmployee removed = roster.get(3);
+
+        // When
+        store.removeByName(removed.getName());
+
+        // Then
+        assertFalse(store.query(new EmployeeQuery(null, null, null, null, null, removed.getTitle(), null, null))
+                .employees()
+                .contains(removed));
+        assertTrue(store.query(new EmployeeQuery(
+                                null, removed.getSalary(), removed.getSalary(), null, null, null, null, null))
+                .employees()
+                .isEmpty());
+    }
+
+    @Test
+    void topEarners_FollowsWrites() {
+        // Given
+        List<MockEmployee> roster = roster(30);
+        IndexedEmployeeStore store = new IndexedEmployeeStore(roster);
+        MockEmployee highest =
+                new MockEmployee(UUID.randomUUID(), "Alice X", 50_000, 30, "Engineer", "employee@company.com");
+        highest.setSalary(100_000);
+
+        // When & Then
+        assertEquals(List.of(roster.get(29), roster.get(28), roster.get(27)), store.topEarners(3));
+        assertEquals(32_900, store.maxSalary().orElseThrow());
+        store.add(highest);
+        assertEquals(List.of(highest, roster.get(29)), store.topEarners(2));
+        assertEquals(100_000, store.maxSalary().orElseThrow());
+        store.removeByName(highest.getName());
+        store.removeByName(roster.get(29).getName());
+        assertEquals(List.of(roster.get(28)), store.topEarners(1));
+        assertEquals(29, store.topEarners(100).size());
+        assertTrue(new IndexedEmployeeStore().maxSalary().isEmpty());
+    }
+
+    private static List<MockEmployee> roster(int size) {
+        List<MockEmployee> roster = new ArrayList<>();
+        String[] titles = {"Engineer", "Manager", "Analyst"};
+        for (int i = 0; i < size; i++) {
+            roster.add(MockEmployee.builder()
+                    .id(new UUID(0, i))
+                    .name("Employee " + i)
+                    .salary(30_000 + i * 100)
+                    .age(20 + i % 40)
+                    .title(titles[i % titles.length])
+                    .email("employee" + i + "@company.com")
+                    .build());
+        }
+        return roster;
+    }
+}
@@ -0,0 +1,229 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.config.EmployeeJournal;
+import com.reliaquest.server.model.BulkResult;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.InvalidRequestException;
+import com.reliaquest.server.model.MockEmployee;
+import jakarta.validation.Validation;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+class MockEmployeeServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private final IndexedEmployeeStore employeeStore = new IndexedEmployeeStore();
+    private final EmployeeChangeLog employeeChangeLog = new EmployeeChangeLog(100);
+    private final List<EmployeeChange> published = new ArrayList<>();
+
+    @Test
+    void create_AppliesAndPublishesJournaledChanges() throws Exception {
+        // Given
+        employeeChangeLog.addListener(published::add);
+        MockEmployee created;
+        try (EmployeeJournal journal = open()) {
+            MockEmployeeService service = newService(journal);
+
+            // When
+            created = service.create(input("Alice X"));
+            assertEquals(created, service.findById(created.getId()).orElseThrow());
+            assertTrue(service.delete(deleteInput("ALICE X")));
+        }
+
+        // Then
+        assertEquals(0, employeeStore.size());
+        assertEquals(2, employeeChangeLog.version());
+        assertEquals(
+                List.of(EmployeeChange.Type.CREATED, EmployeeChange.Type.DELETED),
+                published.stream().map(EmployeeChange::type).toList());
+        try (EmployeeJournal journal = open()) {
+            assertEquals(published, journal.getRecovery().tail());
+        }
+    }
+
+    @Test
+    void create_FailedJournalWriteIsNeitherAppliedNorPublished() throws Exception {
+        // Given
+        employeeChangeLog.addListener(published::add);
+        EmployeeJournal journal = open();
+        MockEmployeeService service = newService(journal);
+        journal.close();
+
+        // When & Then
+        assertThrows(RuntimeException.class, () -> service.create(input("Alice X")));
+        assertEquals(0, employeeStore.size());
+        assertEquals(0, employeeChangeLog.version());
+        assertTrue(published.isEmpty());
+        assertFalse(service.delete(deleteInput("Alice X")));
+    }
+
+    @Test
+    void createAll_CreatesValidItemsAndReportsInvalidOnes() throws Exception {
+        // Given
+        employeeChangeLog.addListener(published::add);
+        CreateMockEmployeeInput noSalary = input("Bob Y");
+        noSalary.setSalary(null);
+        try (EmployeeJournal journal = open()) {
+            MockEmployeeService service = newService(journal);
+
+            // When
+            List<BulkResult<MockEmployee>> results =
+                    service.createAll(Arrays.asList(input("Alice X"), noSalary, null, input("Carol Z")));
+
+            // Then
+            assertEquals(4, results.size());
+            assertEquals("Alice X", results.get(0).data().getName());
+            assertEquals(BulkResult.error("salary: must not be null"), results.get(1));
+            assertEquals(BulkResult.error("item must not be null"), results.get(2));
+            assertEquals("Carol Z", results.get(3).data().getName());
+            assertEquals(2, employeeStore.size());
+            assertEquals(List.of(1L, 2L), published.stream().map(EmployeeChange::version).toList());
+        }
+    }
+
+    @Test
+    void createAll_InvalidOrUnjournaledBatchWritesNothing() throws Exception {
+        // Given
+        employeeChangeLog.addListener(published::add);
+        CreateMockEmployeeInput blankName = input(" ");
+        EmployeeJournal journal = open();
+        MockEmployeeService service = newService(journal);
+
+        // When
+        List<BulkResult<MockEmployee>> results = service.createAll(List.of(blankName, blankName));
+        journal.close();
+
+        // Then
+        assertEquals(
+                List.of(BulkResult.error("name: must not be blank"), BulkResult.error("name: must not be blank")),
+                results);
+        assertThrows(RuntimeException.class, () -> service.createAll(List.of(input("Alice X"), input("Bob Y"))));
+        assertThrows(InvalidRequestException.class, () -> service.createAll(List.of()));
+        assertEquals(0, employeeStore.size());
+        assertEquals(0, employeeChangeLog.version());
+        assertTrue(published.isEmpty());
+    }
+
+    @Test
+    void createAll_RetriedKeyGetsFirstBatch() throws Exception {
+        // Given
+        try (EmployeeJournal journal = open()) {
+            MockEmployeeService service = newService(journal);
+            List<CreateMockEmployeeInput> batch = List.of(input("Alice X"), input("Bob Y"));
+
+            // When
+            List<BulkResult<MockEmployee>> first = service.createAll(batch, "batch-1");
+            List<BulkResult<MockEmployee>> retried =
+                    service.createAll(List.of(input("Alice X"), input("Bob Y")), "batch-1");
+
+            // Then
+            assertEquals(first, retried);
+            assertEquals(2, employeeStore.size());
+            assertThrows(
+                    IdempotencyCache.IdempotencyKeyReusedException.class,
+                    () -> service.createAll(List.of(input("Carol Z")), "batch-1"));
+            service.createAll(batch, null);
+            assertEquals(4, employeeStore.size());
+        }
+    }
+
+    @Test
+    void deleteAll_DeletesValidItemsAndReportsInvalidOnes() throws Exception {
+        // Given
+        try (EmployeeJournal journal = open()) {
+            MockEmployeeService service = newService(journal);
+            service.createAll(List.of(input("Alice X"), input("Alice X")));
+
+            // When
+            List<BulkResult<Boolean>> results = service.deleteAll(
+                    List.of(deleteInput("alice x"), deleteInput(""), deleteInput("Bob Y"), deleteInput("ALICE X")));
+
+            // Then
+            assertEquals(
+                    List.of(
+                            BulkResult.of(true),
+                            BulkResult.error("name: must not be blank"),
+                            BulkResult.of(false),
+                            BulkResult.of(true)),
+                    results);
+            assertEquals(0, employeeStore.size());
+            assertEquals(4, employeeChangeLog.version());
+        }
+    }
+
+    @Test
+    void deleteAllById_DeletesEachIdOnce() throws Exception {
+        // Given
+        try (EmployeeJournal journal = open()) {
+            MockEmployeeService service = newService(journal);
+            MockEmployee alice = service.create(input("Alice X"));
+            MockEmployee bob = service.create(input("Bob Y"));
+            String id = alice.getId().toString();
+
+            // When
+            List<BulkResult<MockEmployee>> results = service.deleteAllById(
+                    Arrays.asList(id, "not-a-uuid", null, id, UUID.randomUUID().toString()));
+
+            // Then
+            assertEquals(
+                    List.of(
+                            BulkResult.of(alice),
+                            BulkResult.error("id: must be a UUID"),
+                            BulkResult.error("id: must be a UUID"),
+                            BulkResult.error("id: not found"),
+                            BulkResult.error("id: not found")),
+                    results);
+            assertEquals(List.of(bob), employeeStore.snapshot());
+            assertEquals(3, employeeChangeLog.version());
+        }
+    }
+
+    private EmployeeJournal open() throws IOException {
+        EmployeeJournal journal = EmployeeJournal.open(directory, 8, 1_000, true);
+        journal.writeSnapshot(0, List.of());
+        return journal;
+    }
+
+    private MockEmployeeService newService(EmployeeJournal journal) {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory(Map.of("employeeJournal", journal));
+        return new MockEmployeeService(
+                new Faker(),
+                employeeStore,
+                employeeChangeLog,
+                beans.getBeanProvider(EmployeeJournal.class),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new IdempotencyCache<>(10, Duration.ofMinutes(1)),
+                new IdempotencyCache<>(10, Duration.ofMinutes(1)));
+    }
+
+    private static CreateMockEmployeeInput input(String name) {
+        CreateMockEmployeeInput input = new CreateMockEmployeeInput();
+        input.setName(name);
+        input.setSalary(75000);
+        input.setAge(30);
+        input.setTitle("Developer");
+        return input;
+    }
+
+    private static DeleteMockEmployeeInput deleteInput(String name) {
+        DeleteMockEmployeeInput input = new DeleteMockEmployeeInput();
+        input.setName(name);
+        return input;
+    }
+}
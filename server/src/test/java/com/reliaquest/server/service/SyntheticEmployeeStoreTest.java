@@ -0,0 +1,173 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.EmployeePage;
+import com.reliaquest.server.model.EmployeeQuery;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class SyntheticEmployeeStoreTest {
+
+    private static final int SIZE = 100_000_000;
+
+    @Test
+    void employee_IsReproducibleForSeed() {
+        // Given
+        SyntheticEmployeeStore store = new SyntheticEmployeeStore(SIZE, 42L, Locale.US);
+        SyntheticEmployeeStore same = new SyntheticEmployeeStore(SIZE, 42L, Locale.US);
+
+        // When
+        MockEmployee employee = store.snapshot().get(12_345_678);
+
+        // Then
+        assertEquals(employee, same.snapshot().get(12_345_678));
+        assertEquals(4, employee.getId().version());
+        assertTrue(employee.getSalary() >= 30000 && employee.getSalary() < 500000);
+        assertTrue(employee.getAge() >= 16 && employee.getAge() < 70);
+        assertTrue(employee.getEmail().endsWith(".12345678@company.com"));
+        assertNotEquals(employee.getId(), store.snapshot().get(12_345_679).getId());
+    }
+
+    @Test
+    void findById_DecodesSyntheticAndCreatedIds() {
+        // Given
+        SyntheticEmployeeStore store = new SyntheticEmployeeStore(SIZE, 42L, Locale.US);
+        MockEmployee synthetic = store.snapshot().get(SIZE - 1);
+        MockEmployee created =
+                new MockEmployee(UUID.randomUUID(), "Created Employee", 50_000, 30, "Engineer", "employee@company.com");
+        store.add(created);
+
+        // When & Then
+        assertEquals(synthetic, store.findById(synthetic.getId()).orElseThrow());
+        assertSame(created, store.findById(created.getId()).orElseThrow());
+        assertTrue(store.findById(UUID.randomUUID()).isEmpty());
+        assertEquals(SIZE + 1, store.size());
+    }
+
+    @Test
+    void removeByName_RemovesEarliestSyntheticMatchIgnoringCase() {
+        // Given
+        SyntheticEmployeeStore store = new SyntheticEmployeeStore(SIZE, 42L, Locale.US);
+        MockEmployee target = store.snapshot().get(5_000_000);
+
+        // When
+        MockEmployee removed = store.removeByName(target.getName().toUpperCase(Locale.ROOT)).orElseThrow();
+
+        // Then
+        assertEquals(target.getName(), removed.getName());
+        assertTrue(store.findById(removed.getId()).isEmpty());
+        assertEquals(SIZE - 1, store.size());
+        assertTrue(store.removeByName("Nobody Here").isEmpty());
+    }
+
+    @Test
+    void removeById_DecodesSyntheticAndCreatedIds() {
+        // Given
+        SyntheticEmployeeStore store = new SyntheticEmployeeStore(SIZE, 42L, Locale.US);
+        MockEmployee synthetic = store.snapshot().get(5_000_000);
+        MockEmployee created = new MockEmployee(
+                UUID.randomUUID(), synthetic.getName(), 50_000, 30, "Engineer", "employee@company.com");
+        store.add(created);
+        long version = store.version();
+
+        // When & Then
+        assertSame(created, store.removeById(created.getId()).orElseThrow());
+        assertEquals(synthetic, store.removeById(synthetic.getId()).orElseThrow());
+        assertTrue(store.removeById(synthetic.getId()).isEmpty());
+        assertTrue(store.removeById(UUID.randomUUID()).isEmpty());
+        assertTrue(store.findById(synthetic.getId()).isEmpty());
+        assertEquals(SIZE - 1, store.size());
+        assertEquals(version + 2, store.version());
+    }
+
+    @Test
+    void snapshot_SkipsDeletedAndAppendsCreated() {
+        // Given
+        SyntheticEmployeeStore store = new SyntheticEmployeeStore(1_000, 7L, Locale.US);
+        List<MockEmployee> before = store.snapshot();
+        MockEmployee second = before.get(1);
+        MockEmployee third = before.get(2);
+        MockEmployee created =
+                new MockEmployee(UUID.randomUUID(), "Created Employee", 50_000, 30, "Engineer", "employee@company.com");
+
+        // When
+        store.removeByName(before.get(0).getName());
+        store.removeByName(second.getName());
+        store.add(created);
+        List<MockEmployee> after = store.snapshot();
+
+        // Then
+        assertEquals(1_000, before.size());
+        assertEquals(999, after.size());
+        assertEquals(third, after.get(0));
+        assertEquals(before.get(999), after.get(997));
+        assertSame(created, after.get(998));
+        assertSame(after, store.snapshot());
+    }
+
+    @Test
+    void query_PagesFromSyntheticIntoCreated() {
+        // Given
+        SyntheticEmployeeStore store = new SyntheticEmployeeStore(1_000, 7L, Locale.US);
+        MockEmployee created =
+                new MockEmployee(UUID.randomUUID(), "Created Employee", 50_000, 30, "Engineer", "employee@company.com");
+        store.add(created);
+        List<MockEmployee> expected = store.snapshot();
+
+        // When
+        List<MockEmployee> seen = new ArrayList<>();
+        EmployeePage page = store.query(EmployeeQuery.ALL.withPage(null, 300));
+        seen.addAll(page.employees());
+        while (page.nextCursor() != null) {
+            page = store.query(EmployeeQuery.ALL.withPage(page.nextCursor(), 300));
+            seen.addAll(page.employees());
+        }
+
+        // Then
+        assertEquals(expected, seen);
+        assertEquals(
+                List.of(created),
+                store.query(new EmployeeQuery("created", null, null, null, null, null, null, null))
+                        .employees());
+    }
+
+    @Test
+    void topEarners_MatchesFullSortAcrossWrites() {
+        // Given
+        SyntheticEmployeeStore store = new SyntheticEmployeeStore(3_000, 7L, Locale.US);
+        MockEmployee created =
+                new MockEmployee(UUID.randomUUID(), "Created Employee", 50_000, 30, "Engineer", "employee@company.com");
+        created.setSalary(store.topEarners(1).get(0).getSalary());
+
+        // When & Then
+        assertEquals(topEarners(store.snapshot(), 1_000), store.topEarners(1_000));
+        store.add(created);
+        assertEquals(created, store.topEarners(1).get(0));
+        assertEquals(created.getSalary(), store.maxSalary().orElseThrow());
+        for (MockEmployee employee : store.topEarners(50)) {
+            store.removeByName(employee.getName());
+        }
+        assertEquals(topEarners(store.snapshot(), 1_000), store.topEarners(1_000));
+    }
+
+    /**
+     * Highest salary first, ties to the later position.
+     */
+    private static List<MockEmployee> topEarners(List<MockEmployee> roster, int n) {
+        List<Integer> positions = new ArrayList<>();
+        for (int i = 0; i < roster.size(); i++) {
+            positions.add(i);
+        }
+        positions.sort((a, b) -> roster.get(a).getSalary().equals(roster.get(b).getSalary())
+                ? Integer.compare(b, a)
+                : Integer.compare(roster.get(b).getSalary(), roster.get(a).getSalary()));
+        return positions.subList(0, Math.min(n, positions.size())).stream()
+                .map(roster::get)
+                .toList();
+    }
+}
@@ -0,0 +1,132 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.EmployeeChangeLog;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class EmployeeEventBroadcasterTest {
+
+    private final EmployeeChangeLog changeLog = new EmployeeChangeLog(4, "e1", 0);
+    private final EmployeeEventBroadcaster broadcaster = new EmployeeEventBroadcaster(changeLog, Duration.ofHours(1));
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void subscribe_WithoutLastEventIdStartsWithResyncThenStreamsChanges() throws InterruptedException {
+        // Given
+        changeLog.append(
+                EmployeeChange.Type.CREATED,
+                new MockEmployee(UUID.randomUUID(), "Alice X", 50_000, 30, "Engineer", "employee@company.com"));
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // When
+        broadcaster.subscribe(emitter, null);
+        String resync = emitter.next();
+        changeLog.append(
+                EmployeeChange.Type.DELETED,
+                new MockEmployee(UUID.randomUUID(), "Alice X", 50_000, 30, "Engineer", "employee@company.com"));
+
+        // Then
+        assertEquals("id:e1:1\nevent:resync\ndata:e1:1\n\n", resync);
+        String deleted = emitter.next();
+        assertTrue(deleted.startsWith("id:e1:2\nevent:deleted\ndata:"), deleted);
+        assertTrue(deleted.contains("Alice X"), deleted);
+    }
+
+    @Test
+    void subscribe_WithLastEventIdReplaysMissedChangesOnce() throws InterruptedException {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            changeLog.append(
+                    EmployeeChange.Type.CREATED,
+                    new MockEmployee(
+                            UUID.randomUUID(), "Employee " + i, 50_000, 30, "Engineer", "employee@company.com"));
+        }
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // When
+        broadcaster.subscribe(emitter, "e1:1");
+        changeLog.append(
+                EmployeeChange.Type.CREATED,
+                new MockEmployee(UUID.randomUUID(), "Employee 3", 50_000, 30, "Engineer", "employee@company.com"));
+
+        // Then
+        assertTrue(emitter.next().startsWith("id:e1:2\nevent:created"));
+        assertTrue(emitter.next().startsWith("id:e1:3\nevent:created"));
+        assertTrue(emitter.next().startsWith("id:e1:4\nevent:created"));
+        assertNull(emitter.events.poll(100, TimeUnit.MILLISECONDS));
+        assertEquals(1, broadcaster.getSubscriberCount());
+    }
+
+    @Test
+    void subscribe_BehindTrimmedLogStartsWithResync() throws InterruptedException {
+        // Given
+        for (int i = 0; i < 10; i++) {
+            changeLog.append(
+                    EmployeeChange.Type.CREATED,
+                    new MockEmployee(
+                            UUID.randomUUID(), "Employee " + i, 50_000, 30, "Engineer", "employee@company.com"));
+        }
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // When
+        broadcaster.subscribe(emitter, "e1:2");
+
+        // Then
+        assertEquals("id:e1:10\nevent:resync\ndata:e1:10\n\n", emitter.next());
+    }
+
+    @Test
+    void subscribe_WithLastEventIdOfAnotherEpochStartsWithResync() throws InterruptedException {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            changeLog.append(
+                    EmployeeChange.Type.CREATED,
+                    new MockEmployee(
+                            UUID.randomUUID(), "Employee " + i, 50_000, 30, "Engineer", "employee@company.com"));
+        }
+        RecordingEmitter before = new RecordingEmitter();
+        RecordingEmitter bare = new RecordingEmitter();
+
+        // When
+        broadcaster.subscribe(before, "e0:1");
+        broadcaster.subscribe(bare, "1");
+
+        // Then
+        assertEquals("id:e1:3\nevent:resync\ndata:e1:3\n\n", before.next());
+        assertEquals("id:e1:3\nevent:resync\ndata:e1:3\n\n", bare.next());
+    }
+
+    /**
+     * Renders each event as the text it would put on the wire, with the data object's {@code toString}.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+        private final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            StringBuilder event = new StringBuilder();
+            builder.build().forEach(part -> event.append(part.getData()));
+            events.add(event.toString());
+        }
+
+        private String next() throws InterruptedException {
+            String event = events.poll(5, TimeUnit.SECONDS);
+            assertNotNull(event, "no event within 5s");
+            return event;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.EmployeeChangeLog;
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+class EmployeeListResponseCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<MockEmployee> roster = new ArrayList<>();
+    private final AtomicInteger serialized = new AtomicInteger();
+    private EmployeeChangeLog employeeChangeLog;
+    private EmployeeListResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        employeeChangeLog = new EmployeeChangeLog(100);
+        cache = new EmployeeListResponseCache(employeeChangeLog, objectMapper, true, DataSize.ofBytes(256));
+        for (int i = 0; i < 20; i++) {
+            roster.add(new MockEmployee(UUID.randomUUID(), "Employee " + i, 75000, 30, "Developer", "x@company.com"));
+        }
+    }
+
+    @Test
+    void write_SerializesOncePerRosterVersion() throws Exception {
+        // When
+        MockHttpServletResponse first = write(null);
+        MockHttpServletResponse second = write(null);
+        MockEmployee created =
+                new MockEmployee(UUID.randomUUID(), "Employee X", 75000, 30, "Developer", "x@company.com");
+        roster.add(created);
+        employeeChangeLog.append(EmployeeChange.Type.CREATED, created);
+        MockHttpServletResponse third = write(null);
+
+        // Then
+        assertEquals(2, serialized.get());
+        assertArrayEquals(first.getContentAsByteArray(), second.getContentAsByteArray());
+        assertEquals(objectMapper.writeValueAsString(Response.handledWith(roster)), third.getContentAsString());
+        assertEquals("application/json", third.getContentType());
+        assertNull(third.getHeader("Content-Encoding"));
+        assertEquals("Accept-Encoding", third.getHeader("Vary"));
+    }
+
+    @Test
+    void write_SendsGzipToClientsThatAcceptIt() throws Exception {
+        // When
+        MockHttpServletResponse gzipped = write("deflate, gzip;q=0.8");
+        MockHttpServletResponse refused = write("gzip;q=0, br");
+
+        // Then
+        assertEquals(1, serialized.get());
+        assertEquals("gzip", gzipped.getHeader("Content-Encoding"));
+        assertEquals(gzipped.getContentAsByteArray().length, gzipped.getContentLength());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getContentAsByteArray()))) {
+            assertArrayEquals(refused.getContentAsByteArray(), in.readAllBytes());
+        }
+        assertNull(refused.getHeader("Content-Encoding"));
+    }
+
+    @Test
+    void write_LeavesSmallBodiesUncompressed() throws Exception {
+        // Given
+        roster.subList(1, roster.size()).clear();
+
+        // When
+        MockHttpServletResponse response = write("gzip");
+
+        // Then
+        assertNull(response.getHeader("Content-Encoding"));
+        assertNull(response.getHeader("Vary"));
+        assertEquals(objectMapper.writeValueAsString(Response.handledWith(roster)), response.getContentAsString());
+    }
+
+    private MockHttpServletResponse write(String acceptEncoding) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employee");
+        if (acceptEncoding != null) {
+            request.addHeader("Accept-Encoding", acceptEncoding);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        cache.write(
+                employeeChangeLog.version(),
+                () -> {
+                    serialized.incrementAndGet();
+                    return List.copyOf(roster);
+                },
+                request,
+                response);
+        return response;
+    }
+}
@@ -0,0 +1,38 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class FixedWindowRateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void tryAcquire_StartsNewWindowAfterBackoff() {
+        // Given
+        FixedWindowRateLimiter limiter = new FixedWindowRateLimiter(2, Duration.ofSeconds(30));
+        long now = System.nanoTime();
+        assertTrue(limiter.tryAcquire(now));
+        assertTrue(limiter.tryAcquire(now + SECOND));
+
+        // When & Then
+        assertFalse(limiter.tryAcquire(now + 30 * SECOND));
+        assertFalse(limiter.isIdle(now + 30 * SECOND));
+        assertTrue(limiter.isIdle(now + 31 * SECOND));
+        assertTrue(limiter.tryAcquire(now + 31 * SECOND));
+        assertTrue(limiter.tryAcquire(now + 31 * SECOND));
+        assertFalse(limiter.tryAcquire(now + 31 * SECOND));
+    }
+
+    @Test
+    void random_KeepsOriginalRanges() {
+        // When
+        FixedWindowRateLimiter limiter = FixedWindowRateLimiter.random();
+
+        // Then
+        assertTrue(limiter.getRequestLimit() >= 5 && limiter.getRequestLimit() < 10);
+        assertTrue(limiter.getBackoff().toSeconds() >= 30 && limiter.getBackoff().toSeconds() < 90);
+    }
+}
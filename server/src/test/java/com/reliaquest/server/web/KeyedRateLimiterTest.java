@@ -0,0 +1,108 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class KeyedRateLimiterTest {
+
+    @Test
+    void tryAcquire_LimitsEachKeySeparately() {
+        // Given
+        KeyedRateLimiter limiter =
+                new KeyedRateLimiter(() -> new FixedWindowRateLimiter(1, Duration.ofHours(1)), 1_000);
+        long now = System.nanoTime();
+
+        // When & Then
+        assertTrue(limiter.tryAcquire("a", now));
+        assertFalse(limiter.tryAcquire("a", now));
+        assertTrue(limiter.tryAcquire("b", now));
+        assertFalse(limiter.tryAcquire("b", now));
+        assertEquals(2, limiter.getTrackedKeys());
+    }
+
+    @Test
+    void tryAcquire_BoundsTrackedKeys() {
+        // Given
+        KeyedRateLimiter limiter =
+                new KeyedRateLimiter(() -> new FixedWindowRateLimiter(1, Duration.ofHours(1)), 1_000);
+        long now = System.nanoTime();
+
+        // When
+        for (int i = 0; i < 100_000; i++) {
+            limiter.tryAcquire("client-" + i, now);
+        }
+
+        // Then
+        assertTrue(limiter.getTrackedKeys() <= 1_000, "tracked " + limiter.getTrackedKeys());
+    }
+
+    @Test
+    void tryAcquire_KeepsBusyLimitersWhenFull() {
+        // Given: one stripe with room for two clients, both of which have used up their limit
+        KeyedRateLimiter limiter =
+                new KeyedRateLimiter(() -> new FixedWindowRateLimiter(1, Duration.ofHours(1)), 2, 1);
+        long now = System.nanoTime();
+        assertTrue(limiter.tryAcquire("a", now));
+        assertTrue(limiter.tryAcquire("b", now));
+
+        // When
+        boolean firstUntracked = limiter.tryAcquire("c", now);
+        boolean secondUntracked = limiter.tryAcquire("d", now);
+        boolean tracked = limiter.tryAcquire("a", now);
+
+        // Then: new clients share the overflow limiter instead of evicting a client mid-window
+        assertTrue(firstUntracked);
+        assertFalse(secondUntracked);
+        assertFalse(tracked);
+        assertEquals(2, limiter.getTrackedKeys());
+    }
+
+    @Test
+    void tryAcquire_EvictsIdleLimitersWhenFull() {
+        // Given
+        KeyedRateLimiter limiter =
+                new KeyedRateLimiter(() -> new FixedWindowRateLimiter(1, Duration.ofSeconds(1)), 2, 1);
+        long now = System.nanoTime();
+        limiter.tryAcquire("a", now);
+        limiter.tryAcquire("b", now);
+
+        // When
+        long later = now + Duration.ofSeconds(2).toNanos();
+        boolean admitted = limiter.tryAcquire("c", later);
+
+        // Then
+        assertTrue(admitted);
+        assertFalse(limiter.tryAcquire("c", later));
+        assertEquals(1, limiter.getTrackedKeys());
+    }
+
+    @Test
+    void tryAcquire_EvictingIdleLimiterDoesNotChangeDecisions() {
+        // Given: one client that used part of its limit, tracked by a limiter with room and one that must evict it
+        KeyedRateLimiter roomy =
+                new KeyedRateLimiter(() -> new FixedWindowRateLimiter(2, Duration.ofSeconds(1)), 1_000);
+        KeyedRateLimiter full = new KeyedRateLimiter(() -> new FixedWindowRateLimiter(2, Duration.ofSeconds(1)), 1, 1);
+        long now = System.nanoTime();
+        long later = now + Duration.ofSeconds(2).toNanos();
+        long latest = later + Duration.ofSeconds(2).toNanos();
+        for (KeyedRateLimiter limiter : new KeyedRateLimiter[] {roomy, full}) {
+            limiter.tryAcquire("a", now);
+            limiter.tryAcquire("b", later);
+        }
+
+        // When
+        boolean[] roomyDecisions = {
+            roomy.tryAcquire("a", latest), roomy.tryAcquire("a", latest), roomy.tryAcquire("a", latest)
+        };
+        boolean[] fullDecisions = {
+            full.tryAcquire("a", latest), full.tryAcquire("a", latest), full.tryAcquire("a", latest)
+        };
+
+        // Then
+        assertArrayEquals(new boolean[] {true, true, false}, roomyDecisions);
+        assertArrayEquals(roomyDecisions, fullDecisions);
+        assertEquals(1, full.getTrackedKeys());
+    }
+}
@@ -0,0 +1,136 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RateLimitInterceptorTest {
+
+    private static final int THREADS = 64;
+    private static final int REQUESTS_PER_THREAD = 10_000;
+
+    @Test
+    void preHandle_RejectsOnceLimitReached() {
+        // Given
+        RateLimitInterceptor interceptor = RateLimitInterceptor.global(
+                RateLimitPolicy.FIXED_WINDOW, RateLimitPolicy.FIXED_WINDOW.newLimiter(2, Duration.ofHours(1)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When & Then
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), null));
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), null));
+        assertFalse(interceptor.preHandle(new MockHttpServletRequest(), response, null));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getStatus());
+        assertEquals(2, interceptor.getStats().admitted());
+        assertEquals(1, interceptor.getStats().rejected());
+    }
+
+    @Test
+    void preHandle_PerClientKeysByHeaderThenRemoteAddress() {
+        // Given
+        RateLimitInterceptor interceptor = RateLimitInterceptor.perClient(
+                RateLimitPolicy.TOKEN_BUCKET,
+                new KeyedRateLimiter(
+                        () -> RateLimitPolicy.TOKEN_BUCKET.newLimiter(1, Duration.ofHours(1)), 1_000),
+                "X-Client-Id");
+        MockHttpServletRequest first = new MockHttpServletRequest();
+        first.addHeader("X-Client-Id", "first");
+        MockHttpServletRequest second = new MockHttpServletRequest();
+        second.addHeader("X-Client-Id", "second");
+        MockHttpServletRequest anonymous = new MockHttpServletRequest();
+        anonymous.setRemoteAddr("10.0.0.1");
+
+        // When & Then
+        assertTrue(interceptor.preHandle(first, new MockHttpServletResponse(), null));
+        assertFalse(interceptor.preHandle(first, new MockHttpServletResponse(), null));
+        assertTrue(interceptor.preHandle(second, new MockHttpServletResponse(), null));
+        assertTrue(interceptor.preHandle(anonymous, new MockHttpServletResponse(), null));
+        assertFalse(interceptor.preHandle(anonymous, new MockHttpServletResponse(), null));
+        assertEquals(3, interceptor.getStats().trackedClients());
+    }
+
+    @Test
+    void preHandle_AdmitsExactlyLimitUnderContention() throws Exception {
+        for (RateLimitPolicy policy : EnumSet.range(RateLimitPolicy.FIXED_WINDOW, RateLimitPolicy.SLIDING_WINDOW)) {
+            for (int limit : new int[] {1, 7, 1_000, 50_000}) {
+                // Given
+                RateLimitInterceptor interceptor =
+                        RateLimitInterceptor.global(policy, policy.newLimiter(limit, Duration.ofDays(365)));
+
+                // When
+                int admitted = hammer(interceptor, thread -> new MockHttpServletRequest());
+
+                // Then
+                assertEquals(limit, admitted, policy + " admissions for limit " + limit);
+                assertEquals(limit, interceptor.getStats().admitted());
+                assertEquals((long) THREADS * REQUESTS_PER_THREAD - limit, interceptor.getStats().rejected());
+            }
+        }
+    }
+
+    @Test
+    void preHandle_AdmitsExactlyLimitPerClientUnderContention() throws Exception {
+        // Given
+        int clients = 8;
+        int limit = 100;
+        RateLimitInterceptor interceptor = RateLimitInterceptor.perClient(
+                RateLimitPolicy.FIXED_WINDOW,
+                new KeyedRateLimiter(
+                        () -> RateLimitPolicy.FIXED_WINDOW.newLimiter(limit, Duration.ofDays(1)), 1_000),
+                "X-Client-Id");
+
+        // When
+        int admitted = hammer(interceptor, thread -> {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader("X-Client-Id", "client-" + thread % clients);
+            return request;
+        });
+
+        // Then
+        assertEquals(clients * limit, admitted);
+    }
+
+    private static int hammer(RateLimitInterceptor interceptor, IntFunction<MockHttpServletRequest> requestFor)
+            throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger admitted = new AtomicInteger();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                MockHttpServletRequest request = requestFor.apply(t);
+                futures.add(executor.submit(() -> {
+                    MockHttpServletResponse response = new MockHttpServletResponse();
+                    start.await();
+                    for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                        if (interceptor.preHandle(request, response, null)) {
+                            admitted.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return admitted.get();
+    }
+}
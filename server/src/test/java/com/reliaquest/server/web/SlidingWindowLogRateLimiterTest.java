@@ -0,0 +1,40 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class SlidingWindowLogRateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void tryAcquire_LimitsEveryWindow() {
+        // Given
+        SlidingWindowLogRateLimiter limiter = new SlidingWindowLogRateLimiter(2, Duration.ofSeconds(10));
+        long now = System.nanoTime();
+        assertTrue(limiter.tryAcquire(now));
+        assertTrue(limiter.tryAcquire(now + 5 * SECOND));
+
+        // When & Then
+        assertFalse(limiter.tryAcquire(now + 9 * SECOND));
+        assertTrue(limiter.tryAcquire(now + 10 * SECOND));
+        assertFalse(limiter.tryAcquire(now + 14 * SECOND));
+        assertTrue(limiter.tryAcquire(now + 15 * SECOND));
+    }
+
+    @Test
+    void isIdle_OnceNewestEntryLeftWindow() {
+        // Given
+        SlidingWindowLogRateLimiter limiter = new SlidingWindowLogRateLimiter(5, Duration.ofSeconds(10));
+        long now = System.nanoTime();
+        assertTrue(limiter.isIdle(now));
+        limiter.tryAcquire(now);
+        limiter.tryAcquire(now + 5 * SECOND);
+
+        // When & Then
+        assertFalse(limiter.isIdle(now + 14 * SECOND));
+        assertTrue(limiter.isIdle(now + 15 * SECOND));
+    }
+}
@@ -0,0 +1,39 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketRateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void tryAcquire_AdmitsBurstThenRefillRate() {
+        // Given
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(3, 1);
+        long now = System.nanoTime();
+
+        // When & Then
+        assertTrue(limiter.tryAcquire(now));
+        assertTrue(limiter.tryAcquire(now));
+        assertTrue(limiter.tryAcquire(now));
+        assertFalse(limiter.tryAcquire(now));
+        assertFalse(limiter.tryAcquire(now + SECOND / 2));
+        assertTrue(limiter.tryAcquire(now + SECOND));
+        assertFalse(limiter.tryAcquire(now + SECOND));
+    }
+
+    @Test
+    void isIdle_OnceBucketRefilled() {
+        // Given
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(2, 1);
+        long now = System.nanoTime();
+        limiter.tryAcquire(now);
+        limiter.tryAcquire(now);
+
+        // When & Then
+        assertFalse(limiter.isIdle(now + SECOND));
+        assertTrue(limiter.isIdle(now + 2 * SECOND));
+    }
+}